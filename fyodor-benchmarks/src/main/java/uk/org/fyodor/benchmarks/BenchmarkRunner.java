@@ -0,0 +1,152 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.ClassloaderProfiler;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.NoBenchmarksException;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/*
+runs every throughput benchmark single threaded and contended with the GC profiler attached, and the startup
+benchmark with the class loader profiler attached, then writes the results as tab separated lines and reports
+any benchmark that has got slower than the baseline
+usage: java -jar target/benchmarks.jar [include regex] [output file] [baseline file]
+ */
+public final class BenchmarkRunner {
+
+    private static final int[] THREAD_COUNTS = {1, 4};
+    private static final double REGRESSION_THRESHOLD = 0.9;
+    private static final String ALLOCATION_RATE = "gc.alloc.rate.norm";
+    private static final String CLASSES_LOADED = "class.load.norm";
+
+    public static void main(final String[] args) throws RunnerException, IOException {
+        final String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".";
+        final Path output = Paths.get(args.length > 1 ? args[1] : "target/benchmark-results.tsv");
+        final Path baseline = Paths.get(args.length > 2 ? args[2] : "results/baseline.tsv");
+
+        final List<String> lines = new ArrayList<>();
+        lines.add("benchmark\tthreads\tmode\tscore\terror\tunit\tB/op\tclasses");
+        for (final int threads : THREAD_COUNTS) {
+            lines.addAll(lines(run(new OptionsBuilder()
+                    .include(include)
+                    .exclude(StartupBenchmark.class.getName())
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build())));
+        }
+
+        final ChainedOptionsBuilder startup = new OptionsBuilder().addProfiler(ClassloaderProfiler.class);
+        boolean anyStartupBenchmarks = false;
+        for (final Method method : StartupBenchmark.class.getMethods()) {
+            final String benchmark = StartupBenchmark.class.getName() + "." + method.getName();
+            if (method.isAnnotationPresent(Benchmark.class) && Pattern.compile(include).matcher(benchmark).find()) {
+                startup.include(Pattern.quote(benchmark) + "$");
+                anyStartupBenchmarks = true;
+            }
+        }
+        if (anyStartupBenchmarks) {
+            lines.addAll(lines(run(startup.build())));
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.write(output, lines, UTF_8);
+
+        if (Files.exists(baseline)) {
+            compare(scores(Files.readAllLines(baseline, UTF_8)), scores(lines));
+        }
+    }
+
+    private static Collection<RunResult> run(final Options options) throws RunnerException {
+        try {
+            return new Runner(options).run();
+        } catch (final NoBenchmarksException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private static List<String> lines(final Collection<RunResult> runResults) {
+        final List<String> lines = new ArrayList<>();
+        for (final RunResult runResult : runResults) {
+            final Result primary = runResult.getPrimaryResult();
+            lines.add(format(Locale.ROOT, "%s\t%d\t%s\t%.3f\t%.3f\t%s\t%.1f\t%.1f",
+                    runResult.getParams().getBenchmark(),
+                    runResult.getParams().getThreads(),
+                    runResult.getParams().getMode().shortLabel(),
+                    primary.getScore(),
+                    primary.getScoreError(),
+                    primary.getScoreUnit(),
+                    secondary(runResult, ALLOCATION_RATE),
+                    secondary(runResult, CLASSES_LOADED)));
+        }
+        return lines;
+    }
+
+    private static double secondary(final RunResult runResult, final String label) {
+        final Result result = runResult.getSecondaryResults().get(label);
+        return result == null ? Double.NaN : result.getScore();
+    }
+
+    private static Map<String, Score> scores(final List<String> lines) {
+        final Map<String, Score> scores = new LinkedHashMap<>();
+        for (final String line : lines.subList(1, lines.size())) {
+            final String[] columns = line.split("\t");
+            scores.put(columns[0] + " (threads=" + columns[1] + ")",
+                    new Score(Mode.deepValueOf(columns[2]), Double.parseDouble(columns[3]), columns[5]));
+        }
+        return scores;
+    }
+
+    private static void compare(final Map<String, Score> baseline, final Map<String, Score> current) {
+        int regressions = 0;
+        for (final Map.Entry<String, Score> entry : current.entrySet()) {
+            final Score expected = baseline.get(entry.getKey());
+            if (expected != null && entry.getValue().isRegressionFrom(expected)) {
+                System.out.println(format(Locale.ROOT, "REGRESSION %s: %.3f %s against a baseline of %.3f %s",
+                        entry.getKey(), entry.getValue().score, entry.getValue().unit, expected.score, expected.unit));
+                regressions++;
+            }
+        }
+        System.out.println(format("%d of %d benchmarks regressed against the baseline", regressions, current.size()));
+    }
+
+    private static final class Score {
+
+        private final Mode mode;
+        private final double score;
+        private final String unit;
+
+        private Score(final Mode mode, final double score, final String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+        }
+
+        private boolean isRegressionFrom(final Score baseline) {
+            if (mode == Mode.Throughput) {
+                return score < baseline.score * REGRESSION_THRESHOLD;
+            }
+            return score * REGRESSION_THRESHOLD > baseline.score;
+        }
+    }
+
+    private BenchmarkRunner() {
+    }
+}
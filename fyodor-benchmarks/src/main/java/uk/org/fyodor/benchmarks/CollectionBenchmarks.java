@@ -0,0 +1,168 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.generators.RDG;
+import uk.org.fyodor.generators.collections.IntHashMap;
+import uk.org.fyodor.generators.collections.IntHashSet;
+import uk.org.fyodor.generators.collections.LongHashMap;
+import uk.org.fyodor.generators.collections.LongHashSet;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static uk.org.fyodor.range.Range.closed;
+import static uk.org.fyodor.range.Range.fixed;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionBenchmarks {
+
+    private Generator<List<Integer>> list;
+    private Generator<Set<Integer>> set;
+    private Generator<Map<Integer, String>> map;
+    private Generator<Integer[]> array;
+    private Generator<List<Integer>> largeList;
+    private Generator<Set<Integer>> largeSet;
+    private Generator<Integer[]> boxedThousand;
+    private Generator<int[]> intArray;
+    private Generator<long[]> longArray;
+    private Generator<double[]> doubleArray;
+    private Generator<char[]> charArray;
+    private Generator<Set<Integer>> boxedSet;
+    private Generator<IntHashSet> intSet;
+    private Generator<LongHashSet> longSet;
+    private Generator<IntHashMap<String>> intMap;
+    private Generator<LongHashMap<String>> longMap;
+    private Generator<DayOfWeek> valueOfEnum;
+    private Generator<String> valueOfArray;
+    private Generator<String> valueOfIterable;
+
+    @Setup
+    public void setUp() {
+        list = RDG.list(RDG.integer());
+        set = RDG.set(RDG.integer());
+        map = RDG.map(RDG.integer(), RDG.string(10));
+        array = RDG.array(Integer.class, RDG.integer());
+        largeList = RDG.list(RDG.integer(), 1_000_000).large();
+        largeSet = RDG.set(RDG.integer(), 1_000_000).large();
+        boxedThousand = RDG.array(Integer.class, RDG.integer(), 1000);
+        intArray = RDG.intArray(closed(Integer.MIN_VALUE, Integer.MAX_VALUE), fixed(1000));
+        longArray = RDG.longArray(closed(Long.MIN_VALUE, Long.MAX_VALUE), fixed(1000));
+        doubleArray = RDG.doubleArray(closed(-1000.0, 1000.0), fixed(1000));
+        charArray = RDG.charArray(fixed(1000));
+        boxedSet = RDG.set(RDG.integer(), 1000);
+        intSet = RDG.intSet(closed(Integer.MIN_VALUE, Integer.MAX_VALUE), fixed(1000));
+        longSet = RDG.longSet(closed(Long.MIN_VALUE, Long.MAX_VALUE), fixed(1000));
+        intMap = RDG.intMap(closed(Integer.MIN_VALUE, Integer.MAX_VALUE), RDG.string(10), fixed(1000));
+        longMap = RDG.longMap(closed(Long.MIN_VALUE, Long.MAX_VALUE), RDG.string(10), fixed(1000));
+        valueOfEnum = RDG.value(DayOfWeek.class);
+        valueOfArray = RDG.value(new String[]{"red", "orange", "yellow", "green", "blue", "indigo", "violet"});
+        valueOfIterable = RDG.value(asList("red", "orange", "yellow", "green", "blue", "indigo", "violet"));
+    }
+
+    @Benchmark
+    public List<Integer> list() {
+        return list.next();
+    }
+
+    @Benchmark
+    public Set<Integer> set() {
+        return set.next();
+    }
+
+    @Benchmark
+    public Map<Integer, String> map() {
+        return map.next();
+    }
+
+    @Benchmark
+    public Integer[] array() {
+        return array.next();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public List<Integer> largeList() {
+        return largeList.next();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Set<Integer> largeSet() {
+        return largeSet.next();
+    }
+
+    @Benchmark
+    public Integer[] boxedThousand() {
+        return boxedThousand.next();
+    }
+
+    @Benchmark
+    public int[] intArray() {
+        return intArray.next();
+    }
+
+    @Benchmark
+    public long[] longArray() {
+        return longArray.next();
+    }
+
+    @Benchmark
+    public double[] doubleArray() {
+        return doubleArray.next();
+    }
+
+    @Benchmark
+    public char[] charArray() {
+        return charArray.next();
+    }
+
+    @Benchmark
+    public Set<Integer> boxedSet() {
+        return boxedSet.next();
+    }
+
+    @Benchmark
+    public IntHashSet intSet() {
+        return intSet.next();
+    }
+
+    @Benchmark
+    public LongHashSet longSet() {
+        return longSet.next();
+    }
+
+    @Benchmark
+    public IntHashMap<String> intMap() {
+        return intMap.next();
+    }
+
+    @Benchmark
+    public LongHashMap<String> longMap() {
+        return longMap.next();
+    }
+
+    @Benchmark
+    public DayOfWeek valueOfEnum() {
+        return valueOfEnum.next();
+    }
+
+    @Benchmark
+    public String valueOfArray() {
+        return valueOfArray.next();
+    }
+
+    @Benchmark
+    public String valueOfIterable() {
+        return valueOfIterable.next();
+    }
+}
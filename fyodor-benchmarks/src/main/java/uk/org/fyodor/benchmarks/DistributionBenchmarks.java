@@ -0,0 +1,65 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.org.fyodor.generators.DoubleGenerator;
+import uk.org.fyodor.generators.IntGenerator;
+import uk.org.fyodor.generators.LongGenerator;
+import uk.org.fyodor.generators.RDG;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DistributionBenchmarks {
+
+    private DoubleGenerator gaussian;
+    private DoubleGenerator exponential;
+    private DoubleGenerator logNormal;
+    private LongGenerator smallPoisson;
+    private LongGenerator largePoisson;
+    private IntGenerator zipf;
+
+    @Setup
+    public void setUp() {
+        gaussian = RDG.gaussian(100, 15);
+        exponential = RDG.exponential(20);
+        logNormal = RDG.logNormal(3, 0.75);
+        smallPoisson = RDG.poisson(4);
+        largePoisson = RDG.poisson(250);
+        zipf = RDG.zipf(1_000_000, 1.1);
+    }
+
+    @Benchmark
+    public double gaussian() {
+        return gaussian.nextDouble();
+    }
+
+    @Benchmark
+    public double exponential() {
+        return exponential.nextDouble();
+    }
+
+    @Benchmark
+    public double logNormal() {
+        return logNormal.nextDouble();
+    }
+
+    @Benchmark
+    public long smallPoisson() {
+        return smallPoisson.nextLong();
+    }
+
+    @Benchmark
+    public long largePoisson() {
+        return largePoisson.nextLong();
+    }
+
+    @Benchmark
+    public int zipf() {
+        return zipf.nextInt();
+    }
+}
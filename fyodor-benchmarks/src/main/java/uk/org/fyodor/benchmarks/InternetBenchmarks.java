@@ -0,0 +1,66 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.generators.RDG;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import static uk.org.fyodor.range.Range.closed;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InternetBenchmarks {
+
+    private Generator<URI> uri;
+    private Generator<String> domain;
+    private Generator<String> domainInRange;
+    private Generator<String> uniqueDomain;
+    private Generator<String> domainSuffix;
+    private Generator<String> emailAddress;
+
+    @Setup
+    public void setUp() {
+        uri = RDG.uri();
+        domain = RDG.domain();
+        domainInRange = RDG.domain(closed(10, 20));
+        uniqueDomain = RDG.domain().unique();
+        domainSuffix = RDG.domainSuffix();
+        emailAddress = RDG.emailAddress();
+    }
+
+    @Benchmark
+    public URI uri() {
+        return uri.next();
+    }
+
+    @Benchmark
+    public String domain() {
+        return domain.next();
+    }
+
+    @Benchmark
+    public String domainInRange() {
+        return domainInRange.next();
+    }
+
+    @Benchmark
+    public String uniqueDomain() {
+        return uniqueDomain.next();
+    }
+
+    @Benchmark
+    public String domainSuffix() {
+        return domainSuffix.next();
+    }
+
+    @Benchmark
+    public String emailAddress() {
+        return emailAddress.next();
+    }
+}
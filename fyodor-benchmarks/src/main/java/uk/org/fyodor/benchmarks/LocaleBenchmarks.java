@@ -0,0 +1,58 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.generators.RDG;
+
+import java.util.Currency;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocaleBenchmarks {
+
+    private Generator<Currency> currency;
+    private Generator<Locale> locale;
+    private Generator<String> iso3Country;
+    private Generator<String> niNumber;
+    private Generator<String> postcode;
+
+    @Setup
+    public void setUp() {
+        currency = RDG.currency();
+        locale = RDG.locale();
+        iso3Country = RDG.iso3Country();
+        niNumber = RDG.niNumber();
+        postcode = RDG.postcode();
+    }
+
+    @Benchmark
+    public Currency currency() {
+        return currency.next();
+    }
+
+    @Benchmark
+    public Locale locale() {
+        return locale.next();
+    }
+
+    @Benchmark
+    public String iso3Country() {
+        return iso3Country.next();
+    }
+
+    @Benchmark
+    public String niNumber() {
+        return niNumber.next();
+    }
+
+    @Benchmark
+    public String postcode() {
+        return postcode.next();
+    }
+}
@@ -0,0 +1,211 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.generators.IntGenerator;
+import uk.org.fyodor.generators.LongGenerator;
+import uk.org.fyodor.generators.RDG;
+import uk.org.fyodor.generators.UuidGenerator;
+import uk.org.fyodor.generators.unique.UniqueFilterGenerator;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static uk.org.fyodor.range.Range.closed;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveBenchmarks {
+
+    private Generator<Boolean> bool;
+    private Generator<Boolean> percentageChanceOf;
+    private Generator<Boolean> bernoulli;
+    private Generator<String> weighted;
+    private Generator<Byte> byteVal;
+    private Generator<Short> shortVal;
+    private Generator<Integer> integer;
+    private Generator<Integer> integerInRange;
+    private Generator<Long> longVal;
+    private Generator<Long> longValInRange;
+    private Generator<Double> doubleVal;
+    private Generator<Double> doubleValInRange;
+    private Generator<BigDecimal> bigDecimal;
+    private Generator<BigDecimal> bigDecimalWithScale;
+    private Generator<BigDecimal> money;
+    private Generator<byte[]> byteArray;
+    private IntGenerator uniqueInteger;
+    private LongGenerator uniqueLong;
+    private UuidGenerator uuid;
+    private UuidGenerator timeOrderedUuid;
+
+    @Setup
+    public void setUp() {
+        bool = RDG.bool();
+        percentageChanceOf = RDG.percentageChanceOf(25);
+        bernoulli = RDG.bernoulli(new BigDecimal("0.1"));
+        weighted = RDG.weighted(orderStatuses());
+        byteVal = RDG.byteVal();
+        shortVal = RDG.shortVal();
+        integer = RDG.integer();
+        integerInRange = RDG.integer(closed(-1000, 1000));
+        longVal = RDG.longVal();
+        longValInRange = RDG.longVal(closed(-1000L, 1000L));
+        doubleVal = RDG.doubleVal();
+        doubleValInRange = RDG.doubleVal(closed(-1000.0, 1000.0));
+        bigDecimal = RDG.bigDecimal();
+        bigDecimalWithScale = RDG.bigDecimal(closed(BigDecimal.ZERO, BigDecimal.valueOf(1000)), 2);
+        money = RDG.money(Currency.getInstance("GBP"));
+        byteArray = RDG.byteArray();
+        uniqueInteger = RDG.uniqueIntegers(closed(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        uniqueLong = RDG.uniqueLongs(closed(Long.MIN_VALUE, Long.MAX_VALUE));
+        uuid = RDG.uuid();
+        timeOrderedUuid = RDG.timeOrderedUuid();
+    }
+
+    @Benchmark
+    public Boolean bool() {
+        return bool.next();
+    }
+
+    @Benchmark
+    public Boolean percentageChanceOf() {
+        return percentageChanceOf.next();
+    }
+
+    @Benchmark
+    public Boolean bernoulli() {
+        return bernoulli.next();
+    }
+
+    @Benchmark
+    public String weighted() {
+        return weighted.next();
+    }
+
+    @Benchmark
+    public Byte byteVal() {
+        return byteVal.next();
+    }
+
+    @Benchmark
+    public Short shortVal() {
+        return shortVal.next();
+    }
+
+    @Benchmark
+    public Integer integer() {
+        return integer.next();
+    }
+
+    @Benchmark
+    public Integer integerInRange() {
+        return integerInRange.next();
+    }
+
+    @Benchmark
+    public Long longVal() {
+        return longVal.next();
+    }
+
+    @Benchmark
+    public Long longValInRange() {
+        return longValInRange.next();
+    }
+
+    @Benchmark
+    public Double doubleVal() {
+        return doubleVal.next();
+    }
+
+    @Benchmark
+    public Double doubleValInRange() {
+        return doubleValInRange.next();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return bigDecimal.next();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalWithScale() {
+        return bigDecimalWithScale.next();
+    }
+
+    @Benchmark
+    public BigDecimal money() {
+        return money.next();
+    }
+
+    @Benchmark
+    public byte[] byteArray() {
+        return byteArray.next();
+    }
+
+    @Benchmark
+    public int uniqueInteger() {
+        return uniqueInteger.nextInt();
+    }
+
+    @Benchmark
+    public long uniqueLong() {
+        return uniqueLong.nextLong();
+    }
+
+    @Benchmark
+    public Long unique(final UniqueValues values) {
+        return values.generator.next();
+    }
+
+    @Benchmark
+    public UUID uuid() {
+        return uuid.next();
+    }
+
+    @Benchmark
+    public UUID timeOrderedUuid() {
+        return timeOrderedUuid.next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public long[] uuidFill(final UuidBits bits) {
+        uuid.fill(bits.mostSignificantBits, bits.leastSignificantBits);
+        return bits.leastSignificantBits;
+    }
+
+    @State(Scope.Thread)
+    public static class UuidBits {
+        final long[] mostSignificantBits = new long[1024];
+        final long[] leastSignificantBits = new long[1024];
+    }
+
+    /* a fresh filter every iteration, sized so that one iteration does not fill it */
+    @State(Scope.Benchmark)
+    public static class UniqueValues {
+        UniqueFilterGenerator<Long> generator;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            generator = RDG.unique(RDG.longVal(), 1 << 25, 0.01);
+        }
+    }
+
+    private static Map<String, Double> orderStatuses() {
+        final Map<String, Double> statuses = new LinkedHashMap<>();
+        statuses.put("DELIVERED", 62.0);
+        statuses.put("SHIPPED", 17.0);
+        statuses.put("PENDING", 11.0);
+        statuses.put("CANCELLED", 6.0);
+        statuses.put("RETURNED", 4.0);
+        return statuses;
+    }
+}
@@ -0,0 +1,33 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.org.fyodor.random.RandomSourceProvider;
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+the shared source of randomness resolves the calling thread's engine, so throughput should scale with threads.
+BenchmarkRunner measures it at one thread and at several, plain jmh runs it on every core
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomSourceBenchmarks {
+
+    private RandomValues randomValues;
+
+    @Setup
+    public void setUp() {
+        randomValues = RandomSourceProvider.sourceOfRandomness();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int randomInteger() {
+        return randomValues.randomInteger(0, 1000);
+    }
+}
@@ -0,0 +1,57 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.org.fyodor.generators.RDG;
+
+import java.net.URI;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/*
+each fork is a fresh JVM and each benchmark is measured once, so the score is the time taken to load RDG
+and produce a first value, and the class loader profiler counts the classes loaded along the way
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@Threads(1)
+public class StartupBenchmark {
+
+    @Benchmark
+    public Integer integer() {
+        return RDG.integer().next();
+    }
+
+    @Benchmark
+    public String string() {
+        return RDG.string().next();
+    }
+
+    @Benchmark
+    public String emailAddress() {
+        return RDG.emailAddress().next();
+    }
+
+    @Benchmark
+    public URI uri() {
+        return RDG.uri().next();
+    }
+
+    @Benchmark
+    public String postcode() {
+        return RDG.postcode().next();
+    }
+
+    @Benchmark
+    public Locale locale() {
+        return RDG.locale().next();
+    }
+
+    @Benchmark
+    public ZoneId zoneId() {
+        return RDG.zoneId().next();
+    }
+}
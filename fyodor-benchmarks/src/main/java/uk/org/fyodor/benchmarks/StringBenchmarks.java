@@ -0,0 +1,114 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.generators.RDG;
+import uk.org.fyodor.generators.TextGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+import static uk.org.fyodor.generators.characters.CharacterSetFilter.LettersAndDigits;
+import static uk.org.fyodor.generators.characters.CharacterSetFilter.LettersOnly;
+import static uk.org.fyodor.range.Range.closed;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringBenchmarks {
+
+    private TextGenerator string;
+    private Generator<String> stringOfLength;
+    private Generator<String> stringFromCharset;
+    private Generator<String> stringFromChars;
+    private Generator<String> stringOfLettersAndDigits;
+    private Generator<String> stringOfLettersInRange;
+    private Generator<String> stringFromCodePointRanges;
+    private Generator<String> stringFromCharacterFilter;
+    private TextGenerator template;
+    private TextGenerator uniqueString;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        string = RDG.string();
+        stringOfLength = RDG.string(100);
+        stringFromCharset = RDG.string(30, "abcdefghijklmnopqrstuvwxyz");
+        stringFromChars = RDG.string(30, "0123456789ABCDEF".toCharArray());
+        stringOfLettersAndDigits = RDG.string(30, LettersAndDigits);
+        stringOfLettersInRange = RDG.string(closed(10, 30), LettersOnly);
+        stringFromCodePointRanges = RDG.string(30, closed(0x41, 0x5A), closed(0x61, 0x7A));
+        stringFromCharacterFilter = RDG.string(30, c -> Character.isLetterOrDigit(c) || c == '_');
+        uniqueString = RDG.uniqueString(closed(10, 30));
+        template = RDG.template("ACC-{upper:2}{digits:8}-{oneOf:ABCD}");
+    }
+
+    @Benchmark
+    public String string() {
+        return string.next();
+    }
+
+    @Benchmark
+    public String stringOfLength() {
+        return stringOfLength.next();
+    }
+
+    @Benchmark
+    public String stringFromCharset() {
+        return stringFromCharset.next();
+    }
+
+    @Benchmark
+    public String stringFromChars() {
+        return stringFromChars.next();
+    }
+
+    @Benchmark
+    public String stringOfLettersAndDigits() {
+        return stringOfLettersAndDigits.next();
+    }
+
+    @Benchmark
+    public String stringOfLettersInRange() {
+        return stringOfLettersInRange.next();
+    }
+
+    @Benchmark
+    public String stringFromCodePointRanges() {
+        return stringFromCodePointRanges.next();
+    }
+
+    @Benchmark
+    public String stringFromCharacterFilter() {
+        return stringFromCharacterFilter.next();
+    }
+
+    @Benchmark
+    public StringBuilder stringWrittenToBuilder(final Sink sink) {
+        sink.builder.setLength(0);
+        return string.writeTo(sink.builder);
+    }
+
+    @Benchmark
+    public String template() {
+        return template.next();
+    }
+
+    @Benchmark
+    public StringBuilder templateWrittenToBuilder(final Sink sink) {
+        sink.builder.setLength(0);
+        return template.writeTo(sink.builder);
+    }
+
+    @State(Scope.Thread)
+    public static class Sink {
+        private final StringBuilder builder = new StringBuilder();
+    }
+
+    @Benchmark
+    public String uniqueString() {
+        return uniqueString.next();
+    }
+}
@@ -0,0 +1,113 @@
+package uk.org.fyodor.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.generators.RDG;
+import uk.org.fyodor.generators.time.LocalDateGenerator;
+import uk.org.fyodor.range.Range;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemporalBenchmarks {
+
+    private Generator<Instant> instant;
+    private Generator<LocalTime> localTime;
+    private LocalDateGenerator localDate;
+    private Generator<LocalDateTime> localDateTime;
+    private Generator<ZonedDateTime> zonedDateTime;
+    private Generator<ZoneId> zoneId;
+    private Generator<OffsetDateTime> offsetDateTime;
+    private Generator<YearMonth> yearMonth;
+    private Generator<Duration> duration;
+    private Generator<Period> period;
+    private Generator<org.joda.time.LocalDate> jodaLocalDate;
+
+    @Setup
+    public void setUp() {
+        instant = RDG.instant();
+        localTime = RDG.localTime();
+        localDate = RDG.localDate();
+        localDateTime = RDG.localDateTime();
+        zonedDateTime = RDG.zonedDateTime();
+        zoneId = RDG.zoneId();
+        offsetDateTime = RDG.offsetDateTime();
+        yearMonth = RDG.yearMonth();
+        duration = RDG.duration(Range.closed(Duration.ZERO, Duration.ofDays(365)));
+        period = RDG.period(Period.ofYears(10));
+        jodaLocalDate = uk.org.fyodor.jodatime.generators.RDG.localDate();
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return instant.next();
+    }
+
+    @Benchmark
+    public LocalTime localTime() {
+        return localTime.next();
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return localDate.next();
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime() {
+        return localDateTime.next();
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTime() {
+        return zonedDateTime.next();
+    }
+
+    @Benchmark
+    public ZoneId zoneId() {
+        return zoneId.next();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public long[] localDateEpochDays(final EpochDays epochDays) {
+        localDate.fillEpochDays(epochDays.values);
+        return epochDays.values;
+    }
+
+    @Benchmark
+    public OffsetDateTime offsetDateTime() {
+        return offsetDateTime.next();
+    }
+
+    @Benchmark
+    public YearMonth yearMonth() {
+        return yearMonth.next();
+    }
+
+    @Benchmark
+    public Duration duration() {
+        return duration.next();
+    }
+
+    @Benchmark
+    public Period period() {
+        return period.next();
+    }
+
+    @Benchmark
+    public org.joda.time.LocalDate jodaLocalDate() {
+        return jodaLocalDate.next();
+    }
+
+    @State(Scope.Thread)
+    public static class EpochDays {
+        final long[] values = new long[1024];
+    }
+}
@@ -0,0 +1,63 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/*
+true with exactly the given probability, as if a uniform number in [0, 1) were compared with it. the number is
+drawn 64 bits at a time and compared with the binary expansion of the probability, the first word differs from
+it in all but one in 2^64 draws and the later words (of a probability such as 0.1 that has no end in binary)
+are only worked out in that case
+ */
+final class BernoulliGenerator implements BooleanGenerator {
+
+    private static final BigDecimal TWO_TO_THE_64 = new BigDecimal(BigInteger.ONE.shiftLeft(Long.SIZE));
+
+    private final RandomValues randomValues;
+    private final boolean certain;
+    private final boolean impossible;
+    private final long firstWord;
+    private final BigDecimal afterFirstWord;
+
+    BernoulliGenerator(final RandomValues randomValues, final BigDecimal probability) {
+        this.randomValues = randomValues;
+        this.certain = probability.compareTo(BigDecimal.ONE) == 0;
+        this.impossible = probability.signum() == 0;
+
+        final BigDecimal scaled = certain ? BigDecimal.ZERO : probability.multiply(TWO_TO_THE_64);
+        final BigInteger word = scaled.toBigInteger();
+        this.firstWord = word.longValue();
+        this.afterFirstWord = scaled.subtract(new BigDecimal(word));
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        if (certain || impossible) {
+            return certain;
+        }
+
+        long bits = nextWord();
+        if (bits != firstWord) {
+            return Long.compareUnsigned(bits, firstWord) < 0;
+        }
+
+        BigDecimal remainder = afterFirstWord;
+        while (remainder.signum() != 0) {
+            final BigDecimal scaled = remainder.multiply(TWO_TO_THE_64);
+            final BigInteger word = scaled.toBigInteger();
+            remainder = scaled.subtract(new BigDecimal(word));
+
+            bits = nextWord();
+            if (bits != word.longValue()) {
+                return Long.compareUnsigned(bits, word.longValue()) < 0;
+            }
+        }
+        return false;
+    }
+
+    private long nextWord() {
+        return randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+}
@@ -4,30 +4,55 @@ import uk.org.fyodor.random.RandomValues;
 import uk.org.fyodor.range.Range;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
-import static java.math.BigDecimal.valueOf;
+import static java.math.RoundingMode.CEILING;
+import static java.math.RoundingMode.FLOOR;
+import static uk.org.fyodor.generators.Validations.ensure;
 
+/*
+decimals are drawn as an unscaled integer between the bounds multiplied by 10^scale, as a long when both bounds
+fit in one and as a big integer otherwise, so the value is exact and every decimal of the scale is equally likely
+ */
 final class BigDecimalGenerator implements Generator<BigDecimal> {
 
     private final RandomValues randomValues;
     private final Range<BigDecimal> range;
     private final int scale;
+    private final BigInteger lowerUnscaled;
+    private final BigInteger upperUnscaled;
+    private final long lowerUnscaledLong;
+    private final long upperUnscaledLong;
+    private final boolean unscaledFitsInLong;
 
     BigDecimalGenerator(final RandomValues randomValues, final Range<BigDecimal> range, final int scale) {
         this.range = range;
         this.scale = scale;
         this.randomValues = randomValues;
+        this.lowerUnscaled = range.lowerBound().setScale(scale, CEILING).unscaledValue();
+        this.upperUnscaled = range.upperBound().setScale(scale, FLOOR).unscaledValue();
+        this.unscaledFitsInLong = lowerUnscaled.bitLength() < Long.SIZE && upperUnscaled.bitLength() < Long.SIZE;
+        this.lowerUnscaledLong = lowerUnscaled.longValue();
+        this.upperUnscaledLong = upperUnscaled.longValue();
+
+        ensure(isFixed() || lowerUnscaled.compareTo(upperUnscaled) <= 0,
+                "there are no decimals with a scale of " + scale + " between " + range.lowerBound() + " and " + range.upperBound());
     }
 
     @Override
     public BigDecimal next() {
-        if (range.lowerBound().compareTo(range.upperBound()) == 0) {
+        if (isFixed()) {
             return range.lowerBound();
         }
 
-        final double lowerBound = range.lowerBound().doubleValue();
-        final double upperBound = range.upperBound().doubleValue();
+        if (unscaledFitsInLong) {
+            return BigDecimal.valueOf(randomValues.randomLong(lowerUnscaledLong, upperUnscaledLong), scale);
+        }
+
+        return new BigDecimal(randomValues.randomBigInteger(lowerUnscaled, upperUnscaled), scale);
+    }
 
-        return valueOf(randomValues.randomDouble(lowerBound, upperBound, scale));
+    private boolean isFixed() {
+        return range.lowerBound().compareTo(range.upperBound()) == 0;
     }
 }
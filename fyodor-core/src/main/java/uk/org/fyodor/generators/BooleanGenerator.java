@@ -1,17 +1,11 @@
 package uk.org.fyodor.generators;
 
-import uk.org.fyodor.random.RandomValues;
+public interface BooleanGenerator extends Generator<Boolean> {
 
-final class BooleanGenerator implements Generator<Boolean> {
-
-    private final RandomValues randomValues;
-
-    BooleanGenerator(final RandomValues randomValues) {
-        this.randomValues = randomValues;
-    }
+    boolean nextBoolean();
 
     @Override
-    public Boolean next() {
-        return randomValues.randomBoolean();
+    default Boolean next() {
+        return nextBoolean();
     }
 }
@@ -0,0 +1,38 @@
+package uk.org.fyodor.generators;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+
+import static java.lang.ThreadLocal.withInitial;
+
+/*
+one reusable char buffer per thread for generators that build a value in place before writing it out, a value
+must be copied out of the buffer before another generator on the same thread asks for it
+ */
+final class CharBuffers {
+
+    private static final ThreadLocal<char[]> scratch = withInitial(() -> new char[64]);
+
+    private CharBuffers() {
+    }
+
+    static char[] scratchOfLength(final int length) {
+        final char[] buffer = scratch.get();
+        if (buffer.length >= length) {
+            return buffer;
+        }
+
+        final char[] larger = new char[Math.max(length, buffer.length * 2)];
+        scratch.set(larger);
+        return larger;
+    }
+
+    static <A extends Appendable> A append(final A appendable, final char[] chars, final int length) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(chars, 0, length);
+        } else {
+            appendable.append(CharBuffer.wrap(chars, 0, length));
+        }
+        return appendable;
+    }
+}
@@ -0,0 +1,130 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.generators.characters.CharacterSet;
+import uk.org.fyodor.random.RandomValues;
+
+import java.io.IOException;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/*
+draws several characters from each 64 bit random value rather than one per draw, an alphabet whose size is
+a power of two is sliced into exact bit fields, any other alphabet of size n is sampled k characters at a
+time by the batched multiply-shift method, where the high words of r * n give each index in turn and the
+whole batch is redrawn when r * n^k lands in the biased region, see https://arxiv.org/abs/2408.06213
+ */
+final class CharacterSampler {
+
+    private static final long LOW_WORD = 0xFFFFFFFFL;
+
+    private final RandomValues randomValues;
+    private final CharacterSet charSet;
+    private final int size;
+    private final int bits;
+    private final long mask;
+    private final int batchSize;
+    private final long[] batchBounds;
+    private final long[] batchThresholds;
+
+    CharacterSampler(final RandomValues randomValues, final CharacterSet charSet) {
+        ensure(charSet.size() > 0, "character set cannot be empty");
+
+        this.randomValues = randomValues;
+        this.charSet = charSet;
+        this.size = charSet.size();
+
+        if (Integer.bitCount(size) == 1) {
+            this.bits = Integer.numberOfTrailingZeros(size);
+            this.mask = size - 1;
+            this.batchSize = bits == 0 ? Integer.MAX_VALUE : Long.SIZE / bits;
+            this.batchBounds = null;
+            this.batchThresholds = null;
+        } else {
+            this.bits = 0;
+            this.mask = 0;
+            this.batchSize = batchSizeFor(size);
+            this.batchBounds = new long[batchSize + 1];
+            this.batchThresholds = new long[batchSize + 1];
+            long bound = 1;
+            for (int k = 1; k <= batchSize; k++) {
+                bound *= size;
+                batchBounds[k] = bound;
+                batchThresholds[k] = Long.remainderUnsigned(-bound, bound);
+            }
+        }
+    }
+
+    char next() {
+        if (batchBounds == null) {
+            return charSet.charAt(bits == 0 ? 0 : (int) (nextRandom() & mask));
+        }
+        return charSet.charAt((int) multiplyHigh(nextAcceptedBatch(1), size));
+    }
+
+    void fill(final char[] chars, final int fromIndex, final int toIndex) {
+        int i = fromIndex;
+        while (i < toIndex) {
+            final int count = Math.min(batchSize, toIndex - i);
+            if (batchBounds == null) {
+                long random = bits == 0 ? 0 : nextRandom();
+                for (int j = 0; j < count; j++, random >>>= bits) {
+                    chars[i++] = charSet.charAt((int) (random & mask));
+                }
+            } else {
+                long random = nextAcceptedBatch(count);
+                for (int j = 0; j < count; j++) {
+                    chars[i++] = charSet.charAt((int) multiplyHigh(random, size));
+                    random *= size;
+                }
+            }
+        }
+    }
+
+    void appendTo(final Appendable appendable, final int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            final int count = Math.min(batchSize, remaining);
+            if (batchBounds == null) {
+                long random = bits == 0 ? 0 : nextRandom();
+                for (int j = 0; j < count; j++, random >>>= bits) {
+                    appendable.append(charSet.charAt((int) (random & mask)));
+                }
+            } else {
+                long random = nextAcceptedBatch(count);
+                for (int j = 0; j < count; j++) {
+                    appendable.append(charSet.charAt((int) multiplyHigh(random, size)));
+                    random *= size;
+                }
+            }
+            remaining -= count;
+        }
+    }
+
+    private long nextAcceptedBatch(final int count) {
+        final long bound = batchBounds[count];
+        final long threshold = batchThresholds[count];
+        long random;
+        do {
+            random = nextRandom();
+        } while (Long.compareUnsigned(random * bound, threshold) < 0);
+        return random;
+    }
+
+    private long nextRandom() {
+        return randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    private static long multiplyHigh(final long unsigned, final int multiplier) {
+        return ((unsigned >>> 32) * multiplier + (((unsigned & LOW_WORD) * multiplier) >>> 32)) >>> 32;
+    }
+
+    private static int batchSizeFor(final int size) {
+        int batchSize = 1;
+        long bound = size;
+        while (Long.compareUnsigned(bound, Long.divideUnsigned(-1L, size)) <= 0) {
+            bound *= size;
+            batchSize++;
+        }
+        return batchSize;
+    }
+}
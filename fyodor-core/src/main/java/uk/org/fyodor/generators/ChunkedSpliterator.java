@@ -0,0 +1,75 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.SplitSeed;
+
+import java.util.Spliterator;
+
+/*
+values are generated a chunk at a time, each chunk under its own seed derived from the chunk's index,
+and splits only ever happen on chunk boundaries, so the values are the same however the stream is split
+ */
+abstract class ChunkedSpliterator<S extends ChunkedSpliterator<S>> {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private final SplitSeed split;
+    private final long fence;
+    private long index;
+
+    int bufferPosition;
+    int bufferLimit;
+
+    ChunkedSpliterator(final SplitSeed split, final long origin, final long fence) {
+        this.split = split;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    abstract S split(SplitSeed split, long origin, long fence);
+
+    abstract void fillBuffer(int length);
+
+    final boolean hasNextChunk() {
+        return index < fence;
+    }
+
+    final void nextChunk() {
+        final long chunk = index / CHUNK_SIZE;
+        final int length = (int) Math.min(CHUNK_SIZE, fence - index);
+
+        split.run(chunk, () -> fillBuffer(length));
+
+        bufferPosition = 0;
+        bufferLimit = length;
+        index += length;
+    }
+
+    final int bufferCapacity() {
+        return (int) Math.min(CHUNK_SIZE, fence - index);
+    }
+
+    public final S trySplit() {
+        if (bufferPosition < bufferLimit) {
+            return null;
+        }
+
+        final long firstChunk = index / CHUNK_SIZE;
+        final long lastChunk = (fence - 1) / CHUNK_SIZE;
+        if (index >= fence || firstChunk == lastChunk) {
+            return null;
+        }
+
+        final long middle = (firstChunk + (lastChunk - firstChunk + 1) / 2) * CHUNK_SIZE;
+        final S prefix = split(split, index, middle);
+        this.index = middle;
+        return prefix;
+    }
+
+    public final long estimateSize() {
+        return fence - index + (bufferLimit - bufferPosition);
+    }
+
+    public final int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
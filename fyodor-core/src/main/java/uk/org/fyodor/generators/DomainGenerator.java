@@ -1,26 +1,52 @@
 package uk.org.fyodor.generators;
 
+import uk.org.fyodor.generators.characters.CharacterFilter;
 import uk.org.fyodor.generators.characters.CharacterSetFilter;
 import uk.org.fyodor.range.Range;
 
-public class DomainGenerator implements Generator<String> {
+import java.io.IOException;
 
-    private final Generator<String> domainGenerator;
+import static uk.org.fyodor.generators.CharBuffers.append;
+import static uk.org.fyodor.generators.CharBuffers.scratchOfLength;
+import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
+
+public class DomainGenerator implements TextGenerator {
+
+    private static final CharacterFilter NOT_A_HYPHEN = CharacterSetFilter.DomainName.getFilter().and(c -> c != '-');
+
+    private final Range<Integer> range;
+    private final StringGenerator domainGenerator;
+    private final StringGenerator edgeGenerator = new StringGenerator(1, NOT_A_HYPHEN);
 
     public DomainGenerator(){
         this(Range.closed(5, 40));
     }
 
     public DomainGenerator(Range<Integer> range) {
-        domainGenerator = RDG.string(range, CharacterSetFilter.DomainName);
+        this.range = range;
+        domainGenerator = new StringGenerator(range, CharacterSetFilter.DomainName.getFilter());
     }
 
+    /*
+    a domain cannot start or end with a hyphen, a hyphen drawn at either end is replaced by a character drawn
+    from the domain characters without the hyphen, which leaves the ends uniform over the characters they allow
+     */
     @Override
-    public String next() {
-        String domain = domainGenerator.next();
-        if (domain.startsWith("-") || domain.endsWith("-")) {
-            return next();
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        final int length = domainGenerator.nextLength();
+        final char[] domain = scratchOfLength(length);
+        domainGenerator.nextChars(domain, 0, length);
+        if (length > 0 && domain[0] == '-') {
+            domain[0] = edgeGenerator.nextChar();
         }
-        return domain;
+        if (length > 1 && domain[length - 1] == '-') {
+            domain[length - 1] = edgeGenerator.nextChar();
+        }
+        return append(appendable, domain, length);
+    }
+
+    /* domains of the same lengths and characters, each one different from every other */
+    public TextGenerator unique() {
+        return UniqueTextGenerator.domains(sourceOfRandomness(), range, domainGenerator.getCharSet());
     }
 }
@@ -0,0 +1,61 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.SplitSeed;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+final class DoubleGeneratorSpliterator extends ChunkedSpliterator<DoubleGeneratorSpliterator> implements Spliterator.OfDouble {
+
+    private final DoubleGenerator generator;
+    private double[] buffer;
+
+    DoubleGeneratorSpliterator(final DoubleGenerator generator, final SplitSeed split, final long size) {
+        this(generator, split, 0, size);
+    }
+
+    private DoubleGeneratorSpliterator(final DoubleGenerator generator, final SplitSeed split, final long origin, final long fence) {
+        super(split, origin, fence);
+        this.generator = generator;
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        if (bufferPosition == bufferLimit) {
+            if (!hasNextChunk()) {
+                return false;
+            }
+            nextChunk();
+        }
+        action.accept(buffer[bufferPosition++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final DoubleConsumer action) {
+        while (bufferPosition < bufferLimit) {
+            action.accept(buffer[bufferPosition++]);
+        }
+        while (hasNextChunk()) {
+            nextChunk();
+            while (bufferPosition < bufferLimit) {
+                action.accept(buffer[bufferPosition++]);
+            }
+        }
+    }
+
+    @Override
+    DoubleGeneratorSpliterator split(final SplitSeed split, final long origin, final long fence) {
+        return new DoubleGeneratorSpliterator(generator, split, origin, fence);
+    }
+
+    @Override
+    void fillBuffer(final int length) {
+        if (buffer == null) {
+            buffer = new double[bufferCapacity()];
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[i] = generator.nextDouble();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+final class DoubleRangeGenerator implements DoubleGenerator {
+
+    private final RandomValues randomValues;
+    private final double lower;
+    private final double upper;
+
+    DoubleRangeGenerator(final RandomValues randomValues, final Range<Double> range) {
+        this.randomValues = randomValues;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+    }
+
+    @Override
+    public double nextDouble() {
+        return randomValues.randomDouble(lower, upper);
+    }
+}
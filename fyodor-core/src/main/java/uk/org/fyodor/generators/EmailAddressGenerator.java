@@ -2,16 +2,16 @@ package uk.org.fyodor.generators;
 
 import uk.org.fyodor.range.Range;
 
-import static java.lang.String.format;
+import java.io.IOException;
 
 /*
 see http://en.wikipedia.org/wiki/Email_address for further info about what is and isn't
 allowed in an email address.
  */
-public class EmailAddressGenerator implements Generator<String> {
+public class EmailAddressGenerator implements TextGenerator {
 
-    private final Generator<String> localPartGenerator;
-    private final Generator<String> domainPartGenerator;
+    private final TextGenerator localPartGenerator;
+    private final TextGenerator domainPartGenerator;
 
     public EmailAddressGenerator() {
         localPartGenerator = new EmailLocalPartGenerator(Range.closed(3, 50));
@@ -19,7 +19,10 @@ public class EmailAddressGenerator implements Generator<String> {
     }
 
     @Override
-    public String next() {
-        return format("%s@%s.%s", localPartGenerator.next(), domainPartGenerator.next(), RDG.domainSuffix().next());
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        localPartGenerator.appendTo(appendable).append('@');
+        domainPartGenerator.appendTo(appendable).append('.');
+        appendable.append(RDG.domainSuffix().next());
+        return appendable;
     }
 }
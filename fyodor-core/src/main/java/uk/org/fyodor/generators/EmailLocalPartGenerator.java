@@ -1,26 +1,148 @@
 package uk.org.fyodor.generators;
 
 import uk.org.fyodor.generators.characters.CharacterSetFilter;
+import uk.org.fyodor.generators.characters.CharacterSets;
+import uk.org.fyodor.random.RandomValues;
 import uk.org.fyodor.range.Range;
 
-public class EmailLocalPartGenerator implements Generator<String> {
+import java.io.IOException;
+import java.util.Arrays;
 
-    private final Generator<String> generator;
+import static uk.org.fyodor.generators.CharBuffers.append;
+import static uk.org.fyodor.generators.CharBuffers.scratchOfLength;
+import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
+
+/*
+the local part cannot start or end with a dot or contain two dots in a row. with b characters other than the dot,
+the number of valid local parts of length n is W(n) = b.(W(n-1) + W(n-2)) from three characters on, since the last
+character is never a dot and is preceded either by a valid local part or by a dot after one. the characters are all
+drawn from the characters other than the dot in one bulk fill, then walking back from the end each step keeps the
+last character on its own with probability W(n-1) / (W(n-1) + W(n-2)) or puts a dot before it, which makes every
+valid local part of that length equally likely. lengths are weighted by the share of strings of that length which
+are valid, so that the local parts are spread exactly as they would be by drawing strings and rejecting bad ones
+ */
+public class EmailLocalPartGenerator implements TextGenerator {
+
+    private final RandomValues randomValues = sourceOfRandomness();
+    private final StringGenerator generator;
+    private final Range<Integer> range;
+    private final int shortestLength;
+    private final int longestLength;
+    private final CharacterSampler notADotSampler;
+    private final boolean hasDot;
+    private final double[] lastIsNotADot;
+    private final double[] lengthAcceptance;
 
     public EmailLocalPartGenerator(int length) {
-        generator = RDG.string(length, CharacterSetFilter.EmailLocalPart);
+        this(Range.fixed(length), new StringGenerator(length, CharacterSetFilter.EmailLocalPart.getFilter()));
     }
 
     public EmailLocalPartGenerator(Range<Integer> range) {
-        generator = RDG.string(range, CharacterSetFilter.EmailLocalPart);
+        this(range, new StringGenerator(range, CharacterSetFilter.EmailLocalPart.getFilter()));
+    }
+
+    private EmailLocalPartGenerator(final Range<Integer> range, final StringGenerator generator) {
+        this.range = range;
+        this.generator = generator;
+        this.shortestLength = Math.max(0, range.lowerBound());
+        this.longestLength = Math.max(shortestLength, range.upperBound());
+
+        final char[] alphabet = generator.getCharSet();
+        final char[] notDots = new String(alphabet).replace(".", "").toCharArray();
+        this.notADotSampler = new CharacterSampler(randomValues, CharacterSets.of(notDots));
+        this.hasDot = notDots.length < alphabet.length;
+        this.lastIsNotADot = hasDot ? lastIsNotADot(notDots.length, longestLength) : null;
+        this.lengthAcceptance = hasDot && shortestLength < longestLength
+                ? lengthAcceptance(notDots.length, lastIsNotADot, shortestLength, longestLength)
+                : null;
     }
 
     @Override
-    public String next() {
-        String localPart = generator.next();
-        if (localPart.contains("..") || localPart.startsWith(".") || localPart.endsWith(".")) {
-            return next();
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        final int length = nextLength();
+        final char[] localPart = scratchOfLength(length);
+        notADotSampler.fill(localPart, 0, length);
+        if (hasDot) {
+            int end = length;
+            while (end > 2) {
+                if (randomValues.randomDouble(0.0, 1.0) < lastIsNotADot[Math.min(end, lastIsNotADot.length - 1)]) {
+                    end -= 1;
+                } else {
+                    localPart[end - 2] = '.';
+                    end -= 2;
+                }
+            }
+        }
+        return append(appendable, localPart, length);
+    }
+
+    /* local parts of the same lengths and characters, each one different from every other */
+    public TextGenerator unique() {
+        return UniqueTextGenerator.localParts(sourceOfRandomness(), range, generator.getCharSet());
+    }
+
+    private int nextLength() {
+        if (lengthAcceptance == null) {
+            return randomValues.randomInteger(shortestLength, longestLength);
+        }
+
+        while (true) {
+            final int length = randomValues.randomInteger(shortestLength, longestLength);
+            final double acceptance = lengthAcceptance[length - shortestLength];
+            if (acceptance >= 1.0 || randomValues.randomDouble(0.0, 1.0) < acceptance) {
+                return length;
+            }
+        }
+    }
+
+    /*
+    with t(n) = W(n-1) / W(n-2), which starts at t(3) = b and follows t(n+1) = b.(1 + 1/t(n)), the chance that the
+    last of n characters has no dot before it is t(n) / (t(n) + 1). the chance settles quickly, so it is only kept
+    up to the length where it stops changing
+     */
+    private static double[] lastIsNotADot(final int b, final int longestLength) {
+        final double[] chances = new double[Math.max(4, longestLength + 1)];
+        double t = b;
+        for (int n = 3; n < chances.length; n++) {
+            chances[n] = t / (t + 1);
+            if (chances[n] == chances[n - 1]) {
+                return Arrays.copyOf(chances, n + 1);
+            }
+            t = b * (1 + 1 / t);
+        }
+        return chances;
+    }
+
+    /*
+    the share of strings of length n over the b + 1 characters that are valid is W(n) / (b + 1)^n, worked out as a
+    logarithm so that long lengths do not underflow and scaled so that the most likely length is always accepted
+     */
+    private static double[] lengthAcceptance(final int b,
+                                             final double[] lastIsNotADot,
+                                             final int shortestLength,
+                                             final int longestLength) {
+        final double[] logShares = new double[longestLength - shortestLength + 1];
+        final double logB = Math.log(b);
+        final double logA = Math.log(b + 1);
+        double logW = 0;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int n = 0; n <= longestLength; n++) {
+            if (n == 1 || n == 2) {
+                logW += logB;
+            } else if (n >= 3) {
+                /* W(n) = b.W(n-1) / P(the last character has no dot before it) */
+                logW += logB - Math.log(lastIsNotADot[Math.min(n, lastIsNotADot.length - 1)]);
+            }
+            if (n >= shortestLength) {
+                logShares[n - shortestLength] = logW - n * logA;
+                maximum = Math.max(maximum, logShares[n - shortestLength]);
+            }
+        }
+
+        final double[] acceptance = new double[logShares.length];
+        for (int i = 0; i < acceptance.length; i++) {
+            acceptance[i] = Math.exp(logShares[i] - maximum);
         }
-        return localPart;
+        return acceptance;
     }
 }
@@ -1,6 +1,29 @@
 package uk.org.fyodor.generators;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNegative;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+
 public interface Generator<T> {
 
     T next();
+
+    default Stream<T> stream() {
+        return stream(Long.MAX_VALUE);
+    }
+
+    default Stream<T> stream(final long size) {
+        ensure(isNotNegative(size), "stream size cannot be negative");
+
+        return StreamSupport.stream(new GeneratorSpliterator<>(this, seed().nextSplit(), size), false);
+    }
+
+    default Stream<T> parallelStream(final long size) {
+        ensure(isNotNegative(size), "stream size cannot be negative");
+
+        return StreamSupport.stream(new GeneratorSpliterator<>(this, seed().nextSplit(), size), true);
+    }
 }
@@ -0,0 +1,68 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.SplitSeed;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+final class GeneratorSpliterator<T> extends ChunkedSpliterator<GeneratorSpliterator<T>> implements Spliterator<T> {
+
+    private final Generator<? extends T> generator;
+    private Object[] buffer;
+
+    GeneratorSpliterator(final Generator<? extends T> generator, final SplitSeed split, final long size) {
+        this(generator, split, 0, size);
+    }
+
+    private GeneratorSpliterator(final Generator<? extends T> generator, final SplitSeed split, final long origin, final long fence) {
+        super(split, origin, fence);
+        this.generator = generator;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (bufferPosition == bufferLimit) {
+            if (!hasNextChunk()) {
+                return false;
+            }
+            nextChunk();
+        }
+        action.accept(element(bufferPosition++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        while (bufferPosition < bufferLimit) {
+            action.accept(element(bufferPosition++));
+        }
+        while (hasNextChunk()) {
+            nextChunk();
+            while (bufferPosition < bufferLimit) {
+                action.accept(element(bufferPosition++));
+            }
+        }
+    }
+
+    @Override
+    GeneratorSpliterator<T> split(final SplitSeed split, final long origin, final long fence) {
+        return new GeneratorSpliterator<>(generator, split, origin, fence);
+    }
+
+    @Override
+    void fillBuffer(final int length) {
+        if (buffer == null) {
+            buffer = new Object[bufferCapacity()];
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[i] = generator.next();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T element(final int position) {
+        final T element = (T) buffer[position];
+        buffer[position] = null;
+        return element;
+    }
+}
@@ -0,0 +1,34 @@
+package uk.org.fyodor.generators;
+
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNegative;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+
+public interface IntGenerator extends Generator<Integer> {
+
+    int nextInt();
+
+    @Override
+    default Integer next() {
+        return nextInt();
+    }
+
+    default IntStream intStream() {
+        return intStream(Long.MAX_VALUE);
+    }
+
+    default IntStream intStream(final long size) {
+        ensure(isNotNegative(size), "stream size cannot be negative");
+
+        return StreamSupport.intStream(new IntGeneratorSpliterator(this, seed().nextSplit(), size), false);
+    }
+
+    default IntStream parallelIntStream(final long size) {
+        ensure(isNotNegative(size), "stream size cannot be negative");
+
+        return StreamSupport.intStream(new IntGeneratorSpliterator(this, seed().nextSplit(), size), true);
+    }
+}
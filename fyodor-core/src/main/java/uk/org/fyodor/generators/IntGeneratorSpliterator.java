@@ -0,0 +1,61 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.SplitSeed;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+final class IntGeneratorSpliterator extends ChunkedSpliterator<IntGeneratorSpliterator> implements Spliterator.OfInt {
+
+    private final IntGenerator generator;
+    private int[] buffer;
+
+    IntGeneratorSpliterator(final IntGenerator generator, final SplitSeed split, final long size) {
+        this(generator, split, 0, size);
+    }
+
+    private IntGeneratorSpliterator(final IntGenerator generator, final SplitSeed split, final long origin, final long fence) {
+        super(split, origin, fence);
+        this.generator = generator;
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        if (bufferPosition == bufferLimit) {
+            if (!hasNextChunk()) {
+                return false;
+            }
+            nextChunk();
+        }
+        action.accept(buffer[bufferPosition++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        while (bufferPosition < bufferLimit) {
+            action.accept(buffer[bufferPosition++]);
+        }
+        while (hasNextChunk()) {
+            nextChunk();
+            while (bufferPosition < bufferLimit) {
+                action.accept(buffer[bufferPosition++]);
+            }
+        }
+    }
+
+    @Override
+    IntGeneratorSpliterator split(final SplitSeed split, final long origin, final long fence) {
+        return new IntGeneratorSpliterator(generator, split, origin, fence);
+    }
+
+    @Override
+    void fillBuffer(final int length) {
+        if (buffer == null) {
+            buffer = new int[bufferCapacity()];
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[i] = generator.nextInt();
+        }
+    }
+}
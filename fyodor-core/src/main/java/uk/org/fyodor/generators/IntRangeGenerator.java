@@ -0,0 +1,22 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+final class IntRangeGenerator implements IntGenerator {
+
+    private final RandomValues randomValues;
+    private final int lower;
+    private final int upper;
+
+    IntRangeGenerator(final RandomValues randomValues, final Range<Integer> range) {
+        this.randomValues = randomValues;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+    }
+
+    @Override
+    public int nextInt() {
+        return randomValues.randomInteger(lower, upper);
+    }
+}
@@ -1,22 +1,38 @@
 package uk.org.fyodor.generators;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 
 public class Iso3CountryGenerator implements Generator<String> {
 
-    private final Generator<Locale> localeGenerator = RDG.locale();
+    private final Generator<String> countryGenerator = RDG.value(Countries.ISO_3_COUNTRIES);
 
     public String next() {
-        String country;
-        try {
-            country = localeGenerator.next().getISO3Country();
-        } catch (MissingResourceException e) {
-            return next();
-        }
-        if (country.isEmpty()) {
-            return next();
+        return countryGenerator.next();
+    }
+
+    /*
+    one entry per available locale that has a three letter country, so countries keep the weight they had
+    when a locale was drawn and retried until it had one
+     */
+    private static final class Countries {
+        private static final List<String> ISO_3_COUNTRIES = iso3Countries();
+
+        private static List<String> iso3Countries() {
+            final List<String> countries = new ArrayList<>();
+            for (final Locale locale : Locale.getAvailableLocales()) {
+                try {
+                    final String country = locale.getISO3Country();
+                    if (!country.isEmpty()) {
+                        countries.add(country);
+                    }
+                } catch (final MissingResourceException e) {
+                    /* no three letter code for this locale's country */
+                }
+            }
+            return countries;
         }
-        return country;
     }
 }
@@ -1,20 +1,34 @@
 package uk.org.fyodor.generators;
 
-import uk.org.fyodor.random.RandomValues;
-import uk.org.fyodor.range.Range;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
-final class LongGenerator implements Generator<Long> {
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNegative;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
 
-    private final RandomValues randomValues;
-    private final Range<Long> range;
+public interface LongGenerator extends Generator<Long> {
 
-    LongGenerator(final RandomValues randomValues, final Range<Long> range) {
-        this.randomValues = randomValues;
-        this.range = range;
-    }
+    long nextLong();
 
     @Override
-    public Long next() {
-        return randomValues.randomLong(range.lowerBound(), range.upperBound());
+    default Long next() {
+        return nextLong();
+    }
+
+    default LongStream longStream() {
+        return longStream(Long.MAX_VALUE);
+    }
+
+    default LongStream longStream(final long size) {
+        ensure(isNotNegative(size), "stream size cannot be negative");
+
+        return StreamSupport.longStream(new LongGeneratorSpliterator(this, seed().nextSplit(), size), false);
+    }
+
+    default LongStream parallelLongStream(final long size) {
+        ensure(isNotNegative(size), "stream size cannot be negative");
+
+        return StreamSupport.longStream(new LongGeneratorSpliterator(this, seed().nextSplit(), size), true);
     }
 }
@@ -0,0 +1,61 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.SplitSeed;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+final class LongGeneratorSpliterator extends ChunkedSpliterator<LongGeneratorSpliterator> implements Spliterator.OfLong {
+
+    private final LongGenerator generator;
+    private long[] buffer;
+
+    LongGeneratorSpliterator(final LongGenerator generator, final SplitSeed split, final long size) {
+        this(generator, split, 0, size);
+    }
+
+    private LongGeneratorSpliterator(final LongGenerator generator, final SplitSeed split, final long origin, final long fence) {
+        super(split, origin, fence);
+        this.generator = generator;
+    }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+        if (bufferPosition == bufferLimit) {
+            if (!hasNextChunk()) {
+                return false;
+            }
+            nextChunk();
+        }
+        action.accept(buffer[bufferPosition++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final LongConsumer action) {
+        while (bufferPosition < bufferLimit) {
+            action.accept(buffer[bufferPosition++]);
+        }
+        while (hasNextChunk()) {
+            nextChunk();
+            while (bufferPosition < bufferLimit) {
+                action.accept(buffer[bufferPosition++]);
+            }
+        }
+    }
+
+    @Override
+    LongGeneratorSpliterator split(final SplitSeed split, final long origin, final long fence) {
+        return new LongGeneratorSpliterator(generator, split, origin, fence);
+    }
+
+    @Override
+    void fillBuffer(final int length) {
+        if (buffer == null) {
+            buffer = new long[bufferCapacity()];
+        }
+        for (int i = 0; i < length; i++) {
+            buffer[i] = generator.nextLong();
+        }
+    }
+}
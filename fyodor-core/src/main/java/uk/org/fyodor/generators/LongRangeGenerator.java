@@ -0,0 +1,22 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+final class LongRangeGenerator implements LongGenerator {
+
+    private final RandomValues randomValues;
+    private final long lower;
+    private final long upper;
+
+    LongRangeGenerator(final RandomValues randomValues, final Range<Long> range) {
+        this.randomValues = randomValues;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+    }
+
+    @Override
+    public long nextLong() {
+        return randomValues.randomLong(lower, upper);
+    }
+}
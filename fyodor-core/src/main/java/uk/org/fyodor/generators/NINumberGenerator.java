@@ -1,21 +1,60 @@
 package uk.org.fyodor.generators;
 
-import uk.org.fyodor.generators.characters.CharacterSetFilter;
+import java.io.IOException;
+
+import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
 
 /*
 rules for format taken from http://en.wikipedia.org/wiki/National_Insurance_number#Format
  */
-public class NINumberGenerator implements Generator<String> {
+public class NINumberGenerator implements TextGenerator {
+
+    private static final String INVALID_PREFIXES = "BG GB NK KN TN NT ZZ";
+
+    private static final String TEMPLATE = "{oneOf:" + validPrefixes() + "}{digits:6}{oneOf:ABCD}";
 
-    private final Generator<String> beginning = RDG.string(2, CharacterSetFilter.LettersOnly);
-    private final Generator<String> end = RDG.string(1, "ABCD");
+    private final TextGenerator generator = new TemplateGenerator(sourceOfRandomness(), TEMPLATE);
+
+    @Override
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        return generator.appendTo(appendable);
+    }
 
     @Override
     public String next() {
-        String start = beginning.next();
-        if (start.matches("^(?!BG)(?!GB)(?!NK)(?!KN)(?!TN)(?!NT)(?!ZZ)(?:[A-CEGHJ-PR-TW-Z][A-CEGHJ-NPR-TW-Z])")) {
-            return String.format("%s%06d%s", start.toUpperCase(), RDG.integer(999999).next(), end.next());
+        return generator.next();
+    }
+
+    private static String validPrefixes() {
+        final StringBuilder prefixes = new StringBuilder();
+        for (char first = 'A'; first <= 'Z'; first++) {
+            for (char second = 'A'; second <= 'Z'; second++) {
+                if (isValidPrefix(first, second)) {
+                    prefixes.append(prefixes.length() == 0 ? "" : "|").append(first).append(second);
+                }
+            }
+        }
+        return prefixes.toString();
+    }
+
+    private static boolean isValidPrefix(final char first, final char second) {
+        return isValidFirstLetter(first) && isValidSecondLetter(second) && !isInvalidPrefix(first, second);
+    }
+
+    private static boolean isValidFirstLetter(final char c) {
+        return c != 'D' && c != 'F' && c != 'I' && c != 'Q' && c != 'U' && c != 'V';
+    }
+
+    private static boolean isValidSecondLetter(final char c) {
+        return isValidFirstLetter(c) && c != 'O';
+    }
+
+    private static boolean isInvalidPrefix(final char first, final char second) {
+        for (int i = 0; i < INVALID_PREFIXES.length(); i += 3) {
+            if (INVALID_PREFIXES.charAt(i) == first && INVALID_PREFIXES.charAt(i + 1) == second) {
+                return true;
+            }
         }
-        return next();
+        return false;
     }
 }
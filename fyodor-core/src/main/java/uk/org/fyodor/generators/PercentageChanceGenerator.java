@@ -1,9 +1,9 @@
 package uk.org.fyodor.generators;
 
-public class PercentageChanceGenerator implements Generator<Boolean> {
+public class PercentageChanceGenerator implements BooleanGenerator {
 
     private final int chance;
-    private final Generator<Integer> generator = RDG.integer(100);
+    private final IntGenerator generator = RDG.integer(99);
 
     public PercentageChanceGenerator(int chance) {
         if (chance < 1 || chance > 99) {
@@ -13,7 +13,7 @@ public class PercentageChanceGenerator implements Generator<Boolean> {
     }
 
     @Override
-    public Boolean next() {
-        return generator.next() < chance;
+    public boolean nextBoolean() {
+        return generator.nextInt() < chance;
     }
 }
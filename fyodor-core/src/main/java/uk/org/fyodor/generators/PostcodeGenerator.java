@@ -1,104 +1,37 @@
 package uk.org.fyodor.generators;
 
-import uk.org.fyodor.generators.characters.CharacterFilter;
-import uk.org.fyodor.generators.characters.CharacterSetFilter;
+import java.io.IOException;
 
-public class PostcodeGenerator implements Generator<String> {
+import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
 
-    private static Generator<String> letter = RDG.string(1, CharacterSetFilter.LettersOnly);
-    private static Generator<String> letterExceptIOrZ = RDG.string(1, new LetterExceptIOrZFilter());
-    private static Generator<Integer> number = RDG.integer(9);
-    private Generator<String> inwardCode = new InwardCodeGenerator();
-    private Generator<Boolean> girobankChanceGenerator = RDG.percentageChanceOf(1);
-    private Generator<OutwardCodeOptions> outwardCodeOptionsGenerator = RDG.value(OutwardCodeOptions.values());
+public class PostcodeGenerator implements TextGenerator {
 
-    public String next() {
-        return girobankChanceGenerator.next() ? "GIR 0AA" :
-                outwardCodeOptionsGenerator.next().getGenerator().next() +
-                        " " +
-                        inwardCode.next();
-    }
-
-    private enum OutwardCodeOptions {
-        twoLettersOneNumberOneLetter {
-            @Override
-            OutwardCodeOption getGenerator() {
-                return new TwoLettersOneNumberAndOneLetterOption();
-            }
-        },
-        oneLetterOneNumberOneLetter {
-            @Override
-            OutwardCodeOption getGenerator() {
-                return new OneLetterOneNumberOneLetterOption();
-            }
-        },
-        twoLettersOneOrTwoNumbers {
-            @Override
-            OutwardCodeOption getGenerator() {
-                return new TwoLettersAndOneOrTwoNumbersOption();
-            }
-        },
-        oneLetterOneOrTwoNumbers {
-            @Override
-            OutwardCodeOption getGenerator() {
-                return new OneLetterAndOneOrTwoNumbersOption();
-            }
-        };
-
-        abstract OutwardCodeOption getGenerator();
-    }
-
-    private interface OutwardCodeOption extends Generator<String> {
-    }
-
-    private static class InwardCodeGenerator implements Generator<String> {
-        @Override
-        public String next() {
-            return number.next() + letter.next() + letter.next();
-        }
-    }
+    private static final String LETTER_EXCEPT_I_OR_Z = "{oneOf:ABCDEFGHJKLMNOPQRSTUVWXYabcdefghjklmnopqrstuvwxy}";
+    private static final String INWARD_CODE = " {digits}{letters:2}";
 
-    private static class OneLetterOneNumberOneLetterOption implements OutwardCodeOption {
-        @Override
-        public String next() {
-            return letter.next() + number.next() + letter.next();
-        }
-    }
+    private final BooleanGenerator girobankChanceGenerator = RDG.percentageChanceOf(1);
+    private final Generator<TextGenerator> postcodeGenerator = RDG.value(
+            template("{letters}" + LETTER_EXCEPT_I_OR_Z + "{digits}{letters}" + INWARD_CODE),
+            template("{letters}{digits}{letters}" + INWARD_CODE),
+            template("{letters}" + LETTER_EXCEPT_I_OR_Z + "{digits:1-2}" + INWARD_CODE),
+            template("{letters}{digits:1-2}" + INWARD_CODE));
 
-    private static class TwoLettersAndOneOrTwoNumbersOption implements OutwardCodeOption {
-        @Override
-        public String next() {
-            return letter.next() +
-                    letterExceptIOrZ.next() +
-                    number.next() +
-                    (RDG.bool().next() ? number.next() : "");
+    @Override
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        if (girobankChanceGenerator.nextBoolean()) {
+            appendable.append("GIR 0AA");
+            return appendable;
         }
-    }
-
-    private static class TwoLettersOneNumberAndOneLetterOption implements OutwardCodeOption {
 
-        @Override
-        public String next() {
-            return letter.next() +
-                    letterExceptIOrZ.next() +
-                    number.next() +
-                    letter.next();
-        }
+        return postcodeGenerator.next().appendTo(appendable);
     }
 
-    private static class OneLetterAndOneOrTwoNumbersOption implements OutwardCodeOption {
-        @Override
-        public String next() {
-            return letter.next() + number.next() + (RDG.bool().next() ? number.next() : "");
-        }
+    @Override
+    public String next() {
+        return girobankChanceGenerator.nextBoolean() ? "GIR 0AA" : postcodeGenerator.next().next();
     }
 
-    private static class LetterExceptIOrZFilter implements CharacterFilter {
-        @Override
-        public boolean includeCharacter(char c) {
-            return CharacterSetFilter.LettersOnly.getFilter().includeCharacter(c) &&
-                    !"I".equalsIgnoreCase(String.valueOf(c)) &&
-                    !"Z".equalsIgnoreCase(String.valueOf(c));
-        }
+    private static TextGenerator template(final String template) {
+        return new TemplateGenerator(sourceOfRandomness(), template);
     }
 }
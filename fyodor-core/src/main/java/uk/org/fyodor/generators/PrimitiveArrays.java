@@ -0,0 +1,77 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.generators.characters.CharacterSet;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.nio.ByteBuffer;
+
+import static uk.org.fyodor.range.Range.closed;
+
+/*
+primitive arrays are allocated once at their drawn size and filled by the bulk operations on RandomValues, so no
+element is boxed and there is no cap on the size beyond the largest array the vm will allocate
+ */
+final class PrimitiveArrays {
+
+    private static final Range<Integer> MAXIMUM_SIZE = closed(0, Integer.MAX_VALUE - 8);
+
+    static Generator<int[]> integers(final RandomValues randomValues, final Range<Integer> range, final Range<Integer> sizeRange) {
+        final IntGenerator sizes = sizes(randomValues, sizeRange);
+        final int lower = range.lowerBound();
+        final int upper = range.upperBound();
+        return () -> {
+            final int[] integers = new int[sizes.nextInt()];
+            randomValues.fillIntegers(integers, lower, upper);
+            return integers;
+        };
+    }
+
+    static Generator<long[]> longs(final RandomValues randomValues, final Range<Long> range, final Range<Integer> sizeRange) {
+        final IntGenerator sizes = sizes(randomValues, sizeRange);
+        final long lower = range.lowerBound();
+        final long upper = range.upperBound();
+        return () -> {
+            final long[] longs = new long[sizes.nextInt()];
+            randomValues.fillLongs(longs, lower, upper);
+            return longs;
+        };
+    }
+
+    static Generator<double[]> doubles(final RandomValues randomValues, final Range<Double> range, final Range<Integer> sizeRange) {
+        final IntGenerator sizes = sizes(randomValues, sizeRange);
+        final double lower = range.lowerBound();
+        final double upper = range.upperBound();
+        return () -> {
+            final double[] doubles = new double[sizes.nextInt()];
+            randomValues.fillDoubles(doubles, lower, upper);
+            return doubles;
+        };
+    }
+
+    static Generator<byte[]> bytes(final RandomValues randomValues, final Range<Integer> sizeRange) {
+        final IntGenerator sizes = sizes(randomValues, sizeRange);
+        return () -> {
+            final byte[] bytes = new byte[sizes.nextInt()];
+            randomValues.fillBytes(ByteBuffer.wrap(bytes));
+            return bytes;
+        };
+    }
+
+    static Generator<char[]> chars(final RandomValues randomValues, final CharacterSet charSet, final Range<Integer> sizeRange) {
+        final IntGenerator sizes = sizes(randomValues, sizeRange);
+        final CharacterSampler sampler = new CharacterSampler(randomValues, charSet);
+        return () -> {
+            final char[] chars = new char[sizes.nextInt()];
+            sampler.fill(chars, 0, chars.length);
+            return chars;
+        };
+    }
+
+    private static IntGenerator sizes(final RandomValues randomValues, final Range<Integer> sizeRange) {
+        return new IntRangeGenerator(randomValues, sizeRange.limit(MAXIMUM_SIZE));
+    }
+
+    private PrimitiveArrays() {
+    }
+}
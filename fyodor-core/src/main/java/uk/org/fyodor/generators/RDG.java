@@ -4,22 +4,24 @@ import uk.org.fyodor.generators.characters.CharacterFilter;
 import uk.org.fyodor.generators.characters.CharacterSetFilter;
 import uk.org.fyodor.generators.characters.CharacterSetGenerator;
 import uk.org.fyodor.generators.characters.CharacterSetRange;
-import uk.org.fyodor.generators.collections.ArrayGenerator;
-import uk.org.fyodor.generators.collections.ListGenerator;
-import uk.org.fyodor.generators.collections.MapGenerator;
-import uk.org.fyodor.generators.collections.SetGenerator;
+import uk.org.fyodor.generators.characters.CharacterSets;
+import uk.org.fyodor.generators.collections.*;
+import uk.org.fyodor.generators.distributions.*;
 import uk.org.fyodor.generators.time.*;
+import uk.org.fyodor.generators.unique.UniqueFilterGenerator;
+import uk.org.fyodor.generators.unique.UniqueIntGenerator;
+import uk.org.fyodor.generators.unique.UniqueLongGenerator;
 import uk.org.fyodor.range.Range;
 
 import java.math.BigDecimal;
 import java.net.URI;
 import java.time.*;
 import java.util.*;
+import java.util.function.ToLongFunction;
 
 import static java.lang.String.format;
 import static java.time.ZoneId.getAvailableZoneIds;
 import static java.util.Arrays.asList;
-import static java.util.UUID.nameUUIDFromBytes;
 import static uk.org.fyodor.generators.Validations.*;
 import static uk.org.fyodor.generators.time.Timekeeper.current;
 import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
@@ -29,60 +31,43 @@ import static uk.org.fyodor.range.Range.fixed;
 @SuppressWarnings("WeakerAccess")
 public class RDG {
 
-    private static final Generator<String> STRING_GENERATOR = string(30);
-    private static final Generator<Integer> INTEGER_GENERATOR = integer(closed(Integer.MIN_VALUE, Integer.MAX_VALUE));
-    private static final BooleanGenerator BOOLEAN_GENERATOR = new BooleanGenerator(sourceOfRandomness());
-    private static final Generator<Long> LONG_GENERATOR = longVal(closed(Long.MIN_VALUE, Long.MAX_VALUE));
-    private static final Generator<Double> DOUBLE_GENERATOR = doubleVal(closed(Double.MIN_VALUE, Double.MAX_VALUE));
-    private static final Generator<BigDecimal> BIG_DECIMAL_GENERATOR = bigDecimal(closed(BigDecimal.valueOf(Double.MIN_VALUE), BigDecimal.valueOf(Double.MAX_VALUE)));
-    private static final DomainGenerator DOMAIN_GENERATOR = new DomainGenerator();
-    private static final SuffixGenerator SUFFIX_GENERATOR = new SuffixGenerator();
-    private static final UriGenerator URI_GENERATOR = new UriGenerator();
-    private static final EmailAddressGenerator EMAIL_ADDRESS_GENERATOR = new EmailAddressGenerator();
-    private static final NINumberGenerator NI_NUMBER_GENERATOR = new NINumberGenerator();
-    private static final PostcodeGenerator POSTCODE_GENERATOR = new PostcodeGenerator();
-    private static final CurrencyGenerator CURRENCY_GENERATOR = new CurrencyGenerator();
-    private static final LocaleGenerator LOCALE_GENERATOR = new LocaleGenerator();
-    private static final Iso3CountryGenerator ISO_3_COUNTRY_GENERATOR = new Iso3CountryGenerator();
-    private static final Generator<String> REGION_BASED_ZONE_ID_GENERATOR = value(getAvailableZoneIds());
-
-    public static Generator<Instant> instant() {
+    public static InstantGenerator instant() {
         return instant(InstantRange.all());
     }
 
-    public static Generator<Instant> instant(final InstantRange range) {
+    public static InstantGenerator instant(final InstantRange range) {
         return instant((Range<Instant>) range);
     }
 
-    public static Generator<Instant> instant(final Range<Instant> range) {
+    public static InstantGenerator instant(final Range<Instant> range) {
         ensure(isNotNull(range), "instant range cannot be null");
 
         return new InstantGenerator(sourceOfRandomness(), range);
     }
 
-    public static Generator<LocalTime> localTime() {
+    public static LocalTimeGenerator localTime() {
         return localTime(LocalTimeRange.all());
     }
 
-    public static Generator<LocalTime> localTime(final LocalTimeRange range) {
+    public static LocalTimeGenerator localTime(final LocalTimeRange range) {
         return localTime((Range<LocalTime>) range);
     }
 
-    public static Generator<LocalTime> localTime(final Range<LocalTime> range) {
+    public static LocalTimeGenerator localTime(final Range<LocalTime> range) {
         ensure(isNotNull(range), "time range cannot be null");
 
         return new LocalTimeGenerator(sourceOfRandomness(), range);
     }
 
-    public static Generator<LocalDate> localDate() {
+    public static LocalDateGenerator localDate() {
         return localDate(LocalDateRange.all());
     }
 
-    public static Generator<LocalDate> localDate(final LocalDateRange range) {
+    public static LocalDateGenerator localDate(final LocalDateRange range) {
         return localDate((Range<LocalDate>) range);
     }
 
-    public static Generator<LocalDate> localDate(final Range<LocalDate> range) {
+    public static LocalDateGenerator localDate(final Range<LocalDate> range) {
         ensure(isNotNull(range), "date range cannot be null");
 
         return new LocalDateGenerator(sourceOfRandomness(), range);
@@ -119,12 +104,60 @@ public class RDG {
         return () -> date.next().atTime(time.next());
     }
 
+    public static LocalDateTimeGenerator localDateTime(final Range<LocalDateTime> range) {
+        ensure(isNotNull(range), "date time range cannot be null");
+
+        return new LocalDateTimeGenerator(sourceOfRandomness(), range);
+    }
+
+    public static OffsetDateTimeGenerator offsetDateTime() {
+        final Range<Instant> range = closed(
+                LocalDateTime.MIN.toInstant(ZoneOffset.MIN),
+                LocalDateTime.MAX.toInstant(ZoneOffset.MAX));
+        return new OffsetDateTimeGenerator(sourceOfRandomness(), range, current().zone());
+    }
+
+    /*
+    the range bounds the instants, not the local date times, and every value is given the offset of the lower bound,
+    so with bounds at different offsets the upper bound is reached at the lower bound's offset rather than its own
+     */
+    public static OffsetDateTimeGenerator offsetDateTime(final Range<OffsetDateTime> range) {
+        ensure(isNotNull(range), "date time range cannot be null");
+
+        final Range<Instant> instants = closed(range.lowerBound().toInstant(), range.upperBound().toInstant());
+        return new OffsetDateTimeGenerator(sourceOfRandomness(), instants, range.lowerBound().getOffset());
+    }
+
+    public static YearMonthGenerator yearMonth() {
+        return yearMonth(closed(YearMonth.of(Year.MIN_VALUE, Month.JANUARY), YearMonth.of(Year.MAX_VALUE, Month.DECEMBER)));
+    }
+
+    public static YearMonthGenerator yearMonth(final Range<YearMonth> range) {
+        ensure(isNotNull(range), "year month range cannot be null");
+
+        return new YearMonthGenerator(sourceOfRandomness(), range);
+    }
+
+    public static DurationGenerator duration(final Range<Duration> range) {
+        ensure(isNotNull(range), "duration range cannot be null");
+
+        return new DurationGenerator(sourceOfRandomness(), range);
+    }
+
+    public static PeriodGenerator period(final Period maximum) {
+        ensure(isNotNull(maximum), "maximum period cannot be null");
+        ensure(!maximum.isNegative(), "maximum period cannot be negative");
+
+        final LocalDate today = current().date();
+        return new PeriodGenerator(sourceOfRandomness(), closed(today, today.plus(maximum)));
+    }
+
     public static Generator<ZoneId> zoneId() {
-        return () -> ZoneId.of(REGION_BASED_ZONE_ID_GENERATOR.next());
+        return () -> ZoneId.of(ZoneIds.REGION_BASED_ZONE_ID_GENERATOR.next());
     }
 
-    public static Generator<Boolean> bool() {
-        return BOOLEAN_GENERATOR;
+    public static BooleanGenerator bool() {
+        return Numbers.BOOLEAN_GENERATOR;
     }
 
     public static Generator<Byte> byteVal() {
@@ -135,14 +168,60 @@ public class RDG {
         ensure(range.lowerBound() >= Byte.MIN_VALUE, format("Lower bound %s must be within the range %s..%s", range.lowerBound(), Byte.MIN_VALUE, Byte.MAX_VALUE));
         ensure(range.upperBound() <= Byte.MAX_VALUE, format("Upper bound %s must be within the range %s..%s", range.upperBound(), Byte.MIN_VALUE, Byte.MAX_VALUE));
 
-        return () -> sourceOfRandomness()
-                .randomByte(range.lowerBound().byteValue(), range.upperBound().byteValue());
+        final byte lower = range.lowerBound().byteValue();
+        final byte upper = range.upperBound().byteValue();
+        return () -> sourceOfRandomness().randomByte(lower, upper);
     }
 
     public static Generator<byte[]> byteArray() {
         return () -> sourceOfRandomness().randomBytes(10);
     }
 
+    public static Generator<byte[]> byteArray(final Range<Integer> sizeRange) {
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+
+        return PrimitiveArrays.bytes(sourceOfRandomness(), sizeRange);
+    }
+
+    public static Generator<int[]> intArray(final Range<Integer> range, final Range<Integer> sizeRange) {
+        ensure(isNotNull(range), "range cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+
+        return PrimitiveArrays.integers(sourceOfRandomness(), range, sizeRange);
+    }
+
+    public static Generator<long[]> longArray(final Range<Long> range, final Range<Integer> sizeRange) {
+        ensure(isNotNull(range), "range cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+
+        return PrimitiveArrays.longs(sourceOfRandomness(), range, sizeRange);
+    }
+
+    public static Generator<double[]> doubleArray(final Range<Double> range, final Range<Integer> sizeRange) {
+        ensure(isNotNull(range), "range cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(isNumber(range.lowerBound()) && isNotInfinite(range.lowerBound()), "lower bound must be a number and cannot be infinite");
+        ensure(isNumber(range.upperBound()) && isNotInfinite(range.upperBound()), "upper bound must be a number and cannot be infinite");
+
+        return PrimitiveArrays.doubles(sourceOfRandomness(), range, sizeRange);
+    }
+
+    public static Generator<char[]> charArray(final Range<Integer> sizeRange) {
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+
+        return PrimitiveArrays.chars(sourceOfRandomness(),
+                new CharacterSetGenerator(CharacterSetFilter.AllExceptDoubleQuotes, CharacterSetRange.defaultLatinBasic).getCharacterSet(),
+                sizeRange);
+    }
+
+    public static Generator<char[]> charArray(final Range<Integer> sizeRange, final char[] chars) {
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(isNotNull(chars), "characters cannot be null");
+        ensure(chars.length > 0, "characters cannot be empty");
+
+        return PrimitiveArrays.chars(sourceOfRandomness(), CharacterSets.of(chars), sizeRange);
+    }
+
     public static Generator<Short> shortVal() {
         return shortVal(closed((int) Short.MIN_VALUE, (int) Short.MAX_VALUE));
     }
@@ -151,53 +230,54 @@ public class RDG {
         ensure(range.lowerBound() >= Short.MIN_VALUE, format("Lower bound %s must be within the range %s..%s", range.lowerBound(), Short.MIN_VALUE, Short.MAX_VALUE));
         ensure(range.upperBound() <= Short.MAX_VALUE, format("Upper bound %s must be within the range %s..%s", range.upperBound(), Short.MIN_VALUE, Short.MAX_VALUE));
 
-        return () -> sourceOfRandomness()
-                .randomShort(range.lowerBound().shortValue(), range.upperBound().shortValue());
+        final short lower = range.lowerBound().shortValue();
+        final short upper = range.upperBound().shortValue();
+        return () -> sourceOfRandomness().randomShort(lower, upper);
     }
 
-    public static Generator<Integer> integer() {
-        return INTEGER_GENERATOR;
+    public static IntGenerator integer() {
+        return Numbers.INTEGER_GENERATOR;
     }
 
-    public static Generator<Integer> integer(final int maximum) {
+    public static IntGenerator integer(final int maximum) {
         ensure(isNotNegative(maximum), "maximum cannot be negative");
 
         return integer(closed(0, maximum));
     }
 
-    public static Generator<Integer> integer(final Range<Integer> range) {
+    public static IntGenerator integer(final Range<Integer> range) {
         ensure(isNotNull(range), "range cannot be null");
 
-        return new IntegerGenerator(sourceOfRandomness(), range);
+        return new IntRangeGenerator(sourceOfRandomness(), range);
     }
 
-    public static Generator<Long> longVal() {
-        return LONG_GENERATOR;
+    public static LongGenerator longVal() {
+        return Numbers.LONG_GENERATOR;
     }
 
-    public static Generator<Long> longVal(final long maximum) {
+    public static LongGenerator longVal(final long maximum) {
         ensure(isNotNegative(maximum), "maximum cannot be negative");
 
         return longVal(closed(0L, maximum));
     }
 
-    public static Generator<Long> longVal(final Range<Long> range) {
+    public static LongGenerator longVal(final Range<Long> range) {
         ensure(isNotNull(range), "range cannot be null");
 
-        return new LongGenerator(sourceOfRandomness(), range);
+        return new LongRangeGenerator(sourceOfRandomness(), range);
     }
 
-    public static Generator<Double> doubleVal() {
-        return DOUBLE_GENERATOR;
+    public static DoubleGenerator doubleVal() {
+        return Numbers.DOUBLE_GENERATOR;
     }
 
-    public static Generator<Double> doubleVal(final double maximum) {
+    public static DoubleGenerator doubleVal(final double maximum) {
         ensure(isNotNegative(maximum), "maximum cannot be negative");
 
         return doubleVal(closed(0.0, maximum));
     }
 
-    public static Generator<Double> doubleVal(final Range<Double> range) {
+    public static DoubleGenerator doubleVal(final Range<Double> range) {
         ensure(isNotNull(range), "range cannot be null");
 
         final double lowerBound = range.lowerBound();
@@ -206,11 +286,11 @@ public class RDG {
         final double upperBound = range.upperBound();
         ensure(isNumber(upperBound) && isNotInfinite(upperBound), "upper bound must be a number and cannot be infinite");
 
-        return new DoubleGenerator(sourceOfRandomness(), range);
+        return new DoubleRangeGenerator(sourceOfRandomness(), range);
     }
 
     public static Generator<BigDecimal> bigDecimal() {
-        return BIG_DECIMAL_GENERATOR;
+        return Numbers.BIG_DECIMAL_GENERATOR;
     }
 
     public static Generator<BigDecimal> bigDecimal(final double val) {
@@ -236,92 +316,109 @@ public class RDG {
         return new BigDecimalGenerator(sourceOfRandomness(), range, scale);
     }
 
-    public static Generator<UUID> uuid() {
-        return () -> nameUUIDFromBytes(sourceOfRandomness().randomBytes(5));
+    public static UuidGenerator uuid() {
+        return Uuids.UUID_GENERATOR;
     }
 
-    public static Generator<String> string() {
-        return STRING_GENERATOR;
+    public static UuidGenerator timeOrderedUuid() {
+        return new TimeOrderedUuidGenerator(sourceOfRandomness());
     }
 
-    public static Generator<String> string(Integer max) {
+    public static TextGenerator string() {
+        return Strings.STRING_GENERATOR;
+    }
+
+    public static TextGenerator string(Integer max) {
         return new StringGenerator(max);
     }
 
-    public static Generator<String> string(Integer max, String charset) {
+    public static TextGenerator string(Integer max, String charset) {
         return new StringGenerator(max, charset);
     }
 
-    public static Generator<String> string(Range<Integer> range, String charset) {
+    public static TextGenerator string(Range<Integer> range, String charset) {
         return new StringGenerator(range, charset);
     }
 
-    public static Generator<String> string(Integer max, CharacterFilter filter) {
+    public static TextGenerator string(Integer max, CharacterFilter filter) {
         return new StringGenerator(max, filter);
     }
 
-    public static Generator<String> string(Range<Integer> range, CharacterFilter filter) {
+    public static TextGenerator string(Range<Integer> range, CharacterFilter filter) {
         return new StringGenerator(range, filter);
     }
 
-    public static Generator<String> string(Integer max, CharacterSetFilter filter) {
+    public static TextGenerator string(Integer max, CharacterSetFilter filter) {
         return new StringGenerator(max, filter.getFilter());
     }
 
     @SafeVarargs
-    public static Generator<String> string(Integer max, CharacterFilter filter, Range<Integer>... ranges) {
+    public static TextGenerator string(Integer max, CharacterFilter filter, Range<Integer>... ranges) {
         return new StringGenerator(max, new CharacterSetGenerator(filter, ranges));
     }
 
     @SafeVarargs
-    public static Generator<String> string(Integer max, CharacterSetFilter filter, Range<Integer>... ranges) {
+    public static TextGenerator string(Integer max, CharacterSetFilter filter, Range<Integer>... ranges) {
         return new StringGenerator(max, new CharacterSetGenerator(filter.getFilter(), ranges));
     }
 
-    public static Generator<String> string(Range<Integer> range, CharacterSetFilter filter) {
+    public static TextGenerator string(Range<Integer> range, CharacterSetFilter filter) {
         return new StringGenerator(range, filter.getFilter());
     }
 
     @SafeVarargs
-    public static Generator<String> string(Range<Integer> range, CharacterSetFilter filter, Range<Integer>... ranges) {
+    public static TextGenerator string(Range<Integer> range, CharacterSetFilter filter, Range<Integer>... ranges) {
         return new StringGenerator(range, new CharacterSetGenerator(filter.getFilter(), ranges));
     }
 
     @SafeVarargs
-    public static Generator<String> string(Range<Integer> range, CharacterFilter filter, Range<Integer>... ranges) {
+    public static TextGenerator string(Range<Integer> range, CharacterFilter filter, Range<Integer>... ranges) {
         return new StringGenerator(range, new CharacterSetGenerator(filter, ranges));
     }
 
     @SafeVarargs
-    public static Generator<String> string(Integer max, Range<Integer>... ranges) {
+    public static TextGenerator string(Integer max, Range<Integer>... ranges) {
         return new StringGenerator(max, ranges);
     }
 
-    public static Generator<String> string(Integer max, CharacterSetRange... characterSetRanges) {
+    public static TextGenerator string(Integer max, CharacterSetRange... characterSetRanges) {
         return new StringGenerator(max, characterSetRanges);
     }
 
-    public static Generator<String> string(Integer max, char[] chars) {
+    public static TextGenerator string(Integer max, char[] chars) {
         return new StringGenerator(max, chars);
     }
 
-    public static Generator<String> string(Range<Integer> range, char[] chars) {
+    public static TextGenerator string(Range<Integer> range, char[] chars) {
         return new StringGenerator(range, chars);
     }
 
-    public static Generator<String> string(Range<Integer> range) {
+    public static TextGenerator string(Range<Integer> range) {
         return new StringGenerator(range);
     }
 
     @SafeVarargs
-    public static Generator<String> string(Range<Integer> stringLength, Range<Integer>... charSetRanges) {
+    public static TextGenerator string(Range<Integer> stringLength, Range<Integer>... charSetRanges) {
         return new StringGenerator(stringLength, charSetRanges);
     }
 
-    public static Generator<String> string(Range<Integer> stringLength, CharacterSetRange... charSetRanges) {
+    public static TextGenerator string(Range<Integer> stringLength, CharacterSetRange... charSetRanges) {
         return new StringGenerator(stringLength, charSetRanges);
     }
 
+    public static TextGenerator uniqueString(final Range<Integer> range) {
+        ensure(isNotNull(range), "range cannot be null");
+
+        return new StringGenerator(range).unique();
+    }
+
+    public static TextGenerator uniqueString(final Range<Integer> range, final char[] chars) {
+        ensure(isNotNull(range), "range cannot be null");
+        ensure(isNotNull(chars), "characters cannot be null");
+
+        return new StringGenerator(range, chars).unique();
+    }
+
     public static <T extends Enum<T>> Generator<T> value(final Class<T> classOfEnumT) {
         ensure(isNotNull(classOfEnumT), "enum class cannot be null");
 
@@ -354,56 +451,162 @@ public class RDG {
         return new ValueGenerator<>(sourceOfRandomness(), iterableOfT);
     }
 
+    public static <T> Generator<T> weighted(final Map<T, Double> weightedValues) {
+        ensure(isNotNull(weightedValues), "weighted values cannot be null");
+        ensure(!weightedValues.isEmpty(), "there must be at-least one weighted value");
+
+        return new WeightedValueGenerator<>(sourceOfRandomness(), weightedValues);
+    }
+
+    public static UniqueIntGenerator uniqueIntegers(final Range<Integer> range) {
+        ensure(isNotNull(range), "range cannot be null");
+
+        return new UniqueIntGenerator(sourceOfRandomness(), range);
+    }
+
+    public static UniqueLongGenerator uniqueLongs(final Range<Long> range) {
+        ensure(isNotNull(range), "range cannot be null");
+
+        return new UniqueLongGenerator(sourceOfRandomness(), range);
+    }
+
+    public static <T> UniqueFilterGenerator<T> unique(final Generator<? extends T> generator,
+                                                      final long expectedCount,
+                                                      final double falsePositiveRate) {
+        ensure(isNotNull(generator), "generator cannot be null");
+        ensure(expectedCount > 0, "expected count must be greater than zero");
+        ensure(falsePositiveRate > 0 && falsePositiveRate < 1, "false positive rate must be between 0 and 1");
+
+        return new UniqueFilterGenerator<>(generator, expectedCount, falsePositiveRate);
+    }
+
+    public static <T> UniqueFilterGenerator<T> unique(final Generator<? extends T> generator,
+                                                      final ToLongFunction<? super T> fingerprint,
+                                                      final long expectedCount,
+                                                      final double falsePositiveRate) {
+        ensure(isNotNull(generator), "generator cannot be null");
+        ensure(isNotNull(fingerprint), "fingerprint cannot be null");
+        ensure(expectedCount > 0, "expected count must be greater than zero");
+        ensure(falsePositiveRate > 0 && falsePositiveRate < 1, "false positive rate must be between 0 and 1");
+
+        return new UniqueFilterGenerator<>(generator, fingerprint, expectedCount, falsePositiveRate);
+    }
+
+    public static GaussianGenerator gaussian(final double mean, final double standardDeviation) {
+        return gaussian(mean, standardDeviation, closed(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+    }
+
+    public static GaussianGenerator gaussian(final double mean, final double standardDeviation, final Range<Double> range) {
+        ensure(isNumber(mean) && isNotInfinite(mean), "mean must be a number and cannot be infinite");
+        ensure(isNotNegative(standardDeviation) && isNotInfinite(standardDeviation), "standard deviation must be a number that is not negative or infinite");
+        ensureDistributionRange(range);
+
+        return new GaussianGenerator(sourceOfRandomness(), mean, standardDeviation, range);
+    }
+
+    public static LogNormalGenerator logNormal(final double mu, final double sigma) {
+        return logNormal(mu, sigma, closed(0.0, Double.POSITIVE_INFINITY));
+    }
+
+    public static LogNormalGenerator logNormal(final double mu, final double sigma, final Range<Double> range) {
+        ensure(isNumber(mu) && isNotInfinite(mu), "mu must be a number and cannot be infinite");
+        ensure(isNotNegative(sigma) && isNotInfinite(sigma), "sigma must be a number that is not negative or infinite");
+        ensureDistributionRange(range);
+
+        return new LogNormalGenerator(sourceOfRandomness(), mu, sigma, range);
+    }
+
+    public static ExponentialGenerator exponential(final double mean) {
+        return exponential(mean, closed(0.0, Double.POSITIVE_INFINITY));
+    }
+
+    public static ExponentialGenerator exponential(final double mean, final Range<Double> range) {
+        ensure(mean > 0 && isNotInfinite(mean), "mean must be greater than zero and cannot be infinite");
+        ensureDistributionRange(range);
+
+        return new ExponentialGenerator(sourceOfRandomness(), mean, range);
+    }
+
+    public static PoissonGenerator poisson(final double mean) {
+        return poisson(mean, closed(0L, Long.MAX_VALUE));
+    }
+
+    public static PoissonGenerator poisson(final double mean, final Range<Long> range) {
+        ensure(isNotNegative(mean) && isNotInfinite(mean), "mean must be a number that is not negative or infinite");
+        ensure(isNotNull(range), "range cannot be null");
+
+        return new PoissonGenerator(sourceOfRandomness(), mean, range);
+    }
+
+    public static ZipfGenerator zipf(final int numberOfElements, final double exponent) {
+        ensure(numberOfElements > 0, "number of elements must be greater than zero");
+
+        return zipf(numberOfElements, exponent, closed(1, numberOfElements));
+    }
+
+    public static ZipfGenerator zipf(final int numberOfElements, final double exponent, final Range<Integer> range) {
+        ensure(numberOfElements > 0, "number of elements must be greater than zero");
+        ensure(exponent > 0 && isNotInfinite(exponent), "exponent must be greater than zero and cannot be infinite");
+        ensure(isNotNull(range), "range cannot be null");
+
+        return new ZipfGenerator(sourceOfRandomness(), numberOfElements, exponent, range);
+    }
+
+    private static void ensureDistributionRange(final Range<Double> range) {
+        ensure(isNotNull(range), "range cannot be null");
+        ensure(isNumber(range.lowerBound()) && isNumber(range.upperBound()), "range bounds must be numbers");
+    }
+
     public static Generator<URI> uri() {
-        return URI_GENERATOR;
+        return Uris.URI_GENERATOR;
     }
 
     public static Generator<String> domainSuffix() {
-        return SUFFIX_GENERATOR;
+        return DomainSuffixes.SUFFIX_GENERATOR;
     }
 
-    public static Generator<String> emailAddress() {
-        return EMAIL_ADDRESS_GENERATOR;
+    public static TextGenerator emailAddress() {
+        return EmailAddresses.EMAIL_ADDRESS_GENERATOR;
     }
 
-    public static Generator<String> domain() {
-        return DOMAIN_GENERATOR;
+    public static DomainGenerator domain() {
+        return Domains.DOMAIN_GENERATOR;
     }
 
-    public static Generator<String> domain(Range<Integer> range) {
+    public static DomainGenerator domain(Range<Integer> range) {
         return new DomainGenerator(range);
     }
 
-    public static <T> Generator<List<T>> list(final Generator<? extends T> generatorOfT) {
+    public static <T> ListGenerator<T> list(final Generator<? extends T> generatorOfT) {
         return list(generatorOfT, 15);
     }
 
-    public static <T> Generator<List<T>> list(final Generator<? extends T> generatorOfT, final int size) {
+    public static <T> ListGenerator<T> list(final Generator<? extends T> generatorOfT, final int size) {
         return list(generatorOfT, fixed(size));
     }
 
-    public static <T> Generator<List<T>> list(final Generator<? extends T> generatorOfT,
-                                              final Range<Integer> sizeRange) {
+    public static <T> ListGenerator<T> list(final Generator<? extends T> generatorOfT,
+                                            final Range<Integer> sizeRange) {
         ensure(isNotNull(generatorOfT), "generator cannot be null");
         ensure(isNotNull(sizeRange), "size range cannot be null");
 
         return new ListGenerator<>(sourceOfRandomness(), generatorOfT, sizeRange);
     }
 
-    public static <T> Generator<T[]> array(final Class<? extends T> classOfT,
-                                           final Generator<? extends T> generatorOfT) {
+    public static <T> ArrayGenerator<T> array(final Class<? extends T> classOfT,
+                                              final Generator<? extends T> generatorOfT) {
         return array(classOfT, generatorOfT, 15);
     }
 
-    public static <T> Generator<T[]> array(final Class<? extends T> classOfT,
-                                           final Generator<? extends T> generatorOfT,
-                                           final int size) {
+    public static <T> ArrayGenerator<T> array(final Class<? extends T> classOfT,
+                                              final Generator<? extends T> generatorOfT,
+                                              final int size) {
         return array(classOfT, generatorOfT, fixed(size));
     }
 
-    public static <T> Generator<T[]> array(final Class<? extends T> classOfT,
-                                           final Generator<? extends T> generatorOfT,
-                                           final Range<Integer> sizeRange) {
+    public static <T> ArrayGenerator<T> array(final Class<? extends T> classOfT,
+                                              final Generator<? extends T> generatorOfT,
+                                              final Range<Integer> sizeRange) {
         ensure(isNotNull(classOfT), "type of array elements cannot be null");
         ensure(isNotNull(generatorOfT), "generator cannot be null");
         ensure(isNotNull(sizeRange), "size range cannot be null");
@@ -411,36 +614,36 @@ public class RDG {
         return new ArrayGenerator<>(sourceOfRandomness(), classOfT, generatorOfT, sizeRange);
     }
 
-    public static <T> Generator<Set<T>> set(final Generator<? extends T> generatorOfT) {
+    public static <T> SetGenerator<T> set(final Generator<? extends T> generatorOfT) {
         return set(generatorOfT, 15);
     }
 
-    public static <T> Generator<Set<T>> set(final Generator<? extends T> generatorOfT, final int size) {
+    public static <T> SetGenerator<T> set(final Generator<? extends T> generatorOfT, final int size) {
         return set(generatorOfT, fixed(size));
     }
 
-    public static <T> Generator<Set<T>> set(final Generator<? extends T> generatorOfT,
-                                            final Range<Integer> sizeRange) {
+    public static <T> SetGenerator<T> set(final Generator<? extends T> generatorOfT,
+                                          final Range<Integer> sizeRange) {
         ensure(isNotNull(generatorOfT), "generator cannot be null");
         ensure(isNotNull(sizeRange), "size range cannot be null");
 
         return new SetGenerator<>(sourceOfRandomness(), generatorOfT, sizeRange);
     }
 
-    public static <K, V> Generator<Map<K, V>> map(final Generator<? extends K> generatorOfK,
-                                                  final Generator<? extends V> generatorOfV) {
+    public static <K, V> MapGenerator<K, V> map(final Generator<? extends K> generatorOfK,
+                                                final Generator<? extends V> generatorOfV) {
         return map(generatorOfK, generatorOfV, 15);
     }
 
-    public static <K, V> Generator<Map<K, V>> map(final Generator<? extends K> generatorOfK,
-                                                  final Generator<? extends V> generatorOfV,
-                                                  final int size) {
+    public static <K, V> MapGenerator<K, V> map(final Generator<? extends K> generatorOfK,
+                                                final Generator<? extends V> generatorOfV,
+                                                final int size) {
         return map(generatorOfK, generatorOfV, fixed(size));
     }
 
-    public static <K, V> Generator<Map<K, V>> map(final Generator<? extends K> generatorOfK,
-                                                  final Generator<? extends V> generatorOfV,
-                                                  final Range<Integer> sizeRange) {
+    public static <K, V> MapGenerator<K, V> map(final Generator<? extends K> generatorOfK,
+                                                final Generator<? extends V> generatorOfV,
+                                                final Range<Integer> sizeRange) {
         ensure(isNotNull(generatorOfK), "key generator cannot be null");
         ensure(isNotNull(generatorOfV), "value generator cannot be null");
         ensure(isNotNull(sizeRange), "size range cannot be null");
@@ -448,28 +651,155 @@ public class RDG {
         return new MapGenerator<>(sourceOfRandomness(), generatorOfK, generatorOfV, sizeRange);
     }
 
-    public static Generator<String> niNumber() {
-        return NI_NUMBER_GENERATOR;
+    public static IntSetGenerator intSet(final Range<Integer> range, final Range<Integer> sizeRange) {
+        ensure(isNotNull(range), "range cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(holdsAtLeast((long) range.upperBound() - range.lowerBound(), sizeRange), "range must hold at least as many values as the largest size");
+
+        return new IntSetGenerator(sourceOfRandomness(), range, sizeRange);
+    }
+
+    public static LongSetGenerator longSet(final Range<Long> range, final Range<Integer> sizeRange) {
+        ensure(isNotNull(range), "range cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(holdsAtLeast(range.upperBound() - range.lowerBound(), sizeRange), "range must hold at least as many values as the largest size");
+
+        return new LongSetGenerator(sourceOfRandomness(), range, sizeRange);
     }
 
-    public static Generator<String> postcode() {
-        return POSTCODE_GENERATOR;
+    public static <V> IntMapGenerator<V> intMap(final Range<Integer> keyRange,
+                                                final Generator<? extends V> generatorOfV,
+                                                final Range<Integer> sizeRange) {
+        ensure(isNotNull(keyRange), "key range cannot be null");
+        ensure(isNotNull(generatorOfV), "value generator cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(holdsAtLeast((long) keyRange.upperBound() - keyRange.lowerBound(), sizeRange), "key range must hold at least as many keys as the largest size");
+
+        return new IntMapGenerator<>(sourceOfRandomness(), keyRange, generatorOfV, sizeRange);
+    }
+
+    public static <V> LongMapGenerator<V> longMap(final Range<Long> keyRange,
+                                                  final Generator<? extends V> generatorOfV,
+                                                  final Range<Integer> sizeRange) {
+        ensure(isNotNull(keyRange), "key range cannot be null");
+        ensure(isNotNull(generatorOfV), "value generator cannot be null");
+        ensure(isNotNull(sizeRange), "size range cannot be null");
+        ensure(holdsAtLeast(keyRange.upperBound() - keyRange.lowerBound(), sizeRange), "key range must hold at least as many keys as the largest size");
+
+        return new LongMapGenerator<>(sourceOfRandomness(), keyRange, generatorOfV, sizeRange);
     }
 
-    public static Generator<Boolean> percentageChanceOf(int chance) {
+    /* the span is one less than the number of values, and is read as unsigned since a range of longs can overflow it */
+    private static boolean holdsAtLeast(final long span, final Range<Integer> sizeRange) {
+        return sizeRange.upperBound() <= 0 || Long.compareUnsigned(span, sizeRange.upperBound() - 1) >= 0;
+    }
+
+    public static TextGenerator template(final String template) {
+        return new TemplateGenerator(sourceOfRandomness(), template);
+    }
+
+    public static TextGenerator niNumber() {
+        return NINumbers.NI_NUMBER_GENERATOR;
+    }
+
+    public static TextGenerator postcode() {
+        return Postcodes.POSTCODE_GENERATOR;
+    }
+
+    public static BooleanGenerator percentageChanceOf(int chance) {
         return new PercentageChanceGenerator(chance);
     }
 
+    public static BooleanGenerator bernoulli(final double probability) {
+        ensure(probability >= 0 && probability <= 1, "probability must be between 0 and 1");
+
+        return bernoulli(new BigDecimal(probability));
+    }
+
+    public static BooleanGenerator bernoulli(final BigDecimal probability) {
+        ensure(isNotNull(probability), "probability cannot be null");
+        ensure(probability.signum() >= 0 && probability.compareTo(BigDecimal.ONE) <= 0, "probability must be between 0 and 1");
+
+        return new BernoulliGenerator(sourceOfRandomness(), probability);
+    }
+
     public static Generator<Currency> currency() {
-        return CURRENCY_GENERATOR;
+        return Currencies.CURRENCY_GENERATOR;
+    }
+
+    public static Generator<BigDecimal> money(final Currency currency) {
+        return money(currency, closed(BigDecimal.ZERO, BigDecimal.valueOf(1_000_000)));
+    }
+
+    public static Generator<BigDecimal> money(final Currency currency, final Range<BigDecimal> range) {
+        ensure(isNotNull(currency), "currency cannot be null");
+
+        /* pseudo-currencies such as gold (XAU) have no minor unit and report -1 fraction digits */
+        return bigDecimal(range, Math.max(currency.getDefaultFractionDigits(), 0));
     }
 
     public static Generator<Locale> locale() {
-        return LOCALE_GENERATOR;
+        return Locales.LOCALE_GENERATOR;
     }
 
     public static Generator<String> iso3Country() {
-        return ISO_3_COUNTRY_GENERATOR;
+        return Locales.ISO_3_COUNTRY_GENERATOR;
+    }
+
+    /*
+    the shared generators are built on first use, one holder class per family, so that loading RDG to get
+    an integer does not also load the domain suffixes, every locale, currency and zone id, or build charsets
+     */
+    private static final class Numbers {
+        private static final IntGenerator INTEGER_GENERATOR = integer(closed(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        private static final BooleanGenerator BOOLEAN_GENERATOR = new RandomBooleanGenerator(sourceOfRandomness());
+        private static final LongGenerator LONG_GENERATOR = longVal(closed(Long.MIN_VALUE, Long.MAX_VALUE));
+        private static final DoubleGenerator DOUBLE_GENERATOR = doubleVal(closed(Double.MIN_VALUE, Double.MAX_VALUE));
+        private static final Generator<BigDecimal> BIG_DECIMAL_GENERATOR = bigDecimal(closed(BigDecimal.valueOf(Double.MIN_VALUE), BigDecimal.valueOf(Double.MAX_VALUE)));
     }
 
+    private static final class Uuids {
+        private static final UuidGenerator UUID_GENERATOR = new RandomUuidGenerator(sourceOfRandomness());
+    }
+
+    private static final class Strings {
+        private static final TextGenerator STRING_GENERATOR = string(30);
+    }
+
+    private static final class Domains {
+        private static final DomainGenerator DOMAIN_GENERATOR = new DomainGenerator();
+    }
+
+    private static final class DomainSuffixes {
+        private static final SuffixGenerator SUFFIX_GENERATOR = new SuffixGenerator();
+    }
+
+    private static final class Uris {
+        private static final UriGenerator URI_GENERATOR = new UriGenerator();
+    }
+
+    private static final class EmailAddresses {
+        private static final EmailAddressGenerator EMAIL_ADDRESS_GENERATOR = new EmailAddressGenerator();
+    }
+
+    private static final class NINumbers {
+        private static final NINumberGenerator NI_NUMBER_GENERATOR = new NINumberGenerator();
+    }
+
+    private static final class Postcodes {
+        private static final PostcodeGenerator POSTCODE_GENERATOR = new PostcodeGenerator();
+    }
+
+    private static final class Currencies {
+        private static final CurrencyGenerator CURRENCY_GENERATOR = new CurrencyGenerator();
+    }
+
+    private static final class Locales {
+        private static final LocaleGenerator LOCALE_GENERATOR = new LocaleGenerator();
+        private static final Iso3CountryGenerator ISO_3_COUNTRY_GENERATOR = new Iso3CountryGenerator();
+    }
+
+    private static final class ZoneIds {
+        private static final Generator<String> REGION_BASED_ZONE_ID_GENERATOR = value(getAvailableZoneIds());
+    }
 }
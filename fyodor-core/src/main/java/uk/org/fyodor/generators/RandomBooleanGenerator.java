@@ -0,0 +1,17 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+final class RandomBooleanGenerator implements BooleanGenerator {
+
+    private final RandomValues randomValues;
+
+    RandomBooleanGenerator(final RandomValues randomValues) {
+        this.randomValues = randomValues;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return randomValues.randomBoolean();
+    }
+}
@@ -0,0 +1,44 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.UUID;
+
+import static uk.org.fyodor.generators.UuidGenerator.checkFillArguments;
+
+/* version 4 uuids (rfc 4122 section 4.4), 122 random bits taken from two longs */
+final class RandomUuidGenerator implements UuidGenerator {
+
+    private final RandomValues randomValues;
+
+    RandomUuidGenerator(final RandomValues randomValues) {
+        this.randomValues = randomValues;
+    }
+
+    @Override
+    public UUID next() {
+        final long mostSignificantBits = randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+        final long leastSignificantBits = randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+        return new UUID(version4(mostSignificantBits), variant(leastSignificantBits));
+    }
+
+    @Override
+    public void fill(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        checkFillArguments(mostSignificantBits, leastSignificantBits);
+
+        randomValues.fillLongs(mostSignificantBits, Long.MIN_VALUE, Long.MAX_VALUE);
+        randomValues.fillLongs(leastSignificantBits, Long.MIN_VALUE, Long.MAX_VALUE);
+        for (int i = 0; i < mostSignificantBits.length; i++) {
+            mostSignificantBits[i] = version4(mostSignificantBits[i]);
+            leastSignificantBits[i] = variant(leastSignificantBits[i]);
+        }
+    }
+
+    private static long version4(final long bits) {
+        return (bits & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+    }
+
+    static long variant(final long bits) {
+        return (bits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+}
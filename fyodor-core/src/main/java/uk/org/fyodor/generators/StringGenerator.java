@@ -1,18 +1,23 @@
 package uk.org.fyodor.generators;
 
 import uk.org.fyodor.generators.characters.CharacterFilter;
+import uk.org.fyodor.generators.characters.CharacterSet;
 import uk.org.fyodor.generators.characters.CharacterSetFilter;
 import uk.org.fyodor.generators.characters.CharacterSetGenerator;
 import uk.org.fyodor.generators.characters.CharacterSetRange;
+import uk.org.fyodor.generators.characters.CharacterSets;
 import uk.org.fyodor.range.Range;
 
-import java.util.Arrays;
+import java.io.IOException;
 
-class StringGenerator implements Generator<String> {
+import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
 
-    private final Generator<Integer> stringLengthGenerator;
-    private final Generator<Integer> charSetIndexGenerator;
-    private final char[] charSet;
+class StringGenerator implements TextGenerator {
+
+    private final Range<Integer> lengthRange;
+    private final IntGenerator stringLengthGenerator;
+    private final CharacterSampler charSampler;
+    private final CharacterSet charSet;
 
     StringGenerator(Integer length) {
         this(length, new CharacterSetGenerator(CharacterSetFilter.AllExceptDoubleQuotes, CharacterSetRange.defaultLatinBasic));
@@ -32,7 +37,7 @@ class StringGenerator implements Generator<String> {
     }
 
     StringGenerator(Integer length, CharacterSetGenerator characterSetGenerator) {
-        this(length, characterSetGenerator.getCharset());
+        this(Range.fixed(length), characterSetGenerator.getCharacterSet());
     }
 
     StringGenerator(Integer length, char[] charset) {
@@ -57,7 +62,7 @@ class StringGenerator implements Generator<String> {
     }
 
     StringGenerator(Range<Integer> range, CharacterSetGenerator characterSetGenerator) {
-        this(range, characterSetGenerator.getCharset());
+        this(range, characterSetGenerator.getCharacterSet());
     }
 
     StringGenerator(Integer length, String charset) {
@@ -69,22 +74,51 @@ class StringGenerator implements Generator<String> {
     }
 
     StringGenerator(Range<Integer> range, char[] charset) {
+        this(range, CharacterSets.of(charset));
+    }
+
+    StringGenerator(Range<Integer> range, CharacterSet charset) {
         this.charSet = charset;
+        this.lengthRange = range;
         this.stringLengthGenerator = RDG.integer(range);
-        this.charSetIndexGenerator = RDG.integer(charset.length - 1);
+        this.charSampler = new CharacterSampler(sourceOfRandomness(), charset);
     }
 
     @Override
     public String next() {
-        Integer length = stringLengthGenerator.next();
-        char[] ret = new char[length];
-        for (int i = 0; i < length; i++) {
-            ret[i] = charSet[charSetIndexGenerator.next()];
-        }
+        final int length = stringLengthGenerator.nextInt();
+        final char[] ret = new char[length];
+        charSampler.fill(ret, 0, length);
         return String.valueOf(ret);
     }
 
+    @Override
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        charSampler.appendTo(appendable, stringLengthGenerator.nextInt());
+        return appendable;
+    }
+
+    int nextLength() {
+        return stringLengthGenerator.nextInt();
+    }
+
+    char nextChar() {
+        return charSampler.next();
+    }
+
+    void nextChars(final char[] chars, final int fromIndex, final int toIndex) {
+        charSampler.fill(chars, fromIndex, toIndex);
+    }
+
+    void appendChars(final Appendable appendable, final int length) throws IOException {
+        charSampler.appendTo(appendable, length);
+    }
+
     public char[] getCharSet() {
-        return Arrays.copyOf(charSet, charSet.length);
+        return charSet.toCharArray();
+    }
+
+    public TextGenerator unique() {
+        return UniqueTextGenerator.strings(sourceOfRandomness(), lengthRange, getCharSet());
     }
 }
@@ -0,0 +1,158 @@
+package uk.org.fyodor.generators;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/*
+the public suffixes packed into one utf-8 byte array, with the start of each suffix held in an offset index,
+so that a suffix is only decoded into a string the first time it is drawn, after which the string is kept and
+handed out again. views filtered by top level domain or depth share the same bytes, offsets and decoded strings
+and only hold the positions of the suffixes they select
+ */
+final class SuffixTable {
+
+    private static final String RESOURCE = "public-suffixes.txt";
+
+    private final byte[] bytes;
+    private final int[] offsets;
+    private final String[] decoded;
+    private final int[] positions;
+
+    private SuffixTable(final byte[] bytes, final int[] offsets, final String[] decoded, final int[] positions) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.decoded = decoded;
+        this.positions = positions;
+    }
+
+    static SuffixTable publicSuffixes() {
+        return PublicSuffixes.TABLE;
+    }
+
+    int size() {
+        return positions == null ? offsets.length - 1 : positions.length;
+    }
+
+    /* strings are immutable, so two threads racing to decode the same suffix at worst both decode it */
+    String get(final int index) {
+        final int position = positions == null ? index : positions[index];
+        String suffix = decoded[position];
+        if (suffix == null) {
+            final int start = offsets[position];
+            suffix = new String(bytes, start, offsets[position + 1] - start, UTF_8);
+            decoded[position] = suffix;
+        }
+        return suffix;
+    }
+
+    String[] toArray() {
+        final String[] suffixes = new String[size()];
+        for (int i = 0; i < suffixes.length; i++) {
+            suffixes[i] = get(i);
+        }
+        return suffixes;
+    }
+
+    SuffixTable withTopLevelDomain(final String topLevelDomain) {
+        final byte[] label = topLevelDomain.getBytes(UTF_8);
+        final int[] selected = new int[size()];
+        int count = 0;
+        for (int i = 0; i < selected.length; i++) {
+            final int position = positions == null ? i : positions[i];
+            if (endsWithLabel(position, label)) {
+                selected[count++] = position;
+            }
+        }
+        return new SuffixTable(bytes, offsets, decoded, Arrays.copyOf(selected, count));
+    }
+
+    SuffixTable withDepth(final int depth) {
+        final int[] selected = new int[size()];
+        int count = 0;
+        for (int i = 0; i < selected.length; i++) {
+            final int position = positions == null ? i : positions[i];
+            if (depthOf(position) == depth) {
+                selected[count++] = position;
+            }
+        }
+        return new SuffixTable(bytes, offsets, decoded, Arrays.copyOf(selected, count));
+    }
+
+    private boolean endsWithLabel(final int position, final byte[] label) {
+        final int start = offsets[position];
+        final int end = offsets[position + 1];
+        final int labelStart = end - label.length;
+        if (labelStart < start || (labelStart > start && bytes[labelStart - 1] != '.')) {
+            return false;
+        }
+        for (int i = 0; i < label.length; i++) {
+            if (bytes[labelStart + i] != label[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* a '.' byte never appears inside a multi-byte utf-8 sequence, so labels can be counted on the raw bytes */
+    private int depthOf(final int position) {
+        int depth = 1;
+        for (int i = offsets[position]; i < offsets[position + 1]; i++) {
+            if (bytes[i] == '.') {
+                depth++;
+            }
+        }
+        return depth;
+    }
+
+    static SuffixTable read(final InputStream in) throws IOException {
+        final ByteArrayOutputStream packed = new ByteArrayOutputStream(1 << 16);
+        int[] offsets = new int[1 << 12];
+        int count = 0;
+        int length = 0;
+        final byte[] buffer = new byte[8192];
+        for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+            for (int i = 0; i < read; i++) {
+                final byte b = buffer[i];
+                if (b == '\n' || b == '\r') {
+                    if (length > 0) {
+                        if (count + 2 > offsets.length) {
+                            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                        }
+                        offsets[++count] = packed.size();
+                        length = 0;
+                    }
+                } else {
+                    packed.write(b);
+                    length++;
+                }
+            }
+        }
+        if (length > 0) {
+            if (count + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length + 1);
+            }
+            offsets[++count] = packed.size();
+        }
+        return new SuffixTable(packed.toByteArray(), Arrays.copyOf(offsets, count + 1), new String[count], null);
+    }
+
+    private static final class PublicSuffixes {
+        private static final SuffixTable TABLE = load();
+
+        private static SuffixTable load() {
+            try (InputStream in = SuffixTable.class.getResourceAsStream(RESOURCE)) {
+                if (in == null) {
+                    throw new IllegalStateException("public suffix resource " + RESOURCE + " is not on the classpath");
+                }
+                return read(in);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.generators.characters.CharacterSets;
+import uk.org.fyodor.random.RandomValues;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static uk.org.fyodor.generators.CharBuffers.append;
+import static uk.org.fyodor.generators.CharBuffers.scratchOfLength;
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/*
+a template is literal text with segments in braces, parsed once into a flat array of steps that each write
+into the per thread char buffer, which is then appended to the sink (or copied into the string) in one go
+
+  {letters}, {upper}, {lower}, {digits}, {alphanumeric}, {hex}   one character of that class
+  {digits:6}                                                     exactly six
+  {digits:1-2}                                                   one or two, each length equally likely
+  {oneOf:ABCD}                                                   one of the characters given
+  {oneOf:AB|CE|GH}                                               one of the strings given
+  {oneOf:ABCD:3}                                                 three of them
+  {{ and }}                                                      literal braces
+ */
+final class TemplateGenerator implements TextGenerator {
+
+    /* every value is written into one buffer, so counts and lengths are capped rather than left to run out of memory */
+    private static final int MAXIMUM_COUNT = 1 << 16;
+    private static final int MAXIMUM_LENGTH = 1 << 20;
+
+    private final Step[] steps;
+    private final int maximumLength;
+
+    TemplateGenerator(final RandomValues randomValues, final String template) {
+        ensure(template != null, "template cannot be null");
+
+        this.steps = parse(randomValues, template);
+        long maximumLength = 0;
+        for (final Step step : steps) {
+            maximumLength += step.maximumLength();
+        }
+        ensure(maximumLength <= MAXIMUM_LENGTH, "template can generate values longer than " + MAXIMUM_LENGTH + " characters");
+        this.maximumLength = (int) maximumLength;
+    }
+
+    @Override
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        final char[] buffer = scratchOfLength(maximumLength);
+        return append(appendable, buffer, write(buffer));
+    }
+
+    @Override
+    public String next() {
+        final char[] buffer = scratchOfLength(maximumLength);
+        return new String(buffer, 0, write(buffer));
+    }
+
+    private int write(final char[] buffer) {
+        int position = 0;
+        for (final Step step : steps) {
+            position = step.write(buffer, position);
+        }
+        return position;
+    }
+
+    private static Step[] parse(final RandomValues randomValues, final String template) {
+        final List<Step> steps = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < template.length()) {
+            final char c = template.charAt(i);
+            if ((c == '{' || c == '}') && i + 1 < template.length() && template.charAt(i + 1) == c) {
+                literal.append(c);
+                i += 2;
+            } else if (c == '{') {
+                final int end = template.indexOf('}', i);
+                ensure(end > i, "template segment starting at " + i + " is not closed");
+                if (literal.length() > 0) {
+                    steps.add(new Literal(literal.toString().toCharArray()));
+                    literal.setLength(0);
+                }
+                steps.add(segment(randomValues, template.substring(i + 1, end)));
+                i = end + 1;
+            } else {
+                ensure(c != '}', "template has an unmatched } at " + i);
+                literal.append(c);
+                i++;
+            }
+        }
+        if (literal.length() > 0) {
+            steps.add(new Literal(literal.toString().toCharArray()));
+        }
+        return steps.toArray(new Step[steps.size()]);
+    }
+
+    private static Step segment(final RandomValues randomValues, final String segment) {
+        final String[] parts = segment.split(":", -1);
+        if (parts[0].equals("oneOf")) {
+            ensure(parts.length == 2 || parts.length == 3, "template segment {" + segment + "} should be {oneOf:choices} or {oneOf:choices:count}");
+            ensure(!parts[1].isEmpty(), "template segment {" + segment + "} has no choices");
+            final int[] count = parts.length == 3 ? count(segment, parts[2]) : new int[]{1, 1};
+            if (parts[1].indexOf('|') < 0) {
+                return new Characters(randomValues, parts[1].toCharArray(), count[0], count[1]);
+            }
+            return new Choices(randomValues, parts[1].split("\\|", -1), count[0], count[1]);
+        }
+
+        ensure(parts.length <= 2, "template segment {" + segment + "} should be {class} or {class:count}");
+        final int[] count = parts.length == 2 ? count(segment, parts[1]) : new int[]{1, 1};
+        return new Characters(randomValues, characterClass(segment, parts[0]), count[0], count[1]);
+    }
+
+    private static char[] characterClass(final String segment, final String name) {
+        switch (name) {
+            case "letters":
+                return "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+            case "upper":
+                return "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+            case "lower":
+                return "abcdefghijklmnopqrstuvwxyz".toCharArray();
+            case "digits":
+                return "0123456789".toCharArray();
+            case "alphanumeric":
+                return "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+            case "hex":
+                return "0123456789abcdef".toCharArray();
+            default:
+                throw new IllegalArgumentException("template segment {" + segment + "} is not a known character class");
+        }
+    }
+
+    private static int[] count(final String segment, final String count) {
+        final int dash = count.indexOf('-');
+        try {
+            final int minimum = Integer.parseInt(dash < 0 ? count : count.substring(0, dash));
+            final int maximum = dash < 0 ? minimum : Integer.parseInt(count.substring(dash + 1));
+            ensure(minimum >= 0 && minimum <= maximum, "template segment {" + segment + "} has an invalid count");
+            ensure(maximum <= MAXIMUM_COUNT, "template segment {" + segment + "} has a count larger than " + MAXIMUM_COUNT);
+            return new int[]{minimum, maximum};
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("template segment {" + segment + "} has an invalid count", e);
+        }
+    }
+
+    private abstract static class Step {
+        abstract int write(char[] buffer, int position);
+
+        abstract long maximumLength();
+    }
+
+    private static final class Literal extends Step {
+        private final char[] chars;
+
+        Literal(final char[] chars) {
+            this.chars = chars;
+        }
+
+        @Override
+        int write(final char[] buffer, final int position) {
+            System.arraycopy(chars, 0, buffer, position, chars.length);
+            return position + chars.length;
+        }
+
+        @Override
+        long maximumLength() {
+            return chars.length;
+        }
+    }
+
+    private static final class Characters extends Step {
+        private final RandomValues randomValues;
+        private final CharacterSampler sampler;
+        private final int minimum;
+        private final int maximum;
+
+        Characters(final RandomValues randomValues, final char[] chars, final int minimum, final int maximum) {
+            this.randomValues = randomValues;
+            this.sampler = new CharacterSampler(randomValues, CharacterSets.of(chars));
+            this.minimum = minimum;
+            this.maximum = maximum;
+        }
+
+        @Override
+        int write(final char[] buffer, final int position) {
+            final int end = position + (minimum == maximum ? minimum : randomValues.randomInteger(minimum, maximum));
+            sampler.fill(buffer, position, end);
+            return end;
+        }
+
+        @Override
+        long maximumLength() {
+            return maximum;
+        }
+    }
+
+    private static final class Choices extends Step {
+        private final RandomValues randomValues;
+        private final char[][] choices;
+        private final int minimum;
+        private final int maximum;
+        private final int longestChoice;
+
+        Choices(final RandomValues randomValues, final String[] choices, final int minimum, final int maximum) {
+            this.randomValues = randomValues;
+            this.choices = new char[choices.length][];
+            int longestChoice = 0;
+            for (int i = 0; i < choices.length; i++) {
+                this.choices[i] = choices[i].toCharArray();
+                longestChoice = Math.max(longestChoice, choices[i].length());
+            }
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.longestChoice = longestChoice;
+        }
+
+        @Override
+        int write(final char[] buffer, final int position) {
+            final int count = minimum == maximum ? minimum : randomValues.randomInteger(minimum, maximum);
+            int end = position;
+            for (int i = 0; i < count; i++) {
+                final char[] choice = choices[randomValues.randomInteger(0, choices.length - 1)];
+                System.arraycopy(choice, 0, buffer, end, choice.length);
+                end += choice.length;
+            }
+            return end;
+        }
+
+        @Override
+        long maximumLength() {
+            return (long) maximum * longestChoice;
+        }
+    }
+}
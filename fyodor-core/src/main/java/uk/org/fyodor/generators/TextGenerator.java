@@ -0,0 +1,36 @@
+package uk.org.fyodor.generators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+
+/*
+generators of text that can write each value straight into a caller supplied sink rather than
+allocating a String for it, appending to a StringBuilder or CharBuffer cannot throw an IOException,
+and writing into a CharBuffer without enough space remaining throws a BufferOverflowException
+ */
+public interface TextGenerator extends Generator<String> {
+
+    <A extends Appendable> A appendTo(A appendable) throws IOException;
+
+    default StringBuilder writeTo(final StringBuilder builder) {
+        try {
+            return appendTo(builder);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    default CharBuffer writeTo(final CharBuffer buffer) {
+        try {
+            return appendTo(buffer);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    default String next() {
+        return writeTo(new StringBuilder()).toString();
+    }
+}
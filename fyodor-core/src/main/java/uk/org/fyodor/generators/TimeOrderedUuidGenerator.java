@@ -0,0 +1,70 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static uk.org.fyodor.generators.RandomUuidGenerator.variant;
+import static uk.org.fyodor.generators.UuidGenerator.checkFillArguments;
+import static uk.org.fyodor.generators.time.Timekeeper.current;
+
+/*
+version 7 uuids (rfc 9562 section 5.7), a 48 bit unix millisecond timestamp from the timekeeper followed by a
+12 bit counter and 62 random bits. the timestamp and counter are held together as one 60 bit value which only
+moves forwards, so that uuids from the same generator sort in the order they were generated even when several
+share a millisecond or the timekeeper's clock is fixed or goes backwards. each new millisecond starts the counter
+at a random value in its lower half to leave room for the uuids that follow
+ */
+final class TimeOrderedUuidGenerator implements UuidGenerator {
+
+    private static final long TIMESTAMP_MASK = 0xFFFFFFFFFFFFL;
+    private static final int COUNTER_BITS = 12;
+
+    private final RandomValues randomValues;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong(Long.MIN_VALUE);
+
+    TimeOrderedUuidGenerator(final RandomValues randomValues) {
+        this.randomValues = randomValues;
+    }
+
+    @Override
+    public UUID next() {
+        final long timestampAndCounter = reserve(1);
+        return new UUID(version7(timestampAndCounter), variant(randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE)));
+    }
+
+    @Override
+    public void fill(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        checkFillArguments(mostSignificantBits, leastSignificantBits);
+        if (mostSignificantBits.length == 0) {
+            return;
+        }
+
+        final long first = reserve(mostSignificantBits.length);
+        randomValues.fillLongs(leastSignificantBits, Long.MIN_VALUE, Long.MAX_VALUE);
+        for (int i = 0; i < mostSignificantBits.length; i++) {
+            mostSignificantBits[i] = version7(first + i);
+            leastSignificantBits[i] = variant(leastSignificantBits[i]);
+        }
+    }
+
+    /* claims count consecutive timestamp and counter values and returns the first of them */
+    private long reserve(final int count) {
+        final long now = current().instant().toEpochMilli() & TIMESTAMP_MASK;
+        final long fresh = (now << COUNTER_BITS) | randomValues.randomInteger(0, (1 << (COUNTER_BITS - 1)) - 1);
+        while (true) {
+            final long last = lastTimestampAndCounter.get();
+            final long first = fresh > last ? fresh : last + 1;
+            if (lastTimestampAndCounter.compareAndSet(last, first + count - 1)) {
+                return first;
+            }
+        }
+    }
+
+    private static long version7(final long timestampAndCounter) {
+        final long timestamp = (timestampAndCounter >>> COUNTER_BITS) & TIMESTAMP_MASK;
+        final long counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+        return (timestamp << 16) | 0x7000L | counter;
+    }
+}
@@ -0,0 +1,337 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.generators.characters.CharacterSets;
+import uk.org.fyodor.generators.unique.UniqueLongGenerator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+import static uk.org.fyodor.generators.CharBuffers.append;
+import static uk.org.fyodor.generators.CharBuffers.scratchOfLength;
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.range.Range.closed;
+
+/*
+strings that are unique by construction. every string of every length is given a rank, the ranks are counted
+through a keyed permutation, and a rank is turned back into its string by a bijective encoding into the alphabet,
+so no string is ever remembered. the ranks of each length are capped so that all of them fit in a long, and a
+length with more strings than its cap has only a prefix ranked (long enough to hold the cap) followed by random
+characters, which leaves lengths that would otherwise be too many to count about equally likely
+ */
+final class UniqueTextGenerator implements TextGenerator {
+
+    private static final long ALL_RANKS = 1L << 62;
+
+    private final Language language;
+    private final int shortestLength;
+    private final long[] cumulativeCounts;
+    private final int rankedLength;
+    private final long rankedCount;
+    private final long total;
+    private final UniqueLongGenerator ranks;
+
+    private UniqueTextGenerator(final RandomValues randomValues, final Range<Integer> lengths, final Language language) {
+        this.language = language;
+        this.shortestLength = lengths.lowerBound();
+
+        /* every length below the first one with more strings than its cap is ranked in full */
+        final long cap = ALL_RANKS / ((long) lengths.upperBound() - lengths.lowerBound() + 1);
+        int length = shortestLength;
+        long[] cumulative = new long[16];
+        long sum = 0;
+        while (length <= lengths.upperBound() && count(length) <= cap) {
+            if (length - shortestLength == cumulative.length) {
+                cumulative = Arrays.copyOf(cumulative, cumulative.length * 2);
+            }
+            sum += count(length);
+            cumulative[length - shortestLength] = sum;
+            length++;
+        }
+        this.cumulativeCounts = Arrays.copyOf(cumulative, length - shortestLength);
+
+        int rankedLength = 1;
+        while (count(rankedLength + 1) <= cap) {
+            rankedLength++;
+        }
+        this.rankedLength = rankedLength;
+        this.rankedCount = count(rankedLength);
+        this.total = sum + ((long) lengths.upperBound() - length + 1) * rankedCount;
+        this.ranks = new UniqueLongGenerator(randomValues, closed(0L, total - 1));
+    }
+
+    static UniqueTextGenerator strings(final RandomValues randomValues, final Range<Integer> lengths, final char[] chars) {
+        final char[] alphabet = distinct(chars);
+        ensure(alphabet.length > 1, "unique strings need at least two different characters");
+
+        return new UniqueTextGenerator(randomValues, lengths, new Strings(randomValues, alphabet));
+    }
+
+    static UniqueTextGenerator domains(final RandomValues randomValues, final Range<Integer> lengths, final char[] chars) {
+        final char[] alphabet = distinct(chars);
+        ensure(alphabet.length > 1, "unique domains need at least two different characters");
+
+        return new UniqueTextGenerator(randomValues, lengths, new Domains(randomValues, alphabet));
+    }
+
+    static UniqueTextGenerator localParts(final RandomValues randomValues, final Range<Integer> lengths, final char[] chars) {
+        final char[] alphabet = distinct(chars);
+        ensure(alphabet.length > 1, "unique local parts need at least two different characters");
+
+        return new UniqueTextGenerator(randomValues, lengths, new LocalParts(randomValues, alphabet));
+    }
+
+    @Override
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        final long index = nextIndex();
+        final int length;
+        final int ranked;
+        final long rank;
+        if (cumulativeCounts.length > 0 && index < cumulativeCounts[cumulativeCounts.length - 1]) {
+            int position = Arrays.binarySearch(cumulativeCounts, index + 1);
+            position = position < 0 ? -position - 1 : position;
+            length = shortestLength + position;
+            ranked = length;
+            rank = position == 0 ? index : index - cumulativeCounts[position - 1];
+        } else {
+            final long beyond = index - (cumulativeCounts.length == 0 ? 0 : cumulativeCounts[cumulativeCounts.length - 1]);
+            length = shortestLength + cumulativeCounts.length + (int) (beyond / rankedCount);
+            ranked = rankedLength;
+            rank = beyond % rankedCount;
+        }
+
+        final char[] chars = scratchOfLength(length);
+        language.unrank(rank, chars, ranked);
+        if (ranked < length) {
+            language.fillTail(chars, ranked, length);
+        }
+        return append(appendable, chars, length);
+    }
+
+    private long nextIndex() {
+        try {
+            return ranks.nextLong();
+        } catch (final IllegalStateException e) {
+            throw new IllegalStateException(format("all %s unique strings have been generated", total), e);
+        }
+    }
+
+    private long count(final int length) {
+        return length == 0 ? 1 : language.count(length);
+    }
+
+    private static char[] distinct(final char[] chars) {
+        final char[] distinct = new char[chars.length];
+        final boolean[] seen = new boolean[Character.MAX_VALUE + 1];
+        int count = 0;
+        for (final char c : chars) {
+            if (!seen[c]) {
+                seen[c] = true;
+                distinct[count++] = c;
+            }
+        }
+        return Arrays.copyOf(distinct, count);
+    }
+
+    /* saturates at Long.MAX_VALUE, which is above any cap */
+    private static long times(final long x, final long y) {
+        return x != 0 && y > Long.MAX_VALUE / x ? Long.MAX_VALUE : x * y;
+    }
+
+    /*
+    the strings of one length with a count, a bijection between the ranks below that count and the strings, and a
+    way of filling the rest of a longer string after a ranked prefix so that the whole string is still valid
+     */
+    private abstract static class Language {
+        abstract long count(int length);
+
+        abstract void unrank(long rank, char[] chars, int length);
+
+        abstract void fillTail(char[] chars, int from, int to);
+    }
+
+    private static final class Strings extends Language {
+        private final char[] alphabet;
+        private final CharacterSampler sampler;
+
+        Strings(final RandomValues randomValues, final char[] alphabet) {
+            this.alphabet = alphabet;
+            this.sampler = new CharacterSampler(randomValues, CharacterSets.of(alphabet));
+        }
+
+        @Override
+        long count(final int length) {
+            long count = 1;
+            for (int i = 0; i < length; i++) {
+                count = times(count, alphabet.length);
+            }
+            return count;
+        }
+
+        @Override
+        void unrank(final long rank, final char[] chars, final int length) {
+            long remaining = rank;
+            for (int i = 0; i < length; i++) {
+                chars[i] = alphabet[(int) (remaining % alphabet.length)];
+                remaining /= alphabet.length;
+            }
+        }
+
+        @Override
+        void fillTail(final char[] chars, final int from, final int to) {
+            sampler.fill(chars, from, to);
+        }
+    }
+
+    /* a domain neither starts nor ends with a hyphen */
+    private static final class Domains extends Language {
+        private final char[] alphabet;
+        private final char[] edges;
+        private final CharacterSampler sampler;
+        private final CharacterSampler edgeSampler;
+
+        Domains(final RandomValues randomValues, final char[] alphabet) {
+            this.alphabet = alphabet;
+            this.edges = without(alphabet, '-');
+            this.sampler = new CharacterSampler(randomValues, CharacterSets.of(alphabet));
+            this.edgeSampler = new CharacterSampler(randomValues, CharacterSets.of(edges));
+        }
+
+        @Override
+        long count(final int length) {
+            long count = length == 1 ? edges.length : times(edges.length, edges.length);
+            for (int i = 2; i < length; i++) {
+                count = times(count, alphabet.length);
+            }
+            return count;
+        }
+
+        @Override
+        void unrank(final long rank, final char[] chars, final int length) {
+            if (length == 0) {
+                return;
+            }
+
+            long remaining = rank;
+            chars[0] = edges[(int) (remaining % edges.length)];
+            remaining /= edges.length;
+            if (length > 1) {
+                chars[length - 1] = edges[(int) (remaining % edges.length)];
+                remaining /= edges.length;
+            }
+            for (int i = 1; i < length - 1; i++) {
+                chars[i] = alphabet[(int) (remaining % alphabet.length)];
+                remaining /= alphabet.length;
+            }
+        }
+
+        @Override
+        void fillTail(final char[] chars, final int from, final int to) {
+            sampler.fill(chars, from, to);
+            if (chars[to - 1] == '-') {
+                chars[to - 1] = edgeSampler.next();
+            }
+        }
+    }
+
+    /*
+    a local part neither starts nor ends with a dot and has no two dots in a row, so one of length n is either one
+    of length n - 1 followed by a character that is not a dot, or one of length n - 2 followed by a dot and such a
+    character, which is the order the ranks are given in. the counts are worked out once, up to the length where
+    they stop changing because they have saturated, so unranking a string reads them rather than recounting
+     */
+    private static final class LocalParts extends Language {
+        private final char[] notDots;
+        private final boolean hasDot;
+        private final long[] counts;
+        private final CharacterSampler sampler;
+        private final CharacterSampler notDotSampler;
+
+        LocalParts(final RandomValues randomValues, final char[] alphabet) {
+            this.notDots = without(alphabet, '.');
+            this.hasDot = notDots.length < alphabet.length;
+            this.counts = counts(notDots.length, hasDot);
+            this.sampler = new CharacterSampler(randomValues, CharacterSets.of(alphabet));
+            this.notDotSampler = new CharacterSampler(randomValues, CharacterSets.of(notDots));
+        }
+
+        @Override
+        long count(final int length) {
+            return counts[Math.min(length, counts.length - 1)];
+        }
+
+        private static long[] counts(final int notDots, final boolean hasDot) {
+            long[] counts = new long[16];
+            counts[1] = notDots;
+            int length = 1;
+            long shorter = 0;
+            long count = notDots;
+            while (true) {
+                final long longer = times(notDots, hasDot ? saturatingAdd(count, length == 1 ? 0 : shorter) : count);
+                if (longer == count && count >= Long.MAX_VALUE / 2) {
+                    return Arrays.copyOf(counts, length + 1);
+                }
+                length++;
+                if (length == counts.length) {
+                    counts = Arrays.copyOf(counts, counts.length * 2);
+                }
+                counts[length] = longer;
+                shorter = count;
+                count = longer;
+            }
+        }
+
+        /* saturates at Long.MAX_VALUE / 2, so that multiplying by the alphabet still saturates rather than wraps */
+        private static long saturatingAdd(final long count, final long shorter) {
+            return shorter > Long.MAX_VALUE / 2 - count ? Long.MAX_VALUE / 2 : count + shorter;
+        }
+
+        @Override
+        void unrank(final long rank, final char[] chars, final int length) {
+            final int b = notDots.length;
+            long remaining = rank;
+            int end = length;
+            while (end > 2) {
+                final long endingWithoutDot = b * count(end - 1);
+                if (!hasDot || remaining < endingWithoutDot) {
+                    chars[end - 1] = notDots[(int) (remaining % b)];
+                    remaining /= b;
+                    end -= 1;
+                } else {
+                    remaining -= endingWithoutDot;
+                    chars[end - 1] = notDots[(int) (remaining % b)];
+                    remaining /= b;
+                    chars[end - 2] = '.';
+                    end -= 2;
+                }
+            }
+            for (int i = end - 1; i >= 0; i--) {
+                chars[i] = notDots[(int) (remaining % b)];
+                remaining /= b;
+            }
+        }
+
+        @Override
+        void fillTail(final char[] chars, final int from, final int to) {
+            sampler.fill(chars, from, to);
+            for (int i = from; i < to; i++) {
+                if (chars[i] == '.' && (i == to - 1 || chars[i - 1] == '.')) {
+                    chars[i] = notDotSampler.next();
+                }
+            }
+        }
+    }
+
+    private static char[] without(final char[] alphabet, final char excluded) {
+        final char[] without = new char[alphabet.length];
+        int count = 0;
+        for (final char c : alphabet) {
+            if (c != excluded) {
+                without[count++] = c;
+            }
+        }
+        return Arrays.copyOf(without, count);
+    }
+}
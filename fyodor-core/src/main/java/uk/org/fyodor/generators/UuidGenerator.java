@@ -0,0 +1,22 @@
+package uk.org.fyodor.generators;
+
+import java.util.UUID;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+import static uk.org.fyodor.generators.Validations.isNotNull;
+
+public interface UuidGenerator extends Generator<UUID> {
+
+    /*
+    fills both arrays with the two halves of the next mostSignificantBits.length uuids, so that loaders can
+    bind them as a pair of longs (or a 16 byte key) without allocating a UUID for every row
+     */
+    void fill(long[] mostSignificantBits, long[] leastSignificantBits);
+
+    static void checkFillArguments(final long[] mostSignificantBits, final long[] leastSignificantBits) {
+        ensure(isNotNull(mostSignificantBits), "most significant bits cannot be null");
+        ensure(isNotNull(leastSignificantBits), "least significant bits cannot be null");
+        ensure(mostSignificantBits.length == leastSignificantBits.length,
+                "most and least significant bits must be the same length");
+    }
+}
@@ -0,0 +1,126 @@
+package uk.org.fyodor.generators;
+
+import uk.org.fyodor.random.RandomValues;
+
+import java.util.Map;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/*
+vose's alias method, every column holds a threshold and an alias so that a value is picked with one draw of 64
+random bits split into a column (the high bits) and a coin (the low bits), the value of the column is picked when
+the coin is below its threshold and its alias otherwise. the columns are padded with weightless ones up to a power
+of two so the draw needs no bounds, and the weights are scaled to whole numbers adding up to exactly
+columns * scale before the table is built, so the table itself is built without any rounding
+ */
+final class WeightedValueGenerator<T> implements Generator<T> {
+
+    private final RandomValues randomValues;
+    private final Object[] values;
+    private final long[] thresholds;
+    private final int[] aliases;
+    private final int columnShift;
+    private final long coinMask;
+
+    WeightedValueGenerator(final RandomValues randomValues, final Map<T, Double> weightedValues) {
+        this.randomValues = randomValues;
+
+        this.values = new Object[weightedValues.size()];
+        final int columnBits = Integer.SIZE - Integer.numberOfLeadingZeros(values.length - 1);
+        final int columns = 1 << columnBits;
+        final double[] weights = new double[columns];
+        double total = 0;
+        int i = 0;
+        for (final Map.Entry<T, Double> weightedValue : weightedValues.entrySet()) {
+            final Double weight = weightedValue.getValue();
+            ensure(weight != null, "weight of " + weightedValue.getKey() + " cannot be null");
+            ensure(weight >= 0 && !weight.isInfinite(), "weight of " + weightedValue.getKey() + " must be a finite number that is not negative");
+            values[i] = weightedValue.getKey();
+            weights[i++] = weight;
+            total += weight;
+        }
+        ensure(total > 0 && !Double.isInfinite(total), "the weights must add up to a finite number greater than zero");
+
+        /* two bits are left spare so that columns * scale stays within a long */
+        final int coinBits = Long.SIZE - 2 - columnBits;
+        this.columnShift = Long.SIZE - columnBits;
+        this.coinMask = (1L << coinBits) - 1;
+        this.thresholds = new long[columns];
+        this.aliases = new int[columns];
+        build(scaled(values, weights, total, (long) columns << coinBits), 1L << coinBits);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (values.length == 1) {
+            return (T) values[0];
+        }
+
+        final long draw = randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+        final int column = (int) (draw >>> columnShift);
+        return (T) ((draw & coinMask) < thresholds[column] ? values[column] : values[aliases[column]]);
+    }
+
+    /*
+    rounding down leaves a small remainder, which goes to the heaviest weight so the total is exact. a weight so
+    small next to the total that it rounds down to nothing would never be drawn, so it is rejected rather than
+    silently treated as zero
+     */
+    private static long[] scaled(final Object[] values, final double[] weights, final double total, final long scaledTotal) {
+        final long[] scaled = new long[weights.length];
+        long sum = 0;
+        int heaviest = 0;
+        for (int i = 0; i < weights.length; i++) {
+            scaled[i] = Math.min((long) (weights[i] / total * scaledTotal), scaledTotal);
+            if (scaled[i] == 0 && weights[i] > 0) {
+                throw new IllegalArgumentException("weight of " + values[i] + " is too small next to the other weights to ever be drawn");
+            }
+            sum += scaled[i];
+            if (scaled[i] > scaled[heaviest]) {
+                heaviest = i;
+            }
+        }
+        scaled[heaviest] += scaledTotal - sum;
+        return scaled;
+    }
+
+    private void build(final long[] scaled, final long scale) {
+        final int[] small = new int[scaled.length];
+        final int[] large = new int[scaled.length];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < scaled.length; i++) {
+            if (scaled[i] < scale) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            final int lighter = small[--smallCount];
+            final int heavier = large[--largeCount];
+            thresholds[lighter] = scaled[lighter];
+            aliases[lighter] = heavier;
+            scaled[heavier] -= scale - scaled[lighter];
+            if (scaled[heavier] < scale) {
+                small[smallCount++] = heavier;
+            } else {
+                large[largeCount++] = heavier;
+            }
+        }
+
+        /* whatever is left has exactly one column's worth of weight */
+        while (largeCount > 0) {
+            final int column = large[--largeCount];
+            thresholds[column] = scale;
+            aliases[column] = column;
+        }
+        while (smallCount > 0) {
+            final int column = small[--smallCount];
+            thresholds[column] = scale;
+            aliases[column] = column;
+        }
+    }
+}
@@ -2,4 +2,26 @@ package uk.org.fyodor.generators.characters;
 
 public interface CharacterFilter {
     boolean includeCharacter(char c);
+
+    default CharacterFilter and(final CharacterFilter other) {
+        if (other == null) {
+            throw new IllegalArgumentException("character filter cannot be null");
+        }
+        return c -> includeCharacter(c) && other.includeCharacter(c);
+    }
+
+    default CharacterFilter or(final CharacterFilter other) {
+        if (other == null) {
+            throw new IllegalArgumentException("character filter cannot be null");
+        }
+        return c -> includeCharacter(c) || other.includeCharacter(c);
+    }
+
+    default CharacterFilter negate() {
+        return c -> !includeCharacter(c);
+    }
+
+    default CompiledCharacterFilter compile() {
+        return CompiledCharacterFilter.compile(this);
+    }
 }
@@ -0,0 +1,45 @@
+package uk.org.fyodor.generators.characters;
+
+import java.util.Arrays;
+
+public final class CharacterSet {
+
+    private final char[] chars;
+    private final int hashCode;
+
+    CharacterSet(final char[] chars) {
+        this.chars = chars;
+        this.hashCode = Arrays.hashCode(chars);
+    }
+
+    public int size() {
+        return chars.length;
+    }
+
+    public char charAt(final int index) {
+        return chars[index];
+    }
+
+    public char[] toCharArray() {
+        return Arrays.copyOf(chars, chars.length);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final CharacterSet that = (CharacterSet) o;
+        return hashCode == that.hashCode && Arrays.equals(chars, that.chars);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(chars);
+    }
+}
@@ -2,11 +2,9 @@ package uk.org.fyodor.generators.characters;
 
 import uk.org.fyodor.range.Range;
 
-import java.util.Arrays;
-
 public class CharacterSetGenerator {
 
-    private char[] charset = null;
+    private final CharacterSet charset;
 
     public CharacterSetGenerator() {
         this(CharacterSetFilter.AllExceptDoubleQuotes, CharacterSetRange.defaultLatinBasic);
@@ -35,45 +33,19 @@ public class CharacterSetGenerator {
     }
 
     public CharacterSetGenerator(CharacterFilter filter, CharacterSetRange... characterSetRanges) {
-        Range<Integer>[] ranges = new Range[characterSetRanges.length];
-        for (int i = 0; i < characterSetRanges.length; i++) {
-            ranges[i] = characterSetRanges[i].getRange();
-        }
-        generateCharacterSet(filter, ranges);
+        this.charset = CharacterSets.of(filter, characterSetRanges);
     }
 
     @SafeVarargs
     public CharacterSetGenerator(CharacterFilter filter, Range<Integer>... ranges) {
-
-        generateCharacterSet(filter, ranges);
-    }
-
-    @SafeVarargs
-    private final void generateCharacterSet(CharacterFilter filter, Range<Integer>... ranges) {
-        char[] charset = new char[getTotalSizeOfRanges(ranges)];
-
-        int j = 0;
-        for (Range<Integer> range : ranges) {
-            for (int i = range.lowerBound(); i <= range.upperBound(); i++) {
-                char c = (char) i;
-                if (filter.includeCharacter(c)) {
-                    charset[j] = c;
-                    j++;
-                }
-            }
-        }
-        this.charset = Arrays.copyOf(charset, j);
+        this.charset = CharacterSets.of(filter, ranges);
     }
 
-    private int getTotalSizeOfRanges(Range<Integer>[] ranges) {
-        int rangesSize = 0;
-        for (Range<Integer> range : ranges) {
-            rangesSize += range.upperBound() - range.lowerBound() + 1;
-        }
-        return rangesSize;
+    public char[] getCharset() {
+        return charset.toCharArray();
     }
 
-    public char[] getCharset() {
-        return Arrays.copyOf(charset, charset.length);
+    public CharacterSet getCharacterSet() {
+        return charset;
     }
 }
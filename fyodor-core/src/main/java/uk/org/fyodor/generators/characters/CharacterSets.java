@@ -0,0 +1,195 @@
+package uk.org.fyodor.generators.characters;
+
+import uk.org.fyodor.range.Range;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+building a character set scans every code point in its ranges through the filter, so the sets are cached
+for the life of the process keyed by filter and ranges, and identical sets built from different keys are
+interned to share one char[], both maps stop growing once full so that filters created afresh for every
+generator (lambdas, for example) cannot exhaust the heap, those sets are built each time and counted as misses
+ */
+public final class CharacterSets {
+
+    static final int MAXIMUM_ENTRIES = 1024;
+
+    private static final Map<Key, CharacterSet> byKey = new ConcurrentHashMap<>();
+    private static final Map<CharacterSet, CharacterSet> interned = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    @SafeVarargs
+    public static CharacterSet of(final CharacterFilter filter, final Range<Integer>... ranges) {
+        if (filter == null) {
+            throw new IllegalArgumentException("character filter cannot be null");
+        }
+        if (ranges == null) {
+            throw new IllegalArgumentException("ranges cannot be null");
+        }
+
+        final Key key = new Key(filter, Arrays.asList(ranges.clone()));
+        final CharacterSet cached = byKey.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        final CharacterSet characterSet = intern(build(filter, ranges));
+        if (byKey.size() < MAXIMUM_ENTRIES) {
+            final CharacterSet existing = byKey.putIfAbsent(key, characterSet);
+            return existing == null ? characterSet : existing;
+        }
+        return characterSet;
+    }
+
+    public static CharacterSet of(final CharacterFilter filter, final CharacterSetRange... characterSetRanges) {
+        if (characterSetRanges == null) {
+            throw new IllegalArgumentException("ranges cannot be null");
+        }
+
+        @SuppressWarnings("unchecked")
+        final Range<Integer>[] ranges = new Range[characterSetRanges.length];
+        for (int i = 0; i < characterSetRanges.length; i++) {
+            ranges[i] = characterSetRanges[i].getRange();
+        }
+        return of(filter, ranges);
+    }
+
+    public static CharacterSet of(final char[] chars) {
+        if (chars == null) {
+            throw new IllegalArgumentException("characters cannot be null");
+        }
+
+        return intern(new CharacterSet(chars.clone()));
+    }
+
+    public static Statistics statistics() {
+        long chars = 0;
+        for (final CharacterSet characterSet : interned.keySet()) {
+            chars += characterSet.size();
+        }
+        return new Statistics(hits.sum(), misses.sum(), byKey.size(), interned.size(), chars * Character.BYTES);
+    }
+
+    static void clear() {
+        byKey.clear();
+        interned.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    private static CharacterSet intern(final CharacterSet characterSet) {
+        final CharacterSet existing = interned.get(characterSet);
+        if (existing != null) {
+            return existing;
+        }
+        if (interned.size() < MAXIMUM_ENTRIES) {
+            final CharacterSet raced = interned.putIfAbsent(characterSet, characterSet);
+            return raced == null ? characterSet : raced;
+        }
+        return characterSet;
+    }
+
+    private static CharacterSet build(final CharacterFilter filter, final Range<Integer>[] ranges) {
+        int size = 0;
+        for (final Range<Integer> range : ranges) {
+            size += range.upperBound() - range.lowerBound() + 1;
+        }
+
+        final char[] charset = new char[size];
+        int j = 0;
+        for (final Range<Integer> range : ranges) {
+            for (int i = range.lowerBound(); i <= range.upperBound(); i++) {
+                final char c = (char) i;
+                if (filter.includeCharacter(c)) {
+                    charset[j++] = c;
+                }
+            }
+        }
+        return new CharacterSet(Arrays.copyOf(charset, j));
+    }
+
+    private CharacterSets() {
+    }
+
+    public static final class Statistics {
+
+        private final long hits;
+        private final long misses;
+        private final int entries;
+        private final int internedSets;
+        private final long footprintInBytes;
+
+        private Statistics(final long hits, final long misses, final int entries, final int internedSets, final long footprintInBytes) {
+            this.hits = hits;
+            this.misses = misses;
+            this.entries = entries;
+            this.internedSets = internedSets;
+            this.footprintInBytes = footprintInBytes;
+        }
+
+        public long hits() {
+            return hits;
+        }
+
+        public long misses() {
+            return misses;
+        }
+
+        public int entries() {
+            return entries;
+        }
+
+        public int internedSets() {
+            return internedSets;
+        }
+
+        public long footprintInBytes() {
+            return footprintInBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistics{" +
+                    "hits=" + hits +
+                    ", misses=" + misses +
+                    ", entries=" + entries +
+                    ", internedSets=" + internedSets +
+                    ", footprintInBytes=" + footprintInBytes +
+                    '}';
+        }
+    }
+
+    private static final class Key {
+
+        private final CharacterFilter filter;
+        private final List<Range<Integer>> ranges;
+        private final int hashCode;
+
+        private Key(final CharacterFilter filter, final List<Range<Integer>> ranges) {
+            this.filter = filter;
+            this.ranges = ranges;
+            this.hashCode = 31 * filter.hashCode() + ranges.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final Key that = (Key) o;
+            return filter.equals(that.filter) && ranges.equals(that.ranges);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package uk.org.fyodor.generators.characters;
+
+import java.util.Arrays;
+
+/*
+a filter evaluated once for every char in the basic multilingual plane and kept as a 64K bit table,
+so that testing a character afterwards is a single array lookup however expensive the original filter was
+ */
+public final class CompiledCharacterFilter implements CharacterFilter {
+
+    private static final int WORDS = (Character.MAX_VALUE + 1) >>> 6;
+
+    private final long[] bits;
+
+    CompiledCharacterFilter(final long[] bits) {
+        this.bits = bits;
+    }
+
+    public static CompiledCharacterFilter compile(final CharacterFilter filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("character filter cannot be null");
+        }
+        if (filter instanceof CompiledCharacterFilter) {
+            return (CompiledCharacterFilter) filter;
+        }
+
+        final long[] bits = new long[WORDS];
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            if (filter.includeCharacter((char) c)) {
+                bits[c >>> 6] |= 1L << c;
+            }
+        }
+        return new CompiledCharacterFilter(bits);
+    }
+
+    @Override
+    public boolean includeCharacter(final char c) {
+        return (bits[c >>> 6] & (1L << c)) != 0;
+    }
+
+    @Override
+    public CharacterFilter and(final CharacterFilter other) {
+        if (other instanceof CompiledCharacterFilter) {
+            final long[] otherBits = ((CompiledCharacterFilter) other).bits;
+            final long[] combined = new long[WORDS];
+            for (int i = 0; i < WORDS; i++) {
+                combined[i] = bits[i] & otherBits[i];
+            }
+            return new CompiledCharacterFilter(combined);
+        }
+        return CharacterFilter.super.and(other);
+    }
+
+    @Override
+    public CharacterFilter or(final CharacterFilter other) {
+        if (other instanceof CompiledCharacterFilter) {
+            final long[] otherBits = ((CompiledCharacterFilter) other).bits;
+            final long[] combined = new long[WORDS];
+            for (int i = 0; i < WORDS; i++) {
+                combined[i] = bits[i] | otherBits[i];
+            }
+            return new CompiledCharacterFilter(combined);
+        }
+        return CharacterFilter.super.or(other);
+    }
+
+    @Override
+    public CharacterFilter negate() {
+        final long[] negated = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            negated[i] = ~bits[i];
+        }
+        return new CompiledCharacterFilter(negated);
+    }
+
+    @Override
+    public CompiledCharacterFilter compile() {
+        return this;
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (final long word : bits) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || o instanceof CompiledCharacterFilter && Arrays.equals(bits, ((CompiledCharacterFilter) o).bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledCharacterFilter{cardinality=" + cardinality() + "}";
+    }
+}
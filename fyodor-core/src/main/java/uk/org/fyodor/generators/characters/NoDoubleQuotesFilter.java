@@ -12,6 +12,6 @@ public class NoDoubleQuotesFilter implements CharacterFilter {
 
     @Override
     public boolean includeCharacter(char c) {
-        return !"\"".equals(String.valueOf(c));
+        return c != '"';
     }
 }
@@ -1,10 +1,25 @@
 package uk.org.fyodor.generators.characters;
 
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/*
+matching a regex allocates a String and a Matcher, so the pattern is run once for each block of 64 chars
+the first time a char in that block is tested and the answers are kept as bits, a block's bits are written
+before the block is marked as known so any thread that sees the mark also sees the bits, and two threads
+racing on the same block just work out the same bits twice. the compiled filter is kept once it is built, two
+threads compiling at the same time may each build one but only the first to finish is kept
+ */
 public class RegExCharacterFilter implements CharacterFilter {
 
+    private static final int WORDS = (Character.MAX_VALUE + 1) >>> 6;
+
     private final Pattern pattern;
+    private final long[] words = new long[WORDS];
+    private final AtomicLongArray known = new AtomicLongArray(WORDS >>> 6);
+    private final AtomicReference<CompiledCharacterFilter> compiled = new AtomicReference<>();
 
     public RegExCharacterFilter(String regex) {
         pattern = Pattern.compile(regex);
@@ -12,6 +27,45 @@ public class RegExCharacterFilter implements CharacterFilter {
 
     @Override
     public boolean includeCharacter(char c) {
-        return pattern.matcher(String.valueOf(c)).find();
+        return (word(c >>> 6) & (1L << c)) != 0;
+    }
+
+    @Override
+    public CompiledCharacterFilter compile() {
+        final CompiledCharacterFilter existing = compiled.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        final long[] bits = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            bits[i] = word(i);
+        }
+        compiled.compareAndSet(null, new CompiledCharacterFilter(bits));
+        return compiled.get();
+    }
+
+    private long word(final int index) {
+        if ((known.get(index >>> 6) & (1L << index)) != 0) {
+            return words[index];
+        }
+
+        final Matcher matcher = pattern.matcher("");
+        long word = 0;
+        for (int c = index << 6, bit = 0; bit < Long.SIZE; c++, bit++) {
+            if (matcher.reset(String.valueOf((char) c)).find()) {
+                word |= 1L << bit;
+            }
+        }
+        words[index] = word;
+        setKnown(index);
+        return word;
+    }
+
+    private void setKnown(final int index) {
+        long current;
+        do {
+            current = known.get(index >>> 6);
+        } while (!known.compareAndSet(index >>> 6, current, current | (1L << index)));
     }
 }
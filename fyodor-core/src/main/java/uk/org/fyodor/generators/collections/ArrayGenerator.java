@@ -6,18 +6,33 @@ import uk.org.fyodor.range.Range;
 
 import java.lang.reflect.Array;
 
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+
 public final class ArrayGenerator<T> implements Generator<T[]> {
 
     private final RandomValues randomValues;
     private final Class<? extends T> classOfT;
     private final Generator<? extends T> generatorOfT;
+    private final Range<Integer> requestedSizeRange;
     private final Range<Integer> sizeRange;
+    private final boolean large;
 
     public ArrayGenerator(final RandomValues randomValues, final Class<? extends T> classOfT, final Generator<? extends T> generatorOfT, final Range<Integer> sizeRange) {
+        this(randomValues, classOfT, generatorOfT, sizeRange, false);
+    }
+
+    private ArrayGenerator(final RandomValues randomValues, final Class<? extends T> classOfT, final Generator<? extends T> generatorOfT, final Range<Integer> sizeRange, final boolean large) {
         this.randomValues = randomValues;
         this.classOfT = classOfT;
         this.generatorOfT = generatorOfT;
-        this.sizeRange = sizeRange.limit(Range.closed(0, 1000));
+        this.requestedSizeRange = sizeRange;
+        this.sizeRange = Sizes.limit(sizeRange, large);
+        this.large = large;
+    }
+
+    /* lifts the cap of a thousand elements and fills the array in parallel, see ChunkedFill */
+    public ArrayGenerator<T> large() {
+        return new ArrayGenerator<>(randomValues, classOfT, generatorOfT, requestedSizeRange, true);
     }
 
     @Override
@@ -25,6 +40,11 @@ public final class ArrayGenerator<T> implements Generator<T[]> {
         final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
         final T[] arrayOfT = newArray(classOfT, size);
 
+        if (large) {
+            ChunkedFill.fill(seed().nextSplit(), 0, size, generatorOfT, (index, value) -> arrayOfT[index] = cast(value));
+            return arrayOfT;
+        }
+
         for (int i = 0; i < size; i++) {
             arrayOfT[i] = generatorOfT.next();
         }
@@ -36,4 +56,9 @@ public final class ArrayGenerator<T> implements Generator<T[]> {
     private static <T> T[] newArray(final Class<? extends T> classOfT, final int size) {
         return (T[]) Array.newInstance(classOfT, size);
     }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(final Object value) {
+        return (T) value;
+    }
 }
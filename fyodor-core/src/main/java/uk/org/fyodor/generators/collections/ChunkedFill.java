@@ -0,0 +1,97 @@
+package uk.org.fyodor.generators.collections;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.SplitSeed;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+fills the elements of a large collection a chunk at a time in the common fork join pool. each chunk draws from its
+own seed derived from the chunk's index, so the elements depend only on the split they were given and not on how
+many threads took part. the element generators are called from several threads at once so must not hold state of
+their own, which is true of everything built by RDG
+ */
+final class ChunkedFill {
+
+    interface Sink {
+        void set(int index, Object value);
+    }
+
+    static final int CHUNK_SIZE = 1024;
+
+    private static final int CHUNKS_PER_TASK = 16;
+
+    static void fill(final SplitSeed split,
+                     final long firstChunk,
+                     final int count,
+                     final Generator<?> generator,
+                     final Sink sink) {
+        final int chunks = chunks(count);
+        final Fill fill = new Fill(split, firstChunk, count, generator, sink, 0, chunks);
+        if (chunks <= CHUNKS_PER_TASK) {
+            fill.compute();
+        } else {
+            ForkJoinPool.commonPool().invoke(fill);
+        }
+    }
+
+    static Object[] fill(final SplitSeed split, final long firstChunk, final int count, final Generator<?> generator) {
+        final Object[] values = new Object[count];
+        fill(split, firstChunk, count, generator, (index, value) -> values[index] = value);
+        return values;
+    }
+
+    static int chunks(final int count) {
+        return (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    private static final class Fill extends RecursiveAction {
+        private final SplitSeed split;
+        private final long firstChunk;
+        private final int count;
+        private final Generator<?> generator;
+        private final Sink sink;
+        private final int fromChunk;
+        private final int toChunk;
+
+        Fill(final SplitSeed split,
+             final long firstChunk,
+             final int count,
+             final Generator<?> generator,
+             final Sink sink,
+             final int fromChunk,
+             final int toChunk) {
+            this.split = split;
+            this.firstChunk = firstChunk;
+            this.count = count;
+            this.generator = generator;
+            this.sink = sink;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > CHUNKS_PER_TASK) {
+                final int middle = (fromChunk + toChunk) >>> 1;
+                invokeAll(new Fill(split, firstChunk, count, generator, sink, fromChunk, middle),
+                        new Fill(split, firstChunk, count, generator, sink, middle, toChunk));
+                return;
+            }
+
+            for (int chunk = fromChunk; chunk < toChunk; chunk++) {
+                final int from = chunk * CHUNK_SIZE;
+                final int to = Math.min(count, from + CHUNK_SIZE);
+                split.run(firstChunk + chunk, () -> {
+                    for (int i = from; i < to; i++) {
+                        sink.set(i, generator.next());
+                    }
+                });
+            }
+        }
+    }
+
+    private ChunkedFill() {
+    }
+}
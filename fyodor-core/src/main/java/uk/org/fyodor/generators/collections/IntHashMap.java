@@ -0,0 +1,184 @@
+package uk.org.fyodor.generators.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static uk.org.fyodor.generators.collections.OpenAddressing.capacityFor;
+import static uk.org.fyodor.generators.collections.OpenAddressing.grownCapacity;
+import static uk.org.fyodor.generators.collections.OpenAddressing.mix;
+import static uk.org.fyodor.generators.collections.OpenAddressing.threshold;
+
+/* a map from ints to values with the keys in a single int array and the values alongside, see OpenAddressing */
+public final class IntHashMap<V> {
+
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int threshold;
+    private int size;
+    private boolean containsZero;
+    private V zeroValue;
+
+    public IntHashMap(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public V put(final int key, final V value) {
+        if (key == 0) {
+            final V previous = zeroValue;
+            zeroValue = value;
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+            return previous;
+        }
+
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                final V previous = valueAt(slot);
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            rehash(grownCapacity(keys.length));
+        }
+        return null;
+    }
+
+    public V get(final int key) {
+        if (key == 0) {
+            return zeroValue;
+        }
+
+        final int slot = slotOf(key);
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    public boolean containsKey(final int key) {
+        return key == 0 ? containsZero : slotOf(key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(final EntryConsumer<? super V> action) {
+        if (containsZero) {
+            action.accept(0, zeroValue);
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                action.accept(keys[slot], valueAt(slot));
+            }
+        }
+    }
+
+    public int[] keys() {
+        final int[] array = new int[size];
+        int i = containsZero ? 1 : 0;
+        for (final int key : keys) {
+            if (key != 0) {
+                array[i++] = key;
+            }
+        }
+        return array;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final IntHashMap<?> that = (IntHashMap<?>) o;
+        if (size != that.size || containsZero != that.containsZero || !Objects.equals(zeroValue, that.zeroValue)) {
+            return false;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                final int other = that.slotOf(keys[slot]);
+                if (other < 0 || !Objects.equals(values[slot], that.values[other])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = containsZero ? Objects.hashCode(zeroValue) : 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                hashCode += keys[slot] ^ Objects.hashCode(values[slot]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final int[] sortedKeys = keys();
+        Arrays.sort(sortedKeys);
+        final StringBuilder builder = new StringBuilder("{");
+        for (final int key : sortedKeys) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(get(key));
+        }
+        return builder.append('}').toString();
+    }
+
+    private int slotOf(final int key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(final int slot) {
+        return (V) values[slot];
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = threshold(capacity);
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++) {
+            if (oldKeys[oldSlot] != 0) {
+                int slot = mix(oldKeys[oldSlot]) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[oldSlot];
+                values[slot] = oldValues[oldSlot];
+            }
+        }
+    }
+}
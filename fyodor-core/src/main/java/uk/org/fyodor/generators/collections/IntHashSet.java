@@ -0,0 +1,145 @@
+package uk.org.fyodor.generators.collections;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import static uk.org.fyodor.generators.collections.OpenAddressing.capacityFor;
+import static uk.org.fyodor.generators.collections.OpenAddressing.grownCapacity;
+import static uk.org.fyodor.generators.collections.OpenAddressing.mix;
+import static uk.org.fyodor.generators.collections.OpenAddressing.threshold;
+
+/* a set of ints in a single int array, see OpenAddressing */
+public final class IntHashSet {
+
+    private int[] keys;
+    private int mask;
+    private int threshold;
+    private int size;
+    private boolean containsZero;
+
+    public IntHashSet(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public boolean add(final int key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > threshold) {
+            rehash(grownCapacity(keys.length));
+        }
+        return true;
+    }
+
+    public boolean contains(final int key) {
+        if (key == 0) {
+            return containsZero;
+        }
+
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(final IntConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (final int key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public int[] toArray() {
+        final int[] array = new int[size];
+        int i = containsZero ? 1 : 0;
+        for (final int key : keys) {
+            if (key != 0) {
+                array[i++] = key;
+            }
+        }
+        return array;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final IntHashSet that = (IntHashSet) o;
+        if (size != that.size || containsZero != that.containsZero) {
+            return false;
+        }
+        for (final int key : keys) {
+            if (key != 0 && !that.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (final int key : keys) {
+            hashCode += key;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final int[] array = toArray();
+        Arrays.sort(array);
+        return Arrays.toString(array);
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        threshold = threshold(capacity);
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldKeys = keys;
+        allocate(capacity);
+        for (final int key : oldKeys) {
+            if (key != 0) {
+                int slot = mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package uk.org.fyodor.generators.collections;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import static uk.org.fyodor.generators.collections.IntSetGenerator.BATCH_SIZE;
+
+/* keys are drawn in batches as for IntSetGenerator, and a value is generated for each key that is new to the map */
+public final class IntMapGenerator<V> implements Generator<IntHashMap<V>> {
+
+    private final RandomValues randomValues;
+    private final int lower;
+    private final int upper;
+    private final Generator<? extends V> generatorOfV;
+    private final Range<Integer> sizeRange;
+
+    public IntMapGenerator(final RandomValues randomValues,
+                           final Range<Integer> keyRange,
+                           final Generator<? extends V> generatorOfV,
+                           final Range<Integer> sizeRange) {
+        this.randomValues = randomValues;
+        this.lower = keyRange.lowerBound();
+        this.upper = keyRange.upperBound();
+        this.generatorOfV = generatorOfV;
+        this.sizeRange = OpenAddressing.limit(sizeRange);
+    }
+
+    @Override
+    public IntHashMap<V> next() {
+        final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
+        final IntHashMap<V> map = new IntHashMap<>(size);
+        final int[] batch = new int[Math.min(size, BATCH_SIZE)];
+        while (map.size() < size) {
+            randomValues.fillIntegers(batch, lower, upper);
+            for (int i = 0; i < batch.length && map.size() < size; i++) {
+                if (!map.containsKey(batch[i])) {
+                    map.put(batch[i], generatorOfV.next());
+                }
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,40 @@
+package uk.org.fyodor.generators.collections;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+/*
+candidates are drawn a batch at a time by a bulk fill and added until the set is full. the factory makes sure the
+range holds at least as many values as the largest set, so this always finishes
+ */
+public final class IntSetGenerator implements Generator<IntHashSet> {
+
+    static final int BATCH_SIZE = 4096;
+
+    private final RandomValues randomValues;
+    private final int lower;
+    private final int upper;
+    private final Range<Integer> sizeRange;
+
+    public IntSetGenerator(final RandomValues randomValues, final Range<Integer> range, final Range<Integer> sizeRange) {
+        this.randomValues = randomValues;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+        this.sizeRange = OpenAddressing.limit(sizeRange);
+    }
+
+    @Override
+    public IntHashSet next() {
+        final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
+        final IntHashSet set = new IntHashSet(size);
+        final int[] batch = new int[Math.min(size, BATCH_SIZE)];
+        while (set.size() < size) {
+            randomValues.fillIntegers(batch, lower, upper);
+            for (int i = 0; i < batch.length && set.size() < size; i++) {
+                set.add(batch[i]);
+            }
+        }
+        return set;
+    }
+}
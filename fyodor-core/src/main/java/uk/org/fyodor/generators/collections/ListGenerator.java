@@ -4,28 +4,58 @@ import uk.org.fyodor.generators.Generator;
 import uk.org.fyodor.random.RandomValues;
 import uk.org.fyodor.range.Range;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+
 public final class ListGenerator<T> implements Generator<List<T>> {
 
     private final RandomValues randomValues;
     private final Generator<? extends T> generatorOfT;
+    private final Range<Integer> requestedSizeRange;
     private final Range<Integer> sizeRange;
+    private final boolean large;
 
     public ListGenerator(final RandomValues randomValues, final Generator<? extends T> generatorOfT, final Range<Integer> sizeRange) {
+        this(randomValues, generatorOfT, sizeRange, false);
+    }
+
+    private ListGenerator(final RandomValues randomValues, final Generator<? extends T> generatorOfT, final Range<Integer> sizeRange, final boolean large) {
         this.randomValues = randomValues;
         this.generatorOfT = generatorOfT;
-        this.sizeRange = sizeRange.limit(Range.closed(0, 1000));
+        this.requestedSizeRange = sizeRange;
+        this.sizeRange = Sizes.limit(sizeRange, large);
+        this.large = large;
+    }
+
+    /* lifts the cap of a thousand elements and fills the list in parallel, see ChunkedFill */
+    public ListGenerator<T> large() {
+        return new ListGenerator<>(randomValues, generatorOfT, requestedSizeRange, true);
     }
 
     @Override
     public List<T> next() {
         final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
-        final List<T> listOfTs = new LinkedList<>();
+        if (large) {
+            /* setting the slots of a list already filled with nulls changes no structure, so threads can share it */
+            final List<T> listOfTs = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                listOfTs.add(null);
+            }
+            ChunkedFill.fill(seed().nextSplit(), 0, size, generatorOfT, (index, value) -> listOfTs.set(index, cast(value)));
+            return listOfTs;
+        }
+
+        final List<T> listOfTs = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
             listOfTs.add(generatorOfT.next());
         }
         return listOfTs;
     }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(final Object value) {
+        return (T) value;
+    }
 }
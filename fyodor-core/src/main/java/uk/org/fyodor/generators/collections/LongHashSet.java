@@ -0,0 +1,145 @@
+package uk.org.fyodor.generators.collections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+import static uk.org.fyodor.generators.collections.OpenAddressing.capacityFor;
+import static uk.org.fyodor.generators.collections.OpenAddressing.grownCapacity;
+import static uk.org.fyodor.generators.collections.OpenAddressing.mix;
+import static uk.org.fyodor.generators.collections.OpenAddressing.threshold;
+
+/* a set of longs in a single long array, see OpenAddressing */
+public final class LongHashSet {
+
+    private long[] keys;
+    private int mask;
+    private int threshold;
+    private int size;
+    private boolean containsZero;
+
+    public LongHashSet(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public boolean add(final long key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size > threshold) {
+            rehash(grownCapacity(keys.length));
+        }
+        return true;
+    }
+
+    public boolean contains(final long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(final LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (final long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public long[] toArray() {
+        final long[] array = new long[size];
+        int i = containsZero ? 1 : 0;
+        for (final long key : keys) {
+            if (key != 0) {
+                array[i++] = key;
+            }
+        }
+        return array;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final LongHashSet that = (LongHashSet) o;
+        if (size != that.size || containsZero != that.containsZero) {
+            return false;
+        }
+        for (final long key : keys) {
+            if (key != 0 && !that.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (final long key : keys) {
+            hashCode += Long.hashCode(key);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final long[] array = toArray();
+        Arrays.sort(array);
+        return Arrays.toString(array);
+    }
+
+    private void allocate(final int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        threshold = threshold(capacity);
+    }
+
+    private void rehash(final int capacity) {
+        final long[] oldKeys = keys;
+        allocate(capacity);
+        for (final long key : oldKeys) {
+            if (key != 0) {
+                int slot = mix(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package uk.org.fyodor.generators.collections;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import static uk.org.fyodor.generators.collections.IntSetGenerator.BATCH_SIZE;
+
+/* keys are drawn in batches as for LongSetGenerator, and a value is generated for each key that is new to the map */
+public final class LongMapGenerator<V> implements Generator<LongHashMap<V>> {
+
+    private final RandomValues randomValues;
+    private final long lower;
+    private final long upper;
+    private final Generator<? extends V> generatorOfV;
+    private final Range<Integer> sizeRange;
+
+    public LongMapGenerator(final RandomValues randomValues,
+                            final Range<Long> keyRange,
+                            final Generator<? extends V> generatorOfV,
+                            final Range<Integer> sizeRange) {
+        this.randomValues = randomValues;
+        this.lower = keyRange.lowerBound();
+        this.upper = keyRange.upperBound();
+        this.generatorOfV = generatorOfV;
+        this.sizeRange = OpenAddressing.limit(sizeRange);
+    }
+
+    @Override
+    public LongHashMap<V> next() {
+        final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
+        final LongHashMap<V> map = new LongHashMap<>(size);
+        final long[] batch = new long[Math.min(size, BATCH_SIZE)];
+        while (map.size() < size) {
+            randomValues.fillLongs(batch, lower, upper);
+            for (int i = 0; i < batch.length && map.size() < size; i++) {
+                if (!map.containsKey(batch[i])) {
+                    map.put(batch[i], generatorOfV.next());
+                }
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,35 @@
+package uk.org.fyodor.generators.collections;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+/* filled in the same way as IntSetGenerator */
+public final class LongSetGenerator implements Generator<LongHashSet> {
+
+    private final RandomValues randomValues;
+    private final long lower;
+    private final long upper;
+    private final Range<Integer> sizeRange;
+
+    public LongSetGenerator(final RandomValues randomValues, final Range<Long> range, final Range<Integer> sizeRange) {
+        this.randomValues = randomValues;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+        this.sizeRange = OpenAddressing.limit(sizeRange);
+    }
+
+    @Override
+    public LongHashSet next() {
+        final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
+        final LongHashSet set = new LongHashSet(size);
+        final long[] batch = new long[Math.min(size, IntSetGenerator.BATCH_SIZE)];
+        while (set.size() < size) {
+            randomValues.fillLongs(batch, lower, upper);
+            for (int i = 0; i < batch.length && set.size() < size; i++) {
+                set.add(batch[i]);
+            }
+        }
+        return set;
+    }
+}
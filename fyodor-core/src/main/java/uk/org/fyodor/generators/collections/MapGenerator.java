@@ -2,50 +2,107 @@ package uk.org.fyodor.generators.collections;
 
 import uk.org.fyodor.generators.Generator;
 import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.random.SplitSeed;
 import uk.org.fyodor.range.Range;
 
 import java.util.HashMap;
 import java.util.Map;
 
-import static uk.org.fyodor.range.Range.closed;
 import static java.lang.String.format;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
 
 public final class MapGenerator<K, V> implements Generator<Map<K, V>> {
 
     private final RandomValues randomValues;
     private final Generator<? extends K> generatorOfK;
     private final Generator<? extends V> generatorOfV;
+    private final Range<Integer> requestedSizeRange;
     private final Range<Integer> sizeRange;
+    private final boolean large;
 
     public MapGenerator(final RandomValues randomValues,
                         final Generator<? extends K> generatorOfK,
                         final Generator<? extends V> generatorOfV,
                         final Range<Integer> sizeRange) {
+        this(randomValues, generatorOfK, generatorOfV, sizeRange, false);
+    }
+
+    private MapGenerator(final RandomValues randomValues,
+                         final Generator<? extends K> generatorOfK,
+                         final Generator<? extends V> generatorOfV,
+                         final Range<Integer> sizeRange,
+                         final boolean large) {
         this.randomValues = randomValues;
         this.generatorOfK = generatorOfK;
         this.generatorOfV = generatorOfV;
-        this.sizeRange = sizeRange.limit(closed(0, 1000));
+        this.requestedSizeRange = sizeRange;
+        this.sizeRange = Sizes.limit(sizeRange, large);
+        this.large = large;
+    }
+
+    /* lifts the cap of a thousand entries and generates the candidate entries in parallel, see ChunkedFill */
+    public MapGenerator<K, V> large() {
+        return new MapGenerator<>(randomValues, generatorOfK, generatorOfV, requestedSizeRange, true);
     }
 
     @Override
     public Map<K, V> next() {
         final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
-        final HashMap<K, V> map = new HashMap<>();
+        final HashMap<K, V> map = new HashMap<>(Sizes.hashCapacity(size));
+        if (large) {
+            return fill(map, size, seed().nextSplit());
+        }
 
         int misses = 0;
         while (map.size() < size) {
             final int sizeBeforePut = map.size();
-            final K key = generatorOfK.next();
-            if (key == null) {
-                throw new NullPointerException("key generator generated a null value");
-            }
-            map.put(key, generatorOfV.next());
+            map.put(key(generatorOfK.next()), generatorOfV.next());
             if (map.size() == sizeBeforePut) {
                 if (++misses > 2000) {
-                    throw new IllegalStateException(format("unable to generate map of size %s because the key generator returned too many duplicate values", size));
+                    throw tooManyDuplicates(size);
                 }
             }
         }
         return map;
     }
+
+    /*
+    keys and values come from separate child splits and are put in order, so the map is the same however many
+    threads took part. a duplicate key replaces the earlier value, as it does when the map is filled one at a time,
+    and as with sets this only gives up after 2000 duplicate keys in a row
+     */
+    @SuppressWarnings("unchecked")
+    private Map<K, V> fill(final Map<K, V> map, final int size, final SplitSeed split) {
+        final SplitSeed keySplit = split.child(0);
+        final SplitSeed valueSplit = split.child(1);
+        long chunk = 0;
+        int misses = 0;
+        while (map.size() < size) {
+            final int wanted = size - map.size();
+            final Object[] keys = ChunkedFill.fill(keySplit, chunk, wanted, generatorOfK);
+            final Object[] values = ChunkedFill.fill(valueSplit, chunk, wanted, generatorOfV);
+            for (int i = 0; i < wanted; i++) {
+                final int sizeBeforePut = map.size();
+                map.put(key((K) keys[i]), (V) values[i]);
+                if (map.size() > sizeBeforePut) {
+                    misses = 0;
+                } else if (++misses > 2000) {
+                    throw tooManyDuplicates(size);
+                }
+            }
+            chunk += ChunkedFill.chunks(wanted);
+        }
+        return map;
+    }
+
+    private static <K> K key(final K key) {
+        if (key == null) {
+            throw new NullPointerException("key generator generated a null value");
+        }
+        return key;
+    }
+
+    private static IllegalStateException tooManyDuplicates(final int size) {
+        return new IllegalStateException(format("unable to generate map of size %s because the key generator returned too many duplicate values", size));
+    }
 }
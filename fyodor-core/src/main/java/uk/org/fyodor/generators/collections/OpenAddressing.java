@@ -0,0 +1,53 @@
+package uk.org.fyodor.generators.collections;
+
+import uk.org.fyodor.range.Range;
+
+import static uk.org.fyodor.range.Range.closed;
+
+/*
+the primitive sets and maps keep their keys in a power of two table probed linearly from a mixed hash, at most three
+quarters full, with the key zero held outside the table so that zero can mark an empty slot
+ */
+final class OpenAddressing {
+
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+    static final int MAXIMUM_SIZE = MAXIMUM_CAPACITY / 4 * 3;
+
+    private static final Range<Integer> SIZES = closed(0, MAXIMUM_SIZE);
+
+    static Range<Integer> limit(final Range<Integer> sizeRange) {
+        return sizeRange.limit(SIZES);
+    }
+
+    static int capacityFor(final int size) {
+        if (size < 0 || size > MAXIMUM_SIZE) {
+            throw new IllegalArgumentException("expected size must be between 0 and " + MAXIMUM_SIZE);
+        }
+        final int minimum = (int) ((size * 4L + 2) / 3);
+        return Math.max(2, Integer.highestOneBit(Math.max(1, minimum) * 2 - 1));
+    }
+
+    static int threshold(final int capacity) {
+        return capacity / 4 * 3;
+    }
+
+    static int mix(final int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    static int grownCapacity(final int capacity) {
+        if (capacity == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("cannot hold more than " + MAXIMUM_SIZE + " keys");
+        }
+        return capacity * 2;
+    }
+
+    private OpenAddressing() {
+    }
+}
@@ -2,29 +2,48 @@ package uk.org.fyodor.generators.collections;
 
 import uk.org.fyodor.generators.Generator;
 import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.random.SplitSeed;
 import uk.org.fyodor.range.Range;
 
 import java.util.HashSet;
 import java.util.Set;
 
 import static java.lang.String.format;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
 
 public final class SetGenerator<T> implements Generator<Set<T>> {
 
     private final RandomValues randomValues;
     private final Generator<? extends T> generatorOfT;
+    private final Range<Integer> requestedSizeRange;
     private final Range<Integer> sizeRange;
+    private final boolean large;
 
     public SetGenerator(final RandomValues randomValues, final Generator<? extends T> generatorOfT, final Range<Integer> sizeRange) {
+        this(randomValues, generatorOfT, sizeRange, false);
+    }
+
+    private SetGenerator(final RandomValues randomValues, final Generator<? extends T> generatorOfT, final Range<Integer> sizeRange, final boolean large) {
         this.randomValues = randomValues;
         this.generatorOfT = generatorOfT;
-        this.sizeRange = sizeRange.limit(Range.closed(0, 1000));
+        this.requestedSizeRange = sizeRange;
+        this.sizeRange = Sizes.limit(sizeRange, large);
+        this.large = large;
+    }
+
+    /* lifts the cap of a thousand elements and generates the candidate elements in parallel, see ChunkedFill */
+    public SetGenerator<T> large() {
+        return new SetGenerator<>(randomValues, generatorOfT, requestedSizeRange, true);
     }
 
     @Override
     public Set<T> next() {
         final int size = randomValues.randomInteger(sizeRange.lowerBound(), sizeRange.upperBound());
-        final Set<T> setOfT = new HashSet<>();
+        final Set<T> setOfT = new HashSet<>(Sizes.hashCapacity(size));
+        if (large) {
+            return fill(setOfT, size, seed().nextSplit());
+        }
+
         int missCount = 0;
         while (setOfT.size() < size) {
             final int sizeBefore = setOfT.size();
@@ -33,9 +52,36 @@ public final class SetGenerator<T> implements Generator<Set<T>> {
                 missCount++;
             }
             if (missCount >= 2000) {
-                throw new IllegalStateException(format("unable to generate set of size %s because the value generator returned too many duplicate values", size));
+                throw tooManyDuplicates(size);
             }
         }
         return setOfT;
     }
+
+    /*
+    the candidates are generated in parallel but added in order, so the set is the same however many threads took
+    part. candidates lost to duplicates are made up with further chunks until the set is full. duplicates are
+    expected in proportion to the size, so this only gives up after 2000 duplicates in a row
+     */
+    @SuppressWarnings("unchecked")
+    private Set<T> fill(final Set<T> setOfT, final int size, final SplitSeed split) {
+        long chunk = 0;
+        int missCount = 0;
+        while (setOfT.size() < size) {
+            final int wanted = size - setOfT.size();
+            for (final Object candidate : ChunkedFill.fill(split, chunk, wanted, generatorOfT)) {
+                if (setOfT.add((T) candidate)) {
+                    missCount = 0;
+                } else if (++missCount >= 2000) {
+                    throw tooManyDuplicates(size);
+                }
+            }
+            chunk += ChunkedFill.chunks(wanted);
+        }
+        return setOfT;
+    }
+
+    private static IllegalStateException tooManyDuplicates(final int size) {
+        return new IllegalStateException(format("unable to generate set of size %s because the value generator returned too many duplicate values", size));
+    }
 }
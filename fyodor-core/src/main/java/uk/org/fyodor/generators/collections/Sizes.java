@@ -0,0 +1,29 @@
+package uk.org.fyodor.generators.collections;
+
+import uk.org.fyodor.range.Range;
+
+import static uk.org.fyodor.range.Range.closed;
+
+/*
+collections are capped at a thousand elements unless they are large, in which case they are only capped at the
+largest array the vm will allocate. hash collections are given the capacity that holds their final size without
+rehashing at the default load factor
+ */
+final class Sizes {
+
+    private static final Range<Integer> MAXIMUM = closed(0, 1000);
+    private static final Range<Integer> LARGE_MAXIMUM = closed(0, Integer.MAX_VALUE - 8);
+
+    private static final int MAXIMUM_HASH_CAPACITY = 1 << 30;
+
+    static Range<Integer> limit(final Range<Integer> sizeRange, final boolean large) {
+        return sizeRange.limit(large ? LARGE_MAXIMUM : MAXIMUM);
+    }
+
+    static int hashCapacity(final int size) {
+        return (int) Math.min((long) Math.ceil(size / 0.75), MAXIMUM_HASH_CAPACITY);
+    }
+
+    private Sizes() {
+    }
+}
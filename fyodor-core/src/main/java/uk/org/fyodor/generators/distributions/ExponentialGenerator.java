@@ -0,0 +1,27 @@
+package uk.org.fyodor.generators.distributions;
+
+import uk.org.fyodor.generators.DoubleGenerator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import static uk.org.fyodor.generators.distributions.Uniforms.clamp;
+
+public final class ExponentialGenerator implements DoubleGenerator {
+
+    private final RandomValues randomValues;
+    private final double mean;
+    private final double lower;
+    private final double upper;
+
+    public ExponentialGenerator(final RandomValues randomValues, final double mean, final Range<Double> range) {
+        this.randomValues = randomValues;
+        this.mean = mean;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+    }
+
+    @Override
+    public double nextDouble() {
+        return clamp(mean * Ziggurat.exponential(randomValues), lower, upper);
+    }
+}
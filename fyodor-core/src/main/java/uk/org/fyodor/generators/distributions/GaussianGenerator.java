@@ -0,0 +1,32 @@
+package uk.org.fyodor.generators.distributions;
+
+import uk.org.fyodor.generators.DoubleGenerator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import static uk.org.fyodor.generators.distributions.Uniforms.clamp;
+
+public final class GaussianGenerator implements DoubleGenerator {
+
+    private final RandomValues randomValues;
+    private final double mean;
+    private final double standardDeviation;
+    private final double lower;
+    private final double upper;
+
+    public GaussianGenerator(final RandomValues randomValues,
+                             final double mean,
+                             final double standardDeviation,
+                             final Range<Double> range) {
+        this.randomValues = randomValues;
+        this.mean = mean;
+        this.standardDeviation = standardDeviation;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+    }
+
+    @Override
+    public double nextDouble() {
+        return clamp(mean + standardDeviation * Ziggurat.normal(randomValues), lower, upper);
+    }
+}
@@ -0,0 +1,33 @@
+package uk.org.fyodor.generators.distributions;
+
+import uk.org.fyodor.generators.DoubleGenerator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import static uk.org.fyodor.generators.distributions.Uniforms.clamp;
+
+/* e to the power of a normal with mean mu and standard deviation sigma */
+public final class LogNormalGenerator implements DoubleGenerator {
+
+    private final RandomValues randomValues;
+    private final double mu;
+    private final double sigma;
+    private final double lower;
+    private final double upper;
+
+    public LogNormalGenerator(final RandomValues randomValues,
+                              final double mu,
+                              final double sigma,
+                              final Range<Double> range) {
+        this.randomValues = randomValues;
+        this.mu = mu;
+        this.sigma = sigma;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+    }
+
+    @Override
+    public double nextDouble() {
+        return clamp(Math.exp(mu + sigma * Ziggurat.normal(randomValues)), lower, upper);
+    }
+}
@@ -0,0 +1,109 @@
+package uk.org.fyodor.generators.distributions;
+
+import uk.org.fyodor.generators.LongGenerator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import static uk.org.fyodor.generators.distributions.Uniforms.clamp;
+import static uk.org.fyodor.generators.distributions.Uniforms.unit;
+
+/*
+small means are drawn by inversion, one uniform walked up the cumulative probabilities from zero, which takes
+about mean + 1 steps. from a mean of 10 that gets slow, so hormann's transformed rejection with squeeze (ptrs)
+takes over, which accepts about nine in ten of its candidates on the cheap squeeze without any logarithms
+ */
+public final class PoissonGenerator implements LongGenerator {
+
+    private static final double PTRS_FROM = 10;
+
+    private final RandomValues randomValues;
+    private final double mean;
+    private final long lower;
+    private final long upper;
+
+    private final double expMinusMean;
+    private final double logMean;
+    private final double a;
+    private final double b;
+    private final double logInverseAlpha;
+    private final double vr;
+
+    public PoissonGenerator(final RandomValues randomValues, final double mean, final Range<Long> range) {
+        this.randomValues = randomValues;
+        this.mean = mean;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+
+        this.expMinusMean = Math.exp(-mean);
+        this.logMean = Math.log(mean);
+        this.b = 0.931 + 2.53 * Math.sqrt(mean);
+        this.a = -0.059 + 0.02483 * b;
+        this.logInverseAlpha = Math.log(1.1239 + 1.1328 / (b - 3.4));
+        this.vr = 0.9277 - 3.6224 / (b - 2);
+    }
+
+    @Override
+    public long nextLong() {
+        return clamp(mean < PTRS_FROM ? inverted() : transformedRejection(), lower, upper);
+    }
+
+    private long inverted() {
+        final double u = unit(randomValues);
+        double probability = expMinusMean;
+        double cumulative = probability;
+        long k = 0;
+        while (u >= cumulative && probability > 0) {
+            k++;
+            probability *= mean / k;
+            cumulative += probability;
+        }
+        return k;
+    }
+
+    private long transformedRejection() {
+        while (true) {
+            final double u = unit(randomValues) - 0.5;
+            final double v = unit(randomValues);
+            final double us = 0.5 - Math.abs(u);
+            final double k = Math.floor((2 * a / us + b) * u + mean + 0.43);
+            if (us >= 0.07 && v <= vr) {
+                return (long) k;
+            }
+            if (k < 0 || (us < 0.013 && v > us)) {
+                continue;
+            }
+            if (Math.log(v) + logInverseAlpha - Math.log(a / (us * us) + b) <= -mean + k * logMean - logFactorial(k)) {
+                return (long) k;
+            }
+        }
+    }
+
+    private static final double[] STIRLING = {
+            8.333333333333333e-02, -2.777777777777778e-03, 7.936507936507937e-04,
+            -5.952380952380952e-04, 8.417508417508418e-04, -1.917526917526918e-03,
+            6.410256410256410e-03, -2.955065359477124e-02, 1.796443723688307e-01,
+            -1.39243221690590e+00
+    };
+
+    /* log(k!) as log gamma(k + 1), from the stirling series shifted up to at least 7 */
+    static double logFactorial(final double k) {
+        final double x = k + 1;
+        if (x == 1 || x == 2) {
+            return 0;
+        }
+
+        final int shift = x < 7 ? (int) (7 - x) : 0;
+        double x0 = x + shift;
+        final double x2 = 1.0 / (x0 * x0);
+        double series = STIRLING[STIRLING.length - 1];
+        for (int i = STIRLING.length - 2; i >= 0; i--) {
+            series = series * x2 + STIRLING[i];
+        }
+        double logGamma = series / x0 + 0.5 * Math.log(2 * Math.PI) + (x0 - 0.5) * Math.log(x0) - x0;
+        for (int i = 0; i < shift; i++) {
+            x0 -= 1;
+            logGamma -= Math.log(x0);
+        }
+        return logGamma;
+    }
+}
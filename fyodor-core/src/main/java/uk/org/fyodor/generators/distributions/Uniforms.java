@@ -0,0 +1,34 @@
+package uk.org.fyodor.generators.distributions;
+
+import uk.org.fyodor.random.RandomValues;
+
+/* the raw draws the samplers are built on, 64 random bits and the uniform doubles made from the top 53 of them */
+final class Uniforms {
+
+    private static final double ULP = 0x1.0p-53;
+
+    private Uniforms() {
+    }
+
+    static long bits(final RandomValues randomValues) {
+        return randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /* in [0, 1) */
+    static double unit(final RandomValues randomValues) {
+        return (bits(randomValues) >>> 11) * ULP;
+    }
+
+    /* in (0, 1], so that its logarithm is always finite */
+    static double positiveUnit(final RandomValues randomValues) {
+        return ((bits(randomValues) >>> 11) + 1) * ULP;
+    }
+
+    static double clamp(final double value, final double lower, final double upper) {
+        return value < lower ? lower : (value > upper ? upper : value);
+    }
+
+    static long clamp(final long value, final long lower, final long upper) {
+        return value < lower ? lower : (value > upper ? upper : value);
+    }
+}
@@ -0,0 +1,122 @@
+package uk.org.fyodor.generators.distributions;
+
+import uk.org.fyodor.random.RandomValues;
+
+import static uk.org.fyodor.generators.distributions.Uniforms.bits;
+import static uk.org.fyodor.generators.distributions.Uniforms.positiveUnit;
+import static uk.org.fyodor.generators.distributions.Uniforms.unit;
+
+/*
+marsaglia and tsang's ziggurat for the standard normal (128 layers) and the standard exponential (256 layers).
+each draw of 64 bits picks a layer from the low bits and a point across it from the top 53 bits, which are
+independent of each other, and the point is returned straight away when it lies inside the next layer up
+(about 99% of the time). the rest fall to the wedge or the tail, which are sampled exactly
+ */
+final class Ziggurat {
+
+    private static final int NORMAL_LAYERS = 128;
+    private static final double NORMAL_R = 3.442619855899;
+    private static final double NORMAL_V = 9.91256303526217e-3;
+    private static final long[] NORMAL_K = new long[NORMAL_LAYERS];
+    private static final double[] NORMAL_W = new double[NORMAL_LAYERS];
+    private static final double[] NORMAL_F = new double[NORMAL_LAYERS];
+
+    private static final int EXPONENTIAL_LAYERS = 256;
+    private static final double EXPONENTIAL_R = 7.697117470131487;
+    private static final double EXPONENTIAL_V = 3.949659822581572e-3;
+    private static final long[] EXPONENTIAL_K = new long[EXPONENTIAL_LAYERS];
+    private static final double[] EXPONENTIAL_W = new double[EXPONENTIAL_LAYERS];
+    private static final double[] EXPONENTIAL_F = new double[EXPONENTIAL_LAYERS];
+
+    /* the point across a layer is a 53 bit number, signed for the normal and unsigned for the exponential */
+    private static final double NORMAL_SCALE = 0x1.0p52;
+    private static final double EXPONENTIAL_SCALE = 0x1.0p53;
+
+    static {
+        double x = NORMAL_R;
+        double previous = x;
+        final double q = NORMAL_V / Math.exp(-0.5 * x * x);
+        NORMAL_K[0] = (long) (x / q * NORMAL_SCALE);
+        NORMAL_K[1] = 0;
+        NORMAL_W[0] = q / NORMAL_SCALE;
+        NORMAL_W[NORMAL_LAYERS - 1] = x / NORMAL_SCALE;
+        NORMAL_F[0] = 1.0;
+        NORMAL_F[NORMAL_LAYERS - 1] = Math.exp(-0.5 * x * x);
+        for (int i = NORMAL_LAYERS - 2; i >= 1; i--) {
+            x = Math.sqrt(-2.0 * Math.log(NORMAL_V / x + Math.exp(-0.5 * x * x)));
+            NORMAL_K[i + 1] = (long) (x / previous * NORMAL_SCALE);
+            previous = x;
+            NORMAL_F[i] = Math.exp(-0.5 * x * x);
+            NORMAL_W[i] = x / NORMAL_SCALE;
+        }
+
+        x = EXPONENTIAL_R;
+        previous = x;
+        final double e = EXPONENTIAL_V / Math.exp(-x);
+        EXPONENTIAL_K[0] = (long) (x / e * EXPONENTIAL_SCALE);
+        EXPONENTIAL_K[1] = 0;
+        EXPONENTIAL_W[0] = e / EXPONENTIAL_SCALE;
+        EXPONENTIAL_W[EXPONENTIAL_LAYERS - 1] = x / EXPONENTIAL_SCALE;
+        EXPONENTIAL_F[0] = 1.0;
+        EXPONENTIAL_F[EXPONENTIAL_LAYERS - 1] = Math.exp(-x);
+        for (int i = EXPONENTIAL_LAYERS - 2; i >= 1; i--) {
+            x = -Math.log(EXPONENTIAL_V / x + Math.exp(-x));
+            EXPONENTIAL_K[i + 1] = (long) (x / previous * EXPONENTIAL_SCALE);
+            previous = x;
+            EXPONENTIAL_F[i] = Math.exp(-x);
+            EXPONENTIAL_W[i] = x / EXPONENTIAL_SCALE;
+        }
+    }
+
+    private Ziggurat() {
+    }
+
+    static double normal(final RandomValues randomValues) {
+        while (true) {
+            final long bits = bits(randomValues);
+            final int layer = (int) bits & (NORMAL_LAYERS - 1);
+            final long point = bits >> 11;
+            final double x = point * NORMAL_W[layer];
+            if (Math.abs(point) < NORMAL_K[layer]) {
+                return x;
+            }
+
+            if (layer == 0) {
+                return point > 0 ? NORMAL_R + normalTail(randomValues) : -NORMAL_R - normalTail(randomValues);
+            }
+            if (NORMAL_F[layer] + unit(randomValues) * (NORMAL_F[layer - 1] - NORMAL_F[layer]) < Math.exp(-0.5 * x * x)) {
+                return x;
+            }
+        }
+    }
+
+    static double exponential(final RandomValues randomValues) {
+        while (true) {
+            final long bits = bits(randomValues);
+            final int layer = (int) bits & (EXPONENTIAL_LAYERS - 1);
+            final long point = bits >>> 11;
+            final double x = point * EXPONENTIAL_W[layer];
+            if (point < EXPONENTIAL_K[layer]) {
+                return x;
+            }
+
+            if (layer == 0) {
+                return EXPONENTIAL_R - Math.log(positiveUnit(randomValues));
+            }
+            if (EXPONENTIAL_F[layer] + unit(randomValues) * (EXPONENTIAL_F[layer - 1] - EXPONENTIAL_F[layer]) < Math.exp(-x)) {
+                return x;
+            }
+        }
+    }
+
+    /* marsaglia's method for the normal beyond r */
+    private static double normalTail(final RandomValues randomValues) {
+        double x;
+        double y;
+        do {
+            x = -Math.log(positiveUnit(randomValues)) / NORMAL_R;
+            y = -Math.log(positiveUnit(randomValues));
+        } while (y + y < x * x);
+        return x;
+    }
+}
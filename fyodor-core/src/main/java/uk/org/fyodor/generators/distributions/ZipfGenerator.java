@@ -0,0 +1,78 @@
+package uk.org.fyodor.generators.distributions;
+
+import uk.org.fyodor.generators.IntGenerator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import static uk.org.fyodor.generators.distributions.Uniforms.unit;
+
+/*
+ranks 1 to n where rank k is drawn in proportion to 1 / k^exponent, by hormann and derflinger's rejection
+inversion. a uniform is mapped through the inverse of the integral of a smooth hat over the ranks and rounded to
+the nearest rank, which is accepted at once in most cases, so nothing of size n is ever built
+ */
+public final class ZipfGenerator implements IntGenerator {
+
+    private final RandomValues randomValues;
+    private final int numberOfElements;
+    private final double exponent;
+    private final int lower;
+    private final int upper;
+
+    private final double hIntegralX1;
+    private final double hIntegralNumberOfElements;
+    private final double s;
+
+    public ZipfGenerator(final RandomValues randomValues,
+                         final int numberOfElements,
+                         final double exponent,
+                         final Range<Integer> range) {
+        this.randomValues = randomValues;
+        this.numberOfElements = numberOfElements;
+        this.exponent = exponent;
+        this.lower = range.lowerBound();
+        this.upper = range.upperBound();
+
+        this.hIntegralX1 = hIntegral(1.5) - 1;
+        this.hIntegralNumberOfElements = hIntegral(numberOfElements + 0.5);
+        this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    @Override
+    public int nextInt() {
+        return Math.max(lower, Math.min(upper, nextRank()));
+    }
+
+    private int nextRank() {
+        while (true) {
+            final double u = hIntegralNumberOfElements + unit(randomValues) * (hIntegralX1 - hIntegralNumberOfElements);
+            final double x = hIntegralInverse(u);
+            final int k = (int) Math.max(1, Math.min(numberOfElements, (long) (x + 0.5)));
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double hIntegral(final double x) {
+        final double logX = Math.log(x);
+        return expm1OverX((1 - exponent) * logX) * logX;
+    }
+
+    private double h(final double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegralInverse(final double x) {
+        return Math.exp(log1pOverX(Math.max(x * (1 - exponent), -1)) * x);
+    }
+
+    /* log(1 + x) / x and (e^x - 1) / x, with their series near zero where the division loses everything */
+    private static double log1pOverX(final double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    private static double expm1OverX(final double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+    }
+}
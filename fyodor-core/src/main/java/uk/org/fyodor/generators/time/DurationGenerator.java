@@ -0,0 +1,27 @@
+package uk.org.fyodor.generators.time;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.time.Duration;
+
+public final class DurationGenerator implements Generator<Duration> {
+
+    private final SecondsAndNanos secondsAndNanos;
+
+    public DurationGenerator(final RandomValues randomValues, final Range<Duration> range) {
+        this.secondsAndNanos = new SecondsAndNanos(randomValues,
+                range.lowerBound().getSeconds(), range.lowerBound().getNano(),
+                range.upperBound().getSeconds(), range.upperBound().getNano());
+    }
+
+    @Override
+    public Duration next() {
+        return secondsAndNanos.next(Duration::ofSeconds);
+    }
+
+    public void fillNanos(final long[] nanos) {
+        secondsAndNanos.fillNanos(nanos);
+    }
+}
@@ -9,22 +9,25 @@ import java.time.Instant;
 public final class InstantGenerator implements Generator<Instant> {
 
     private final Range<Instant> range;
-    private final RandomValues randomValues;
+    private final SecondsAndNanos secondsAndNanos;
 
     public InstantGenerator(final RandomValues randomValues, final Range<Instant> range) {
-        this.randomValues = randomValues;
         this.range = range;
+        this.secondsAndNanos = new SecondsAndNanos(randomValues,
+                range.lowerBound().getEpochSecond(), range.lowerBound().getNano(),
+                range.upperBound().getEpochSecond(), range.upperBound().getNano());
     }
 
     @Override
     public Instant next() {
-        final long lower = range.lowerBound().getEpochSecond();
-        final long upper = range.upperBound().getEpochSecond();
-
-        if (lower == upper) {
+        if (range.lowerBound().equals(range.upperBound())) {
             return range.lowerBound();
         }
 
-        return Instant.ofEpochSecond(randomValues.randomLong(lower, upper));
+        return secondsAndNanos.next(Instant::ofEpochSecond);
+    }
+
+    public void fillEpochNanos(final long[] epochNanos) {
+        secondsAndNanos.fillNanos(epochNanos);
     }
 }
@@ -0,0 +1,30 @@
+package uk.org.fyodor.generators.time;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.time.LocalDateTime;
+
+import static java.time.ZoneOffset.UTC;
+
+/* date times are drawn as seconds and nanos since the epoch as if they were at utc */
+public final class LocalDateTimeGenerator implements Generator<LocalDateTime> {
+
+    private final SecondsAndNanos secondsAndNanos;
+
+    public LocalDateTimeGenerator(final RandomValues randomValues, final Range<LocalDateTime> range) {
+        this.secondsAndNanos = new SecondsAndNanos(randomValues,
+                range.lowerBound().toEpochSecond(UTC), range.lowerBound().getNano(),
+                range.upperBound().toEpochSecond(UTC), range.upperBound().getNano());
+    }
+
+    @Override
+    public LocalDateTime next() {
+        return secondsAndNanos.next((seconds, nanos) -> LocalDateTime.ofEpochSecond(seconds, nanos, UTC));
+    }
+
+    public void fillEpochNanos(final long[] epochNanos) {
+        secondsAndNanos.fillNanos(epochNanos);
+    }
+}
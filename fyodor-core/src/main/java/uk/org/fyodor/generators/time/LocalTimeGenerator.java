@@ -9,23 +9,21 @@ import java.time.LocalTime;
 public final class LocalTimeGenerator implements Generator<LocalTime> {
 
     private final RandomValues randomValues;
-    private final Range<LocalTime> range;
+    private final long lowerNanoOfDay;
+    private final long upperNanoOfDay;
 
     public LocalTimeGenerator(final RandomValues randomValues, final Range<LocalTime> range) {
         this.randomValues = randomValues;
-        this.range = range;
+        this.lowerNanoOfDay = range.lowerBound().toNanoOfDay();
+        this.upperNanoOfDay = range.upperBound().toNanoOfDay();
     }
 
     @Override
     public LocalTime next() {
-        final LocalTime lower = range.lowerBound();
-        final LocalTime upper = range.upperBound();
-
-        final int hour = randomValues.randomInteger(lower.getHour(), upper.getHour());
-        final int minute = randomValues.randomInteger(lower.getMinute(), upper.getMinute());
-        final int second = randomValues.randomInteger(lower.getSecond(), upper.getSecond());
-        final int nanoOfSecond = randomValues.randomInteger(lower.getNano(), upper.getNano());
+        return LocalTime.ofNanoOfDay(randomValues.randomLong(lowerNanoOfDay, upperNanoOfDay));
+    }
 
-        return LocalTime.of(hour, minute, second, nanoOfSecond);
+    public void fillNanosOfDay(final long[] nanosOfDay) {
+        randomValues.fillLongs(nanosOfDay, lowerNanoOfDay, upperNanoOfDay);
     }
 }
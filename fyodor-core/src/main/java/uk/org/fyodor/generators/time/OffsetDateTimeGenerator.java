@@ -0,0 +1,32 @@
+package uk.org.fyodor.generators.time;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+/* the instant is drawn uniformly and then given the offset that the zone has at that instant */
+public final class OffsetDateTimeGenerator implements Generator<OffsetDateTime> {
+
+    private final SecondsAndNanos secondsAndNanos;
+    private final ZoneId zone;
+
+    public OffsetDateTimeGenerator(final RandomValues randomValues, final Range<Instant> range, final ZoneId zone) {
+        this.secondsAndNanos = new SecondsAndNanos(randomValues,
+                range.lowerBound().getEpochSecond(), range.lowerBound().getNano(),
+                range.upperBound().getEpochSecond(), range.upperBound().getNano());
+        this.zone = zone;
+    }
+
+    @Override
+    public OffsetDateTime next() {
+        return OffsetDateTime.ofInstant(secondsAndNanos.next(Instant::ofEpochSecond), zone);
+    }
+
+    public void fillEpochNanos(final long[] epochNanos) {
+        secondsAndNanos.fillNanos(epochNanos);
+    }
+}
@@ -0,0 +1,36 @@
+package uk.org.fyodor.generators.time;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/*
+periods are the years, months and days from the start of the range to a date drawn uniformly from the range,
+so every length in days is equally likely and the periods come out normalised as a calendar would count them
+ */
+public final class PeriodGenerator implements Generator<Period> {
+
+    private final RandomValues randomValues;
+    private final LocalDate start;
+    private final long startEpochDay;
+    private final long days;
+
+    public PeriodGenerator(final RandomValues randomValues, final Range<LocalDate> range) {
+        this.randomValues = randomValues;
+        this.start = range.lowerBound();
+        this.startEpochDay = start.toEpochDay();
+        this.days = range.upperBound().toEpochDay() - startEpochDay;
+    }
+
+    @Override
+    public Period next() {
+        return Period.between(start, LocalDate.ofEpochDay(startEpochDay + randomValues.randomLong(0, days)));
+    }
+
+    public void fillDays(final long[] lengthsInDays) {
+        randomValues.fillLongs(lengthsInDays, 0, days);
+    }
+}
@@ -0,0 +1,94 @@
+package uk.org.fyodor.generators.time;
+
+import uk.org.fyodor.random.RandomValues;
+
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/*
+draws uniformly from the nanoseconds between two (seconds, nano-of-second) points. when the whole span fits in a
+long that is a single bounded draw of a nanosecond offset, otherwise (instants and durations spanning more than
+~292 years) the seconds and the nano-of-second are drawn separately and the draw is rejected only when it falls
+outside the bounds in the first or last second, which keeps every nanosecond equally likely
+ */
+final class SecondsAndNanos {
+
+    interface Of<T> {
+        T of(long seconds, int nanos);
+    }
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    private final RandomValues randomValues;
+    private final long lowerSecond;
+    private final int lowerNano;
+    private final int upperNano;
+    private final long secondSpan;
+    private final long nanoSpan;
+
+    SecondsAndNanos(final RandomValues randomValues,
+                    final long lowerSecond, final int lowerNano,
+                    final long upperSecond, final int upperNano) {
+        this.randomValues = randomValues;
+        this.lowerSecond = lowerSecond;
+        this.lowerNano = lowerNano;
+        this.upperNano = upperNano;
+        this.secondSpan = upperSecond - lowerSecond;
+        this.nanoSpan = nanoSpan(secondSpan, lowerNano, upperNano);
+    }
+
+    <T> T next(final Of<T> of) {
+        if (nanoSpan >= 0) {
+            final long offset = randomValues.randomLong(0, nanoSpan);
+            final long nanos = offset % NANOS_PER_SECOND + lowerNano;
+            return nanos < NANOS_PER_SECOND
+                    ? of.of(lowerSecond + offset / NANOS_PER_SECOND, (int) nanos)
+                    : of.of(lowerSecond + offset / NANOS_PER_SECOND + 1, (int) (nanos - NANOS_PER_SECOND));
+        }
+
+        while (true) {
+            final long secondOffset = nextSecondOffset();
+            final int nanos = randomValues.randomInteger(0, NANOS_PER_SECOND - 1);
+            if ((secondOffset != 0 || nanos >= lowerNano) && (secondOffset != secondSpan || nanos <= upperNano)) {
+                return of.of(lowerSecond + secondOffset, nanos);
+            }
+        }
+    }
+
+    /* nanoseconds since the epoch of the lower bound, so bulk output can only be asked of spans within a long */
+    void fillNanos(final long[] nanos) {
+        ensure(nanos != null, "destination cannot be null");
+        final long lower = lowerNanos();
+        ensure(nanoSpan >= 0 && lower <= Long.MAX_VALUE - nanoSpan,
+                "range is too wide to be written as nanoseconds in a long");
+
+        randomValues.fillLongs(nanos, lower, lower + nanoSpan);
+    }
+
+    private long lowerNanos() {
+        try {
+            return Math.addExact(Math.multiplyExact(lowerSecond, NANOS_PER_SECOND), lowerNano);
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException("range is too wide to be written as nanoseconds in a long", e);
+        }
+    }
+
+    /* the span in seconds may itself overflow a long, in which case it is treated as unsigned */
+    private long nextSecondOffset() {
+        if (secondSpan >= 0) {
+            return randomValues.randomLong(0, secondSpan);
+        }
+
+        long offset;
+        do {
+            offset = randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+        } while (Long.compareUnsigned(offset, secondSpan) > 0);
+        return offset;
+    }
+
+    private static long nanoSpan(final long secondSpan, final int lowerNano, final int upperNano) {
+        if (secondSpan < 0 || secondSpan > Long.MAX_VALUE / NANOS_PER_SECOND - 1) {
+            return -1;
+        }
+        return secondSpan * NANOS_PER_SECOND + (upperNano - lowerNano);
+    }
+}
@@ -0,0 +1,36 @@
+package uk.org.fyodor.generators.time;
+
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.time.YearMonth;
+
+/* months are counted from january 1970, so that one draw picks both the year and the month */
+public final class YearMonthGenerator implements Generator<YearMonth> {
+
+    private static final YearMonth EPOCH_MONTH = YearMonth.of(1970, 1);
+
+    private final RandomValues randomValues;
+    private final long lowerEpochMonth;
+    private final long upperEpochMonth;
+
+    public YearMonthGenerator(final RandomValues randomValues, final Range<YearMonth> range) {
+        this.randomValues = randomValues;
+        this.lowerEpochMonth = epochMonth(range.lowerBound());
+        this.upperEpochMonth = epochMonth(range.upperBound());
+    }
+
+    @Override
+    public YearMonth next() {
+        return EPOCH_MONTH.plusMonths(randomValues.randomLong(lowerEpochMonth, upperEpochMonth));
+    }
+
+    public void fillEpochMonths(final long[] epochMonths) {
+        randomValues.fillLongs(epochMonths, lowerEpochMonth, upperEpochMonth);
+    }
+
+    private static long epochMonth(final YearMonth yearMonth) {
+        return yearMonth.getYear() * 12L + yearMonth.getMonthValue() - 1 - (EPOCH_MONTH.getYear() * 12L);
+    }
+}
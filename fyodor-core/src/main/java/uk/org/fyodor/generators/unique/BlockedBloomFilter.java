@@ -0,0 +1,63 @@
+package uk.org.fyodor.generators.unique;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+
+/*
+a bloom filter split into 512 bit blocks, one cache line each, so that testing and setting a value touches only
+one block. the blocks are held off the heap in a direct buffer. a value's block is chosen from a remix of all 64
+bits of its hash, and its bits within the block by double hashing, starting from the low 32 bits of the hash and
+stepping by the high 32 bits. keeping each value to one block costs some accuracy, which is made up with a tenth
+more bits per value than a plain bloom filter would need
+ */
+final class BlockedBloomFilter {
+
+    private static final int BLOCK_BITS = 512;
+    private static final int WORDS_PER_BLOCK = BLOCK_BITS / Long.SIZE;
+    private static final double LN_2 = Math.log(2);
+    private static final double BLOCKING_PENALTY = 1.1;
+    private static final int MAXIMUM_HASHES = 16;
+
+    private final LongBuffer words;
+    private final long blocks;
+    private final int hashes;
+
+    BlockedBloomFilter(final long expectedCount, final double falsePositiveRate) {
+        final double bitsPerValue = -Math.log(falsePositiveRate) / (LN_2 * LN_2) * BLOCKING_PENALTY;
+        this.hashes = (int) Math.max(1, Math.min(MAXIMUM_HASHES, Math.round(bitsPerValue / BLOCKING_PENALTY * LN_2)));
+
+        final double blocks = Math.ceil(expectedCount * bitsPerValue / BLOCK_BITS);
+        if (blocks * WORDS_PER_BLOCK * Long.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("expected count and false positive rate need a filter larger than 2GB");
+        }
+        this.blocks = (long) blocks;
+        this.words = ByteBuffer.allocateDirect((int) this.blocks * WORDS_PER_BLOCK * Long.BYTES).asLongBuffer();
+    }
+
+    /* true when the hash was not in the filter, which it always is afterwards */
+    synchronized boolean add(final long hash) {
+        final int block = (int) Long.remainderUnsigned(mix(hash), blocks) * WORDS_PER_BLOCK;
+        final int first = (int) hash;
+        final int step = (int) (hash >>> 32) | 1;
+
+        boolean added = false;
+        for (int i = 0; i < hashes; i++) {
+            final int bit = (first + i * step) & (BLOCK_BITS - 1);
+            final int word = block + (bit >>> 6);
+            final long mask = 1L << bit;
+            final long bits = words.get(word);
+            if ((bits & mask) == 0) {
+                words.put(word, bits | mask);
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,64 @@
+package uk.org.fyodor.generators.unique;
+
+import uk.org.fyodor.random.RandomValues;
+
+/*
+a keyed permutation of the indexes 0 to size - 1, a balanced feistel network over the smallest even number of bits
+that covers the size, with the round keys drawn from the source of randomness. a result outside the indexes is
+encrypted again until it falls inside them (cycle walking), which takes fewer than four rounds of the network
+on average since the network covers less than four times the size. the size is unsigned, and 0 stands for 2^64
+ */
+final class KeyedPermutation {
+
+    private static final int ROUNDS = 6;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys = new long[ROUNDS];
+
+    KeyedPermutation(final RandomValues randomValues, final long size) {
+        this.size = size;
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(size - 1);
+        this.halfBits = Math.max(1, (bits + 1) / 2);
+        this.halfMask = (1L << halfBits) - 1;
+        for (int i = 0; i < ROUNDS; i++) {
+            keys[i] = randomValues.randomLong(Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    boolean contains(final long index) {
+        return size == 0 || Long.compareUnsigned(index, size) < 0;
+    }
+
+    long apply(final long index) {
+        long permuted = index;
+        do {
+            permuted = encrypt(permuted);
+        } while (!contains(permuted));
+        return permuted;
+    }
+
+    private long encrypt(final long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (final long key : keys) {
+            final long mixed = left ^ (round(right, key) & halfMask);
+            left = right;
+            right = mixed;
+        }
+        return (left << halfBits) | right;
+    }
+
+    /* the murmur3 finaliser over the half and the round key */
+    private static long round(final long half, final long key) {
+        long z = half ^ key;
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,105 @@
+package uk.org.fyodor.generators.unique;
+
+import uk.org.fyodor.generators.Generator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import static java.lang.String.format;
+
+/*
+values of another generator with the ones already generated filtered out by a blocked bloom filter, which keeps
+a few bits per value off the heap rather than the values themselves. a false positive throws away a value that
+was new, so a few values are lost at the false positive rate but none is ever repeated. values are told apart
+by a 64 bit fingerprint, which should be given for anything but text and whole numbers: by default text is
+fingerprinted by its characters and whole numbers by their value, and anything else falls back on hashCode as a
+last resort, where values with equal hash codes count as one and 32 bits start to collide after tens of
+thousands of values. the share of recent draws that were duplicates is tracked, weighted towards the last 64 or
+so, and once it passes 95% the generator stops rather than spinning, reporting whether the filter is holding
+more values than it was sized for or the value space itself has nearly run out
+ */
+public final class UniqueFilterGenerator<T> implements Generator<T> {
+
+    private static final double EXHAUSTED_DUPLICATE_RATE = 0.95;
+    private static final double RECENT_WEIGHT = 1.0 / 64;
+
+    private final Generator<? extends T> generator;
+    private final ToLongFunction<? super T> fingerprint;
+    private final long expectedCount;
+    private final BlockedBloomFilter filter;
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private volatile double recentDuplicateRate;
+
+    public UniqueFilterGenerator(final Generator<? extends T> generator, final long expectedCount, final double falsePositiveRate) {
+        this(generator, UniqueFilterGenerator::fingerprint, expectedCount, falsePositiveRate);
+    }
+
+    public UniqueFilterGenerator(final Generator<? extends T> generator,
+                                 final ToLongFunction<? super T> fingerprint,
+                                 final long expectedCount,
+                                 final double falsePositiveRate) {
+        this.generator = generator;
+        this.fingerprint = fingerprint;
+        this.expectedCount = expectedCount;
+        this.filter = new BlockedBloomFilter(expectedCount, falsePositiveRate);
+    }
+
+    @Override
+    public T next() {
+        while (true) {
+            final T value = generator.next();
+            final boolean added = filter.add(BlockedBloomFilter.mix(fingerprint.applyAsLong(value)));
+            final double duplicateRate = recentDuplicateRate + ((added ? 0 : 1) - recentDuplicateRate) * RECENT_WEIGHT;
+            recentDuplicateRate = duplicateRate;
+            if (added) {
+                generated.incrementAndGet();
+                return value;
+            }
+
+            retries.incrementAndGet();
+            if (duplicateRate > EXHAUSTED_DUPLICATE_RATE) {
+                throw exhausted(generated.get());
+            }
+        }
+    }
+
+    /* the number of unique values returned */
+    public long generated() {
+        return generated.get();
+    }
+
+    /* the number of values thrown away as duplicates, or as false positives of the filter */
+    public long retries() {
+        return retries.get();
+    }
+
+    /* the share of recent draws that were thrown away, weighted towards the most recent */
+    public double recentDuplicateRate() {
+        return recentDuplicateRate;
+    }
+
+    private IllegalStateException exhausted(final long generated) {
+        final String reason = generated > expectedCount
+                ? format("the filter is over capacity, holding %d unique values when it was sized for %d, so its false positives are throwing away new values", generated, expectedCount)
+                : format("the value space is exhausted, the generator has nearly run out of values after %d unique values", generated);
+        return new IllegalStateException(format(
+                "unable to generate a unique value because more than %.0f%% of the recent values were duplicates, %s",
+                EXHAUSTED_DUPLICATE_RATE * 100, reason));
+    }
+
+    private static long fingerprint(final Object value) {
+        if (value instanceof CharSequence) {
+            final CharSequence chars = (CharSequence) value;
+            long hash = chars.length();
+            for (int i = 0; i < chars.length(); i++) {
+                hash = hash * 0x9E3779B97F4A7C15L + chars.charAt(i);
+            }
+            return hash;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        return value == null ? 0 : value.hashCode() * 0x9E3779B97F4A7C15L;
+    }
+}
@@ -0,0 +1,42 @@
+package uk.org.fyodor.generators.unique;
+
+import uk.org.fyodor.generators.IntGenerator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.util.stream.IntStream;
+
+import static uk.org.fyodor.range.Range.closed;
+
+public final class UniqueIntGenerator implements IntGenerator {
+
+    private final UniqueLongGenerator longs;
+
+    public UniqueIntGenerator(final RandomValues randomValues, final Range<Integer> range) {
+        this.longs = new UniqueLongGenerator(randomValues, closed((long) range.lowerBound(), (long) range.upperBound()));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) longs.nextLong();
+    }
+
+    public int get(final long index) {
+        return (int) longs.get(index);
+    }
+
+    @Override
+    public IntStream intStream() {
+        return longs.longStream().mapToInt(value -> (int) value);
+    }
+
+    @Override
+    public IntStream intStream(final long size) {
+        return longs.longStream(size).mapToInt(value -> (int) value);
+    }
+
+    @Override
+    public IntStream parallelIntStream(final long size) {
+        return longs.parallelLongStream(size).mapToInt(value -> (int) value);
+    }
+}
@@ -0,0 +1,92 @@
+package uk.org.fyodor.generators.unique;
+
+import uk.org.fyodor.generators.LongGenerator;
+import uk.org.fyodor.random.RandomValues;
+import uk.org.fyodor.range.Range;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static java.lang.String.format;
+import static uk.org.fyodor.generators.Validations.ensure;
+
+/*
+every value in the range in a random order without repeats and without remembering any of them. the nth value
+is the nth index through a keyed permutation, so any of them can be had directly with get, and streams reserve
+a block of indexes up front so that they split across threads on the index alone
+ */
+public final class UniqueLongGenerator implements LongGenerator {
+
+    private final long lower;
+    private final KeyedPermutation permutation;
+    private final AtomicLong generated = new AtomicLong();
+
+    public UniqueLongGenerator(final RandomValues randomValues, final Range<Long> range) {
+        this.lower = range.lowerBound();
+        this.permutation = new KeyedPermutation(randomValues, range.upperBound() - lower + 1);
+    }
+
+    @Override
+    public long nextLong() {
+        final long index = generated.getAndIncrement();
+        if (index < 0 || !permutation.contains(index)) {
+            throw exhausted();
+        }
+        return valueAt(index);
+    }
+
+    /* the value at an index, which is read as unsigned for ranges of more than Long.MAX_VALUE values */
+    public long get(final long index) {
+        ensure(permutation.contains(index), format("index must be between 0 and %s", Long.toUnsignedString(permutation.size() - 1)));
+
+        return valueAt(index);
+    }
+
+    /* the values not yet generated, or as many as a stream can hold */
+    @Override
+    public LongStream longStream() {
+        return reserve(Long.MAX_VALUE, false);
+    }
+
+    @Override
+    public LongStream longStream(final long size) {
+        ensure(size >= 0, "stream size cannot be negative");
+
+        return reserve(size, true);
+    }
+
+    @Override
+    public LongStream parallelLongStream(final long size) {
+        return longStream(size).parallel();
+    }
+
+    private LongStream reserve(final long requested, final boolean exactly) {
+        while (true) {
+            final long first = generated.get();
+            final long count = Math.min(requested, available(first));
+            if (exactly && count < requested) {
+                throw exhausted();
+            }
+            if (generated.compareAndSet(first, first + count)) {
+                return LongStream.range(first, first + count).map(this::valueAt);
+            }
+        }
+    }
+
+    /* streams index with signed longs, so they stop short of the indexes beyond Long.MAX_VALUE */
+    private long available(final long first) {
+        if (first < 0) {
+            return 0;
+        }
+        final long size = permutation.size();
+        return size > 0 ? Math.max(0, size - first) : Long.MAX_VALUE - first;
+    }
+
+    private long valueAt(final long index) {
+        return lower + permutation.apply(index);
+    }
+
+    private IllegalStateException exhausted() {
+        return new IllegalStateException(format("all %s values in the range have been generated", Long.toUnsignedString(permutation.size())));
+    }
+}
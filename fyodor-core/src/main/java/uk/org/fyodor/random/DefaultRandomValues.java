@@ -1,22 +1,42 @@
 package uk.org.fyodor.random;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Random;
+import java.util.function.Supplier;
 
 import static java.math.BigDecimal.valueOf;
 import static java.math.RoundingMode.DOWN;
 import static java.math.RoundingMode.HALF_UP;
+import static uk.org.fyodor.random.RandomArguments.checkBulkArguments;
+import static uk.org.fyodor.random.RandomArguments.satisfies;
 
 final class DefaultRandomValues implements RandomValues {
 
-    private final Random random;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final double LARGEST_EXACT_UNSCALED = (double) (1L << 53);
+
+    private final Supplier<? extends RandomEngine> engineSource;
 
     DefaultRandomValues(final Random random) {
-        this.random = random;
+        this(new JavaUtilRandomEngine(random));
+    }
+
+    DefaultRandomValues(final RandomEngine engine) {
+        this(() -> engine);
+    }
+
+    DefaultRandomValues(final Supplier<? extends RandomEngine> engineSource) {
+        this.engineSource = engineSource;
     }
 
     @Override
     public boolean randomBoolean() {
-        return random.nextBoolean();
+        return engineSource.get().nextBoolean();
     }
 
     @Override
@@ -27,13 +47,14 @@ final class DefaultRandomValues implements RandomValues {
             return lower;
         }
 
+        final RandomEngine engine = engineSource.get();
         int diff = upper - lower;
         if (diff >= 0 && diff != Integer.MAX_VALUE) {
-            return (lower + random.nextInt(diff + 1));
+            return (lower + engine.nextInt(diff + 1));
         }
         int i;
         do {
-            i = random.nextInt();
+            i = engine.nextInt();
         } while (i < lower || i > upper);
         return i;
     }
@@ -46,13 +67,14 @@ final class DefaultRandomValues implements RandomValues {
             return lower;
         }
 
+        final RandomEngine engine = engineSource.get();
         final long diff = upper - lower;
-        if (diff >= 0 && diff != Integer.MAX_VALUE) {
-            return (lower + randomLong(diff + 1));
+        if (diff >= 0 && diff != Long.MAX_VALUE) {
+            return (lower + randomLong(engine, diff + 1));
         }
         long i;
         do {
-            i = random.nextLong();
+            i = engine.nextLong();
         } while (i < lower || i > upper);
         return i;
     }
@@ -65,7 +87,7 @@ final class DefaultRandomValues implements RandomValues {
             return lower;
         }
 
-        final double next = random.nextDouble();
+        final double next = engineSource.get().nextDouble();
 
         return next * upper + (1.0 - next) * lower;
     }
@@ -73,14 +95,15 @@ final class DefaultRandomValues implements RandomValues {
     @Override
     public double randomDouble(final double lower, final double upper, final int scale) {
         satisfies(scale >= 0, "scale cannot be negative");
+        satisfies(lower <= upper, "the upper bound must be equal to or greater than the lower bound");
 
-        final double unscaledRandomDouble = randomDouble(lower, upper);
-
-        final double scaledHalfUp = scaleAndRoundHalfUp(unscaledRandomDouble, scale);
+        final long lowerUnscaled = unscaledCeiling(lower, scale);
+        final long upperUnscaled = unscaledFloor(upper, scale);
+        if (lowerUnscaled <= upperUnscaled) {
+            return randomLong(lowerUnscaled, upperUnscaled) / POWERS_OF_TEN[scale];
+        }
 
-        return scaledHalfUp > upper
-                ? scaleAndRoundDown(unscaledRandomDouble, scale)
-                : scaledHalfUp;
+        return roundedToScale(randomDouble(lower, upper), upper, scale);
     }
 
     @Override
@@ -91,7 +114,7 @@ final class DefaultRandomValues implements RandomValues {
     @Override
     public byte[] randomBytes(final int length) {
         final byte[] bytes = new byte[length];
-        random.nextBytes(bytes);
+        engineSource.get().nextBytes(bytes);
         return bytes;
     }
 
@@ -100,26 +123,173 @@ final class DefaultRandomValues implements RandomValues {
         return (short) randomInteger(lower, upper);
     }
 
-    private long randomLong(final long max) {
+    @Override
+    public void fillIntegers(final int[] integers, final int lower, final int upper) {
+        checkBulkArguments(integers, lower <= upper);
+
+        if (lower == upper) {
+            Arrays.fill(integers, lower);
+            return;
+        }
+
+        final RandomEngine engine = engineSource.get();
+        final int diff = upper - lower;
+        if (diff >= 0 && diff != Integer.MAX_VALUE) {
+            engine.nextInts(integers, 0, integers.length, diff + 1);
+            if (lower != 0) {
+                for (int i = 0; i < integers.length; i++) {
+                    integers[i] += lower;
+                }
+            }
+        } else if (lower == Integer.MIN_VALUE && upper == Integer.MAX_VALUE) {
+            for (int i = 0; i < integers.length; i++) {
+                integers[i] = engine.nextInt();
+            }
+        } else {
+            for (int i = 0; i < integers.length; i++) {
+                int value;
+                do {
+                    value = engine.nextInt();
+                } while (value < lower || value > upper);
+                integers[i] = value;
+            }
+        }
+    }
+
+    @Override
+    public void fillLongs(final long[] longs, final long lower, final long upper) {
+        checkBulkArguments(longs, lower <= upper);
+
+        if (lower == upper) {
+            Arrays.fill(longs, lower);
+            return;
+        }
+
+        final RandomEngine engine = engineSource.get();
+        final long diff = upper - lower;
+        if (diff >= 0 && diff != Long.MAX_VALUE) {
+            final long bound = diff + 1;
+            for (int i = 0; i < longs.length; i++) {
+                longs[i] = lower + randomLong(engine, bound);
+            }
+        } else if (lower == Long.MIN_VALUE && upper == Long.MAX_VALUE) {
+            engine.nextLongs(longs, 0, longs.length);
+        } else {
+            for (int i = 0; i < longs.length; i++) {
+                long value;
+                do {
+                    value = engine.nextLong();
+                } while (value < lower || value > upper);
+                longs[i] = value;
+            }
+        }
+    }
+
+    @Override
+    public void fillDoubles(final double[] doubles, final double lower, final double upper) {
+        checkBulkArguments(doubles, lower <= upper);
+
+        if (lower == upper) {
+            Arrays.fill(doubles, lower);
+            return;
+        }
+
+        final RandomEngine engine = engineSource.get();
+        for (int i = 0; i < doubles.length; i++) {
+            final double next = engine.nextDouble();
+            doubles[i] = next * upper + (1.0 - next) * lower;
+        }
+    }
+
+    @Override
+    public void fillDoubles(final double[] doubles, final double lower, final double upper, final int scale) {
+        checkBulkArguments(doubles, lower <= upper);
+        satisfies(scale >= 0, "scale cannot be negative");
+
+        final long lowerUnscaled = unscaledCeiling(lower, scale);
+        final long upperUnscaled = unscaledFloor(upper, scale);
+        if (lowerUnscaled <= upperUnscaled) {
+            final RandomEngine engine = engineSource.get();
+            final long bound = upperUnscaled - lowerUnscaled + 1;
+            final double powerOfTen = POWERS_OF_TEN[scale];
+            for (int i = 0; i < doubles.length; i++) {
+                doubles[i] = (lowerUnscaled + randomLong(engine, bound)) / powerOfTen;
+            }
+            return;
+        }
+
+        fillDoubles(doubles, lower, upper);
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = roundedToScale(doubles[i], upper, scale);
+        }
+    }
+
+    @Override
+    public void fillBytes(final ByteBuffer bytes) {
+        checkBulkArguments(bytes, true);
+
+        final RandomEngine engine = engineSource.get();
+        while (bytes.remaining() >= Long.BYTES) {
+            bytes.putLong(engine.nextLong());
+        }
+        if (bytes.hasRemaining()) {
+            long bits = engine.nextLong();
+            while (bytes.hasRemaining()) {
+                bytes.put((byte) bits);
+                bits >>>= Byte.SIZE;
+            }
+        }
+    }
+
+    private static long randomLong(final RandomEngine engine, final long max) {
         long bits, val;
         do {
-            bits = (random.nextLong() << 1) >>> 1;
+            bits = (engine.nextLong() << 1) >>> 1;
             val = bits % max;
         } while (bits - val + (max - 1) < 0L);
         return val;
     }
 
-    private static double scaleAndRoundHalfUp(final double unscaledRandomDouble, final int scale) {
-        return valueOf(unscaledRandomDouble).setScale(scale, HALF_UP).doubleValue();
-    }
+    /*
+    scaled doubles are drawn as an unscaled long between the bounds multiplied by 10^scale and divided back down.
+    both the unscaled long and the power of ten are exact doubles, so the division gives the closest double to the
+    decimal. bounds beyond 2^53 once scaled, scales beyond 22, or ranges with no decimal of the scale inside them
+    fall back to rounding a random double
+     */
+    private static long unscaledFloor(final double value, final int scale) {
+        if (scale >= POWERS_OF_TEN.length || !(Math.abs(value * POWERS_OF_TEN[scale]) < LARGEST_EXACT_UNSCALED)) {
+            return Long.MIN_VALUE;
+        }
 
-    private static double scaleAndRoundDown(final double unscaledRandomDouble, final int scale) {
-        return valueOf(unscaledRandomDouble).setScale(scale, DOWN).doubleValue();
+        final double powerOfTen = POWERS_OF_TEN[scale];
+        long unscaled = (long) Math.floor(value * powerOfTen);
+        if ((unscaled + 1) / powerOfTen <= value) {
+            unscaled++;
+        } else if (unscaled / powerOfTen > value) {
+            unscaled--;
+        }
+        return unscaled;
     }
 
-    private static void satisfies(final boolean check, final String message) {
-        if (!check) {
-            throw new IllegalArgumentException(message);
+    private static long unscaledCeiling(final double value, final int scale) {
+        if (scale >= POWERS_OF_TEN.length || !(Math.abs(value * POWERS_OF_TEN[scale]) < LARGEST_EXACT_UNSCALED)) {
+            return Long.MAX_VALUE;
+        }
+
+        final double powerOfTen = POWERS_OF_TEN[scale];
+        long unscaled = (long) Math.ceil(value * powerOfTen);
+        if ((unscaled - 1) / powerOfTen >= value) {
+            unscaled--;
+        } else if (unscaled / powerOfTen < value) {
+            unscaled++;
         }
+        return unscaled;
+    }
+
+    private static double roundedToScale(final double unscaledRandomDouble, final double upper, final int scale) {
+        final double scaledHalfUp = valueOf(unscaledRandomDouble).setScale(scale, HALF_UP).doubleValue();
+        return scaledHalfUp > upper
+                ? valueOf(unscaledRandomDouble).setScale(scale, DOWN).doubleValue()
+                : scaledHalfUp;
     }
 }
@@ -0,0 +1,51 @@
+package uk.org.fyodor.random;
+
+import java.util.Random;
+
+final class JavaUtilRandomEngine implements RandomEngine {
+
+    private final Random random;
+
+    JavaUtilRandomEngine(final long seed) {
+        this(new Random(seed));
+    }
+
+    JavaUtilRandomEngine(final Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public void seed(final long seed) {
+        random.setSeed(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        random.nextBytes(bytes);
+    }
+}
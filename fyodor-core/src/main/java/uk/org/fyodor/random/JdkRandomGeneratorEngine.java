@@ -0,0 +1,69 @@
+package uk.org.fyodor.random;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
+
+/*
+java.util.random only exists from JDK 17 onwards and fyodor still targets JDK 8,
+so the generator is created and driven through method handles rather than linked directly
+ */
+final class JdkRandomGeneratorEngine implements RandomEngine {
+
+    private final MethodHandle create;
+    private final MethodHandle nextLong;
+    private Object generator;
+
+    private JdkRandomGeneratorEngine(final MethodHandle create, final MethodHandle nextLong, final long seed) {
+        this.create = create;
+        this.nextLong = nextLong;
+        seed(seed);
+    }
+
+    @Override
+    public void seed(final long seed) {
+        try {
+            this.generator = create.invokeExact(seed);
+        } catch (final Throwable t) {
+            throw new IllegalStateException("unable to seed random generator", t);
+        }
+    }
+
+    @Override
+    public long nextLong() {
+        try {
+            return (long) nextLong.invokeExact(generator);
+        } catch (final Throwable t) {
+            throw new IllegalStateException("unable to generate random long", t);
+        }
+    }
+
+    static RandomEngine.Factory factoryFor(final String algorithm) {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        final MethodHandle create;
+        final MethodHandle nextLong;
+        try {
+            final Class<?> generatorClass = Class.forName("java.util.random.RandomGenerator");
+            final Class<?> factoryClass = Class.forName("java.util.random.RandomGeneratorFactory");
+
+            final Object factory = lookup.findStatic(factoryClass, "of", methodType(factoryClass, String.class))
+                    .invoke(algorithm);
+
+            create = lookup.findVirtual(factoryClass, "create", methodType(generatorClass, long.class))
+                    .bindTo(factory)
+                    .asType(methodType(Object.class, long.class));
+
+            nextLong = lookup.findVirtual(generatorClass, "nextLong", methodType(long.class))
+                    .asType(methodType(long.class, Object.class));
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException("java.util.random is not available on this JDK", e);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(format("random generator algorithm %s is not available", algorithm), e);
+        } catch (final Throwable t) {
+            throw new IllegalStateException(format("unable to create random generator for algorithm %s", algorithm), t);
+        }
+        return seed -> new JdkRandomGeneratorEngine(create, nextLong, seed);
+    }
+}
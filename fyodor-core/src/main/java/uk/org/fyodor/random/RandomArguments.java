@@ -0,0 +1,18 @@
+package uk.org.fyodor.random;
+
+final class RandomArguments {
+
+    private RandomArguments() {
+    }
+
+    static void satisfies(final boolean check, final String message) {
+        if (!check) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    static void checkBulkArguments(final Object destination, final boolean lowerIsNotGreaterThanUpper) {
+        satisfies(destination != null, "destination cannot be null");
+        satisfies(lowerIsNotGreaterThanUpper, "the upper bound must be equal to or greater than the lower bound");
+    }
+}
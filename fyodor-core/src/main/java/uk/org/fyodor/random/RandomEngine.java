@@ -0,0 +1,67 @@
+package uk.org.fyodor.random;
+
+public interface RandomEngine {
+
+    void seed(long seed);
+
+    long nextLong();
+
+    default int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /*
+    bounded integers are drawn using Lemire's multiply-shift method, see
+    https://arxiv.org/abs/1805.10941 for the details
+     */
+    default int nextInt(final int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+
+        long product = (nextInt() & 0xFFFFFFFFL) * bound;
+        long low = product & 0xFFFFFFFFL;
+        if (low < bound) {
+            final long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold) {
+                product = (nextInt() & 0xFFFFFFFFL) * bound;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    default boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    default void nextBytes(final byte[] bytes) {
+        int i = 0;
+        while (i < bytes.length) {
+            long bits = nextLong();
+            for (int n = Math.min(bytes.length - i, Long.BYTES); n-- > 0; bits >>>= Byte.SIZE) {
+                bytes[i++] = (byte) bits;
+            }
+        }
+    }
+
+    default void nextInts(final int[] ints, final int fromIndex, final int toIndex, final int bound) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            ints[i] = nextInt(bound);
+        }
+    }
+
+    default void nextLongs(final long[] longs, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            longs[i] = nextLong();
+        }
+    }
+
+    interface Factory {
+        RandomEngine create(long seed);
+    }
+}
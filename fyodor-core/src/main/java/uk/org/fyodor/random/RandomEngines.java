@@ -0,0 +1,36 @@
+package uk.org.fyodor.random;
+
+public enum RandomEngines implements RandomEngine.Factory {
+
+    JavaUtilRandom {
+        @Override
+        public RandomEngine create(final long seed) {
+            return new JavaUtilRandomEngine(seed);
+        }
+    },
+    SplitMix64 {
+        @Override
+        public RandomEngine create(final long seed) {
+            return new SplitMix64Engine(seed);
+        }
+    },
+    Xoshiro256StarStar {
+        @Override
+        public RandomEngine create(final long seed) {
+            return new Xoshiro256StarStarEngine(seed);
+        }
+    },
+    SplittableRandom {
+        @Override
+        public RandomEngine create(final long seed) {
+            return new SplittableRandomEngine(seed);
+        }
+    };
+
+    public static RandomEngine.Factory jdk(final String algorithm) {
+        if (algorithm == null) {
+            throw new IllegalArgumentException("algorithm cannot be null");
+        }
+        return JdkRandomGeneratorEngine.factoryFor(algorithm);
+    }
+}
@@ -1,52 +1,111 @@
 package uk.org.fyodor.random;
 
-import java.util.Random;
-import java.util.Stack;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.ThreadLocal.withInitial;
+import static uk.org.fyodor.random.SplitMix64Engine.GOLDEN_GAMMA;
+import static uk.org.fyodor.random.SplitMix64Engine.mix;
 
 public final class RandomSourceProvider {
 
-    private static final ThreadLocal<Seeder> seeder = withInitial(() -> new Seeder(System.currentTimeMillis()));
+    private static final AtomicLong defaultSeeds = new AtomicLong(mix(System.currentTimeMillis()) ^ mix(System.nanoTime()));
+
+    private static final ThreadLocal<Seeder> seeder = withInitial(() -> new Seeder(nextDefaultSeed()));
+
+    private static final RandomValues sourceOfRandomness = new DefaultRandomValues(() -> seeder.get().engine);
 
     public static RandomValues sourceOfRandomness() {
-        return new DefaultRandomValues(seeder.get().random());
+        return sourceOfRandomness;
     }
 
     public static Seeder seed() {
         return seeder.get();
     }
 
+    private static long nextDefaultSeed() {
+        return mix(defaultSeeds.addAndGet(GOLDEN_GAMMA));
+    }
+
     private RandomSourceProvider() {
     }
 
     public static final class Seeder {
 
-        private final Stack<Long> seedStack = new Stack<>();
-        private final Random random = new Random();
+        private long[] seedStack = new long[8];
+        private RandomEngine.Factory[] engineFactoryStack = new RandomEngine.Factory[8];
+        private RandomEngine[] suspendedEngineStack = new RandomEngine[8];
+        private int depth;
+        private RandomEngine engine;
 
         private Seeder(final long initialSeed) {
-            next(initialSeed);
+            push(initialSeed, RandomEngines.JavaUtilRandom, null);
+            this.engine = engineFactory().create(initialSeed);
         }
 
         public void next(final long seed) {
-            seedStack.push(seed);
-            random.setSeed(seed);
+            final RandomEngine.Factory engineFactory = engineFactory();
+            push(seed, engineFactory, null);
+            engine.seed(seed);
         }
 
         public void previous() {
-            if (seedStack.size() > 1) {
-                seedStack.pop();
-                random.setSeed(seedStack.peek());
+            if (depth > 1) {
+                final RandomEngine.Factory engineFactory = engineFactory();
+                final RandomEngine suspendedEngine = suspendedEngineStack[depth - 1];
+                depth--;
+                engineFactoryStack[depth] = null;
+                suspendedEngineStack[depth] = null;
+
+                if (suspendedEngine != null) {
+                    engine = suspendedEngine;
+                } else if (engineFactory != engineFactory()) {
+                    engine = engineFactory().create(current());
+                } else {
+                    engine.seed(current());
+                }
             }
         }
 
         public long current() {
-            return seedStack.peek();
+            return seedStack[depth - 1];
         }
 
-        private Random random() {
-            return random;
+        public void engine(final RandomEngine.Factory engineFactory) {
+            if (engineFactory == null) {
+                throw new IllegalArgumentException("random engine factory cannot be null");
+            }
+            engineFactoryStack[depth - 1] = engineFactory;
+            this.engine = engineFactory.create(current());
+        }
+
+        public RandomEngine.Factory engineFactory() {
+            return engineFactoryStack[depth - 1];
+        }
+
+        public SplitSeed split() {
+            return new SplitSeed(current(), engineFactory());
+        }
+
+        public SplitSeed nextSplit() {
+            return new SplitSeed(engine.nextLong(), engineFactory());
+        }
+
+        void suspend(final long seed, final RandomEngine.Factory engineFactory) {
+            push(seed, engineFactory, engine);
+            engine = engineFactory.create(seed);
+        }
+
+        private void push(final long seed, final RandomEngine.Factory engineFactory, final RandomEngine suspendedEngine) {
+            if (depth == seedStack.length) {
+                seedStack = Arrays.copyOf(seedStack, depth * 2);
+                engineFactoryStack = Arrays.copyOf(engineFactoryStack, depth * 2);
+                suspendedEngineStack = Arrays.copyOf(suspendedEngineStack, depth * 2);
+            }
+            seedStack[depth] = seed;
+            engineFactoryStack[depth] = engineFactory;
+            suspendedEngineStack[depth] = suspendedEngine;
+            depth++;
         }
     }
 }
@@ -1,5 +1,11 @@
 package uk.org.fyodor.random;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import static uk.org.fyodor.random.RandomArguments.checkBulkArguments;
+import static uk.org.fyodor.random.RandomArguments.satisfies;
+
 public interface RandomValues {
 
     boolean randomBoolean();
@@ -17,4 +23,62 @@ public interface RandomValues {
     byte[] randomBytes(int length);
 
     short randomShort(short lower, short upper);
+
+    /* spans wider than a long are drawn as whole bytes and rejected when they exceed the span, at most half the time */
+    default BigInteger randomBigInteger(final BigInteger lower, final BigInteger upper) {
+        satisfies(lower != null && upper != null, "bounds cannot be null");
+        satisfies(lower.compareTo(upper) <= 0, "the upper bound must be equal to or greater than the lower bound");
+
+        final BigInteger span = upper.subtract(lower);
+        if (span.bitLength() < Long.SIZE - 1) {
+            return lower.add(BigInteger.valueOf(randomLong(0, span.longValue())));
+        }
+
+        final int bits = span.bitLength();
+        final int excessBits = (bits + Byte.SIZE - 1) / Byte.SIZE * Byte.SIZE - bits;
+        BigInteger offset;
+        do {
+            offset = new BigInteger(1, randomBytes((bits + Byte.SIZE - 1) / Byte.SIZE)).shiftRight(excessBits);
+        } while (offset.compareTo(span) > 0);
+        return lower.add(offset);
+    }
+
+    default void fillIntegers(final int[] integers, final int lower, final int upper) {
+        checkBulkArguments(integers, lower <= upper);
+
+        for (int i = 0; i < integers.length; i++) {
+            integers[i] = randomInteger(lower, upper);
+        }
+    }
+
+    default void fillLongs(final long[] longs, final long lower, final long upper) {
+        checkBulkArguments(longs, lower <= upper);
+
+        for (int i = 0; i < longs.length; i++) {
+            longs[i] = randomLong(lower, upper);
+        }
+    }
+
+    default void fillDoubles(final double[] doubles, final double lower, final double upper) {
+        checkBulkArguments(doubles, lower <= upper);
+
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = randomDouble(lower, upper);
+        }
+    }
+
+    default void fillDoubles(final double[] doubles, final double lower, final double upper, final int scale) {
+        checkBulkArguments(doubles, lower <= upper);
+        satisfies(scale >= 0, "scale cannot be negative");
+
+        for (int i = 0; i < doubles.length; i++) {
+            doubles[i] = randomDouble(lower, upper, scale);
+        }
+    }
+
+    default void fillBytes(final ByteBuffer bytes) {
+        checkBulkArguments(bytes, true);
+
+        bytes.put(randomBytes(bytes.remaining()));
+    }
 }
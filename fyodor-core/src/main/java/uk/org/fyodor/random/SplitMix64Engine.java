@@ -0,0 +1,58 @@
+package uk.org.fyodor.random;
+
+/*
+see http://xoshiro.di.unimi.it/splitmix64.c for the reference implementation
+ */
+final class SplitMix64Engine implements RandomEngine {
+
+    static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    SplitMix64Engine(final long seed) {
+        seed(seed);
+    }
+
+    @Override
+    public void seed(final long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix(state += GOLDEN_GAMMA);
+    }
+
+    @Override
+    public void nextLongs(final long[] longs, final int fromIndex, final int toIndex) {
+        long state = this.state;
+        for (int i = fromIndex; i < toIndex; i++) {
+            longs[i] = mix(state += GOLDEN_GAMMA);
+        }
+        this.state = state;
+    }
+
+    @Override
+    public void nextInts(final int[] ints, final int fromIndex, final int toIndex, final int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+
+        final long threshold = (0x100000000L - bound) % bound;
+        long state = this.state;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long product;
+            do {
+                product = (mix(state += GOLDEN_GAMMA) >>> 32) * bound;
+            } while ((product & 0xFFFFFFFFL) < threshold);
+            ints[i] = (int) (product >>> 32);
+        }
+        this.state = state;
+    }
+
+    static long mix(final long z) {
+        long x = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+}
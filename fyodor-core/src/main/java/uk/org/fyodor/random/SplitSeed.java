@@ -0,0 +1,74 @@
+package uk.org.fyodor.random;
+
+import java.util.function.Supplier;
+
+import static uk.org.fyodor.random.SplitMix64Engine.GOLDEN_GAMMA;
+import static uk.org.fyodor.random.SplitMix64Engine.mix;
+
+public final class SplitSeed {
+
+    private final long seed;
+    private final RandomEngine.Factory engineFactory;
+
+    SplitSeed(final long seed, final RandomEngine.Factory engineFactory) {
+        this.seed = seed;
+        this.engineFactory = engineFactory;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public long childSeed(final long index) {
+        return mix(seed ^ mix((index + 1) * GOLDEN_GAMMA));
+    }
+
+    public SplitSeed child(final long index) {
+        return new SplitSeed(childSeed(index), engineFactory);
+    }
+
+    public void run(final long index, final Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("task cannot be null");
+        }
+
+        get(index, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T get(final long index, final Supplier<T> task) {
+        if (task == null) {
+            throw new IllegalArgumentException("task cannot be null");
+        }
+
+        final RandomSourceProvider.Seeder seeder = RandomSourceProvider.seed();
+        seeder.suspend(childSeed(index), engineFactory);
+        try {
+            return task.get();
+        } finally {
+            seeder.previous();
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(seed) * 31 + engineFactory.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final SplitSeed that = (SplitSeed) o;
+
+        return seed == that.seed && engineFactory.equals(that.engineFactory);
+    }
+
+    @Override
+    public String toString() {
+        return "SplitSeed {" + seed + "}";
+    }
+}
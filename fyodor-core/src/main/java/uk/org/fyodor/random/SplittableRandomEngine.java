@@ -0,0 +1,42 @@
+package uk.org.fyodor.random;
+
+import java.util.SplittableRandom;
+
+final class SplittableRandomEngine implements RandomEngine {
+
+    private SplittableRandom random;
+
+    SplittableRandomEngine(final long seed) {
+        seed(seed);
+    }
+
+    @Override
+    public void seed(final long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(final int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+}
@@ -0,0 +1,93 @@
+package uk.org.fyodor.random;
+
+import static java.lang.Long.rotateLeft;
+import static uk.org.fyodor.random.SplitMix64Engine.GOLDEN_GAMMA;
+import static uk.org.fyodor.random.SplitMix64Engine.mix;
+
+/*
+see http://xoshiro.di.unimi.it/xoshiro256starstar.c for the reference implementation,
+the four words of state are expanded from the seed using SplitMix64 as recommended there
+ */
+final class Xoshiro256StarStarEngine implements RandomEngine {
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    Xoshiro256StarStarEngine(final long seed) {
+        seed(seed);
+    }
+
+    @Override
+    public void seed(final long seed) {
+        long z = seed;
+        s0 = mix(z += GOLDEN_GAMMA);
+        s1 = mix(z += GOLDEN_GAMMA);
+        s2 = mix(z += GOLDEN_GAMMA);
+        s3 = mix(z + GOLDEN_GAMMA);
+    }
+
+    @Override
+    public long nextLong() {
+        final long result = rotateLeft(s1 * 5, 7) * 9;
+        final long t = s1 << 17;
+
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+
+        s2 ^= t;
+        s3 = rotateLeft(s3, 45);
+
+        return result;
+    }
+
+    @Override
+    public void nextLongs(final long[] longs, final int fromIndex, final int toIndex) {
+        long s0 = this.s0, s1 = this.s1, s2 = this.s2, s3 = this.s3;
+        for (int i = fromIndex; i < toIndex; i++) {
+            longs[i] = rotateLeft(s1 * 5, 7) * 9;
+            final long t = s1 << 17;
+            s2 ^= s0;
+            s3 ^= s1;
+            s1 ^= s2;
+            s0 ^= s3;
+            s2 ^= t;
+            s3 = rotateLeft(s3, 45);
+        }
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    @Override
+    public void nextInts(final int[] ints, final int fromIndex, final int toIndex, final int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+
+        final long threshold = (0x100000000L - bound) % bound;
+        long s0 = this.s0, s1 = this.s1, s2 = this.s2, s3 = this.s3;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long product;
+            do {
+                product = ((rotateLeft(s1 * 5, 7) * 9) >>> 32) * bound;
+                final long t = s1 << 17;
+                s2 ^= s0;
+                s3 ^= s1;
+                s1 ^= s2;
+                s0 ^= s3;
+                s2 ^= t;
+                s3 = rotateLeft(s3, 45);
+            } while ((product & 0xFFFFFFFFL) < threshold);
+            ints[i] = (int) (product >>> 32);
+        }
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+}
@@ -4,36 +4,40 @@ import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Writer;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class PublicSuffixListScraper {
 
+    private static final Path RESOURCE = Paths.get("fyodor-core/src/main/resources/uk/org/fyodor/generators/public-suffixes.txt");
+
     public static void main(String[] args) throws IOException {
         PublicSuffixListScraper scraper = new PublicSuffixListScraper();
-        scraper.getList();
+        scraper.writeList(args.length > 0 ? Paths.get(args[0]) : RESOURCE);
     }
 
-    public void getList() throws IOException {
+    public void writeList(Path resource) throws IOException {
         //resource is taken from https://publicsuffix.org/list/effective_tld_names.dat
         URL url = getClass().getResource("/effective_tld_names.dat.txt");
         if (url == null) {
             throw new FileNotFoundException("file not on CLASSPATH");
         }
-        BufferedReader br =
-                new BufferedReader(new InputStreamReader(url.openStream(), "UTF-8"));
-        StringBuilder stringBuilder = new StringBuilder();
-        int numberOfSuffixes = 0;//keep track to add a new line every now and then for readability
-        for (String line = null; (line = br.readLine()) != null;) {
-            if (line.length() <= 0 || line.startsWith("//") || line.startsWith("*")) {
-                continue;
-            }
-            stringBuilder.append("\"").append(line).append("\",");
-            numberOfSuffixes++;
-            if (numberOfSuffixes > 10) {
-                stringBuilder.append("\n");
-                numberOfSuffixes = 0;
+        //one suffix per line, utf-8, as read by SuffixTable
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(url.openStream(), UTF_8));
+             Writer writer = Files.newBufferedWriter(resource, UTF_8)) {
+            for (String line = null; (line = br.readLine()) != null;) {
+                line = line.trim();
+                if (line.length() <= 0 || line.startsWith("//") || line.startsWith("*")) {
+                    continue;
+                }
+                writer.write(line);
+                writer.write('\n');
             }
         }
-        System.out.println(stringBuilder.toString());
     }
 }
@@ -0,0 +1,77 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class BernoulliGeneratorTest extends BaseTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void probabilityOfZeroIsNeverTrue() {
+        assertThat(proportionTrue(RDG.bernoulli(0))).isEqualTo(0.0);
+    }
+
+    @Test
+    public void probabilityOfOneIsAlwaysTrue() {
+        assertThat(proportionTrue(RDG.bernoulli(1))).isEqualTo(1.0);
+    }
+
+    @Test
+    public void trueInProportionToTheProbability() {
+        assertThat(proportionTrue(RDG.bernoulli(0.25))).isBetween(0.24, 0.26);
+    }
+
+    @Test
+    public void probabilityWithoutAnExactBinaryExpansion() {
+        assertThat(proportionTrue(RDG.bernoulli(new BigDecimal("0.1")))).isBetween(0.09, 0.11);
+    }
+
+    @Test
+    public void tinyProbabilityIsAlmostNeverTrue() {
+        assertThat(proportionTrue(RDG.bernoulli(new BigDecimal("1e-30")))).isEqualTo(0.0);
+    }
+
+    @Test
+    public void probabilityCannotBeNull() {
+        assertThatThrownBy(() -> RDG.bernoulli(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("probability cannot be null");
+    }
+
+    @Test
+    public void probabilityCannotBeGreaterThanOne() {
+        assertThatThrownBy(() -> RDG.bernoulli(new BigDecimal("1.000001")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("probability must be between 0 and 1");
+    }
+
+    @Test
+    public void probabilityCannotBeNegative() {
+        assertThatThrownBy(() -> RDG.bernoulli(-0.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("probability must be between 0 and 1");
+    }
+
+    @Test
+    public void probabilityCannotBeNotANumber() {
+        assertThatThrownBy(() -> RDG.bernoulli(Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("probability must be between 0 and 1");
+    }
+
+    private static double proportionTrue(final BooleanGenerator generator) {
+        int trues = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            if (generator.nextBoolean()) {
+                trues++;
+            }
+        }
+        return trues / (double) SAMPLES;
+    }
+}
@@ -91,6 +91,37 @@ public final class BigDecimalGeneratorTest extends BaseTest {
                 .hasSize(100);
     }
 
+    @Test
+    public void generatesExactDecimalsAbove2To53() {
+        final BigDecimal lower = new BigDecimal("90071992547409.92");
+        final BigDecimal upper = new BigDecimal("90071992547409.99");
+
+        assertThat(from(RDG.bigDecimal(closed(lower, upper), 2)).sample(1000).unique())
+                .hasSize(8)
+                .allMatch(value -> value.scale() == 2 && value.compareTo(lower) >= 0 && value.compareTo(upper) <= 0);
+    }
+
+    @Test
+    public void generatesDecimalsBetweenBoundsWiderThanALong() {
+        final BigDecimal lower = new BigDecimal("-1e30");
+        final BigDecimal upper = new BigDecimal("1e30");
+
+        assertThat(from(RDG.bigDecimal(closed(lower, upper), 4)).sample(1000).unique())
+                .hasSize(1000)
+                .allMatch(value -> value.scale() == 4 && value.compareTo(lower) >= 0 && value.compareTo(upper) <= 0);
+    }
+
+    @Test
+    public void boundsAreRoundedInwardsToTheScale() {
+        assertThat(from(RDG.bigDecimal(closed(new BigDecimal("0.101"), new BigDecimal("0.129")), 2)).sample(1000).unique())
+                .containsOnly(new BigDecimal("0.11"), new BigDecimal("0.12"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangeMustContainADecimalOfTheScale() {
+        RDG.bigDecimal(closed(new BigDecimal("0.101"), new BigDecimal("0.109")), 2);
+    }
+
     private static Sampler.Sample<Integer> decimalPartsOnly(final Sampler.Sample<BigDecimal> sample) {
         final LinkedList<Integer> decimalParts = new LinkedList<>();
         for (final BigDecimal bigDecimal : sample) {
@@ -13,4 +13,17 @@ public final class BooleanGeneratorTest extends BaseTest {
         assertThat(from(RDG.bool()).sample(100).unique())
                 .containsOnly(true, false);
     }
+
+    @Test
+    public void generatesPrimitiveBooleans() {
+        final BooleanGenerator generator = RDG.bool();
+        boolean anyTrue = false;
+        boolean anyFalse = false;
+        for (int i = 0; i < 100; i++) {
+            final boolean b = generator.nextBoolean();
+            anyTrue |= b;
+            anyFalse |= !b;
+        }
+        assertThat(anyTrue && anyFalse).isTrue();
+    }
 }
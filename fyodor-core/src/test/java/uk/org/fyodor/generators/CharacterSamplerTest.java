@@ -0,0 +1,133 @@
+package uk.org.fyodor.generators;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.characters.CharacterSet;
+import uk.org.fyodor.generators.characters.CharacterSets;
+import uk.org.fyodor.random.RandomEngine;
+import uk.org.fyodor.random.RandomEngines;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
+
+public final class CharacterSamplerTest extends BaseTest {
+
+    private static final String HEX = "0123456789abcdef";
+    private static final String LETTERS_AND_DIGITS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    private long draws;
+
+    @Before
+    public void countDraws() {
+        seed().next(1234L);
+        seed().engine(seed -> new CountingEngine(RandomEngines.SplitMix64.create(seed)));
+    }
+
+    @After
+    public void revertEngine() {
+        seed().previous();
+    }
+
+    @Test
+    public void everyCharacterIsEquallyLikely() {
+        for (final String alphabet : new String[]{"x", "ab", "abc", "ABCD", HEX, LETTERS_AND_DIGITS}) {
+            final CharacterSampler sampler = sampler(alphabet);
+            final int perCharacter = 20000;
+            final char[] chars = new char[perCharacter * alphabet.length()];
+            sampler.fill(chars, 0, chars.length);
+
+            final int[] counts = new int[alphabet.length()];
+            for (final char c : chars) {
+                counts[alphabet.indexOf(c)]++;
+            }
+            for (final int count : counts) {
+                assertThat(count).as(alphabet).isBetween(perCharacter * 95 / 100, perCharacter * 105 / 100);
+            }
+        }
+    }
+
+    @Test
+    public void drawsManyCharactersFromEachRandomValue() {
+        assertThat(drawsFor(HEX, 1600)).isEqualTo(100);
+        assertThat(drawsFor("ABCD", 3200)).isEqualTo(100);
+        assertThat(drawsFor(LETTERS_AND_DIGITS, 1000)).isBetween(100L, 105L);
+        assertThat(drawsFor(alphabetOfSize(93), 900)).isBetween(100L, 105L);
+        assertThat(drawsFor("x", 1000)).isEqualTo(0);
+    }
+
+    @Test
+    public void fillingAndAppendingDrawTheSameCharacters() throws IOException {
+        for (final String alphabet : new String[]{"x", "ABCD", HEX, LETTERS_AND_DIGITS}) {
+            final CharacterSampler sampler = sampler(alphabet);
+
+            seed().next(99L);
+            final char[] filled = new char[101];
+            sampler.fill(filled, 0, filled.length);
+            seed().previous();
+
+            seed().next(99L);
+            final StringBuilder appended = new StringBuilder();
+            sampler.appendTo(appended, 101);
+            seed().previous();
+
+            assertThat(appended.toString()).isEqualTo(String.valueOf(filled));
+        }
+    }
+
+    @Test
+    public void drawsSingleCharactersFromTheAlphabet() {
+        final CharacterSampler sampler = sampler(LETTERS_AND_DIGITS);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(LETTERS_AND_DIGITS).contains(String.valueOf(sampler.next()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotSampleFromAnEmptyCharacterSet() {
+        sampler("");
+    }
+
+    private long drawsFor(final String alphabet, final int length) {
+        final CharacterSampler sampler = sampler(alphabet);
+        final long before = draws;
+        sampler.fill(new char[length], 0, length);
+        return draws - before;
+    }
+
+    private static CharacterSampler sampler(final String alphabet) {
+        return new CharacterSampler(sourceOfRandomness(), CharacterSets.of(alphabet.toCharArray()));
+    }
+
+    private static String alphabetOfSize(final int size) {
+        final StringBuilder alphabet = new StringBuilder();
+        for (char c = '!'; alphabet.length() < size; c++) {
+            alphabet.append(c);
+        }
+        return alphabet.toString();
+    }
+
+    private final class CountingEngine implements RandomEngine {
+
+        private final RandomEngine engine;
+
+        private CountingEngine(final RandomEngine engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        public void seed(final long seed) {
+            engine.seed(seed);
+        }
+
+        @Override
+        public long nextLong() {
+            draws++;
+            return engine.nextLong();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package uk.org.fyodor.generators;
 
 import org.junit.Test;
 import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.range.Range;
 
 import static uk.org.fyodor.FyodorAssertions.assertThat;
 
@@ -18,4 +19,15 @@ public class DomainGeneratorTest extends BaseTest {
             assertThat(domain.endsWith("-")).isFalse();
         }
     }
+
+    @Test
+    public void shortDomainsNeverStartOrEndWithAHyphen() {
+        Generator<String> shortDomains = RDG.domain(Range.closed(1, 2));
+        for (int i = 0; i < 10000; i++) {
+            String domain = shortDomains.next();
+            assertThat(domain.length()).isBetween(1, 2);
+            assertThat(domain.startsWith("-")).isFalse();
+            assertThat(domain.endsWith("-")).isFalse();
+        }
+    }
 }
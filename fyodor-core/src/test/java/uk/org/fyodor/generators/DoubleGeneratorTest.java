@@ -90,4 +90,20 @@ public final class DoubleGeneratorTest extends BaseTest {
         assertThat(from(RDG.doubleVal(0.0)).sample(100).unique())
                 .containsOnly(0.0);
     }
+
+    @Test
+    public void generatesPrimitiveDoublesWithinRange() {
+        final DoubleGenerator generator = RDG.doubleVal(closed(-1.0, 1.0));
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.nextDouble()).isBetween(-1.0, 1.0);
+        }
+    }
+
+    @Test
+    public void streamsPrimitiveDoubles() {
+        assertThat(RDG.doubleVal(closed(0.5, 0.75)).doubleStream(1000).allMatch(d -> d >= 0.5 && d <= 0.75))
+                .isTrue();
+        assertThat(RDG.doubleVal(closed(0.5, 0.75)).parallelDoubleStream(3000).count())
+                .isEqualTo(3000);
+    }
 }
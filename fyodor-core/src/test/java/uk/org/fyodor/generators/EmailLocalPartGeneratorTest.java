@@ -2,8 +2,11 @@ package uk.org.fyodor.generators;
 
 import org.junit.Test;
 import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.characters.CharacterSetFilter;
+import uk.org.fyodor.range.Range;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 public class EmailLocalPartGeneratorTest extends BaseTest {
 
@@ -19,4 +22,54 @@ public class EmailLocalPartGeneratorTest extends BaseTest {
             assertThat(localPart.endsWith(".")).isFalse();
         }
     }
+
+    @Test
+    public void shortLocalPartsHaveNoWrongDotsAndKeepTheirLength() {
+        EmailLocalPartGenerator shortLocalParts = new EmailLocalPartGenerator(Range.closed(1, 3));
+        for (int i = 0; i < 10000; i++) {
+            String localPart = shortLocalParts.next();
+            assertThat(localPart.length()).isBetween(1, 3);
+            assertThat(localPart).doesNotContain("..");
+            assertThat(localPart.startsWith(".")).isFalse();
+            assertThat(localPart.endsWith(".")).isFalse();
+        }
+    }
+
+    @Test
+    public void dotsAreAsLikelyAsInAnyValidLocalPart() {
+        /* of the b^3 + b^2 valid local parts of three characters, the b^2 with a dot in the middle */
+        final double b = notDots();
+        final double expected = 1 / (b + 1);
+
+        final EmailLocalPartGenerator threeCharacters = new EmailLocalPartGenerator(3);
+        int dots = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (threeCharacters.next().charAt(1) == '.') {
+                dots++;
+            }
+        }
+
+        assertThat(dots / 100_000.0).isCloseTo(expected, within(5 * Math.sqrt(expected / 100_000)));
+    }
+
+    @Test
+    public void lengthsAreWeightedByHowManyOfThemAreValid() {
+        /* one character has b valid local parts out of b + 1 strings, two have b^2 out of (b + 1)^2 */
+        final double b = notDots();
+        final double expected = (b / (b + 1)) / (b / (b + 1) + b * b / ((b + 1) * (b + 1)));
+
+        final EmailLocalPartGenerator oneOrTwoCharacters = new EmailLocalPartGenerator(Range.closed(1, 2));
+        int ones = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (oneOrTwoCharacters.next().length() == 1) {
+                ones++;
+            }
+        }
+
+        assertThat(ones / 100_000.0).isCloseTo(expected, within(5 * Math.sqrt(0.25 / 100_000)));
+    }
+
+    private static int notDots() {
+        return new String(new StringGenerator(1, CharacterSetFilter.EmailLocalPart.getFilter()).getCharSet()).replace(".", "").length();
+    }
 }
@@ -0,0 +1,114 @@
+package uk.org.fyodor.generators;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+import static uk.org.fyodor.range.Range.closed;
+
+public class GeneratorStreamTest extends BaseTest {
+
+    private final long seed = new Random().nextLong();
+
+    @Before
+    public void setSeed() {
+        seed().next(seed);
+    }
+
+    @After
+    public void revertSeed() {
+        seed().previous();
+    }
+
+    @Test
+    public void streamsTheRequestedNumberOfValues() {
+        assertThat(RDG.integer(closed(1, 6)).stream(5000).collect(toList()))
+                .hasSize(5000)
+                .containsOnly(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    public void parallelStreamsTheRequestedNumberOfValues() {
+        assertThat(RDG.integer(closed(1, 6)).parallelStream(5000).collect(toList()))
+                .hasSize(5000)
+                .containsOnly(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    public void unboundedStreamCanBeLimited() {
+        assertThat(RDG.string(5).stream().limit(10).collect(toList())).hasSize(10);
+    }
+
+    @Test
+    public void emptyStream() {
+        assertThat(RDG.string(5).stream(0).count()).isZero();
+        assertThat(RDG.string(5).parallelStream(0).count()).isZero();
+    }
+
+    @Test
+    public void parallelStreamGeneratesTheSameValuesAsSequentialStreamForTheSameSeed() {
+        final List<String> sequential = RDG.emailAddress().stream(20_000).collect(toList());
+
+        seed().next(seed);
+        final List<String> parallel;
+        try {
+            parallel = RDG.emailAddress().parallelStream(20_000).collect(toList());
+        } finally {
+            seed().previous();
+        }
+
+        assertThat(parallel).isEqualTo(sequential);
+    }
+
+    @Test
+    public void streamsAreReproducibleForTheSameSeed() {
+        final List<Integer> first = RDG.integer().stream(3000).collect(toList());
+
+        seed().next(seed);
+        final List<Integer> second;
+        try {
+            second = RDG.integer().stream(3000).collect(toList());
+        } finally {
+            seed().previous();
+        }
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    public void consecutiveStreamsGenerateDifferentValues() {
+        final Generator<Integer> generator = RDG.integer();
+        assertThat(generator.stream(100).collect(toList()))
+                .isNotEqualTo(generator.stream(100).collect(toList()));
+    }
+
+    @Test
+    public void splitsOnlyOnChunkBoundaries() {
+        final Spliterator<Integer> spliterator = RDG.integer().stream(ChunkedSpliterator.CHUNK_SIZE * 3 + 1).spliterator();
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(prefix.estimateSize()).isEqualTo(ChunkedSpliterator.CHUNK_SIZE * 2);
+        assertThat(spliterator.estimateSize()).isEqualTo(ChunkedSpliterator.CHUNK_SIZE + 1);
+        assertThat(spliterator.trySplit()).isNotNull();
+        assertThat(spliterator.trySplit()).isNull();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void streamSizeCannotBeNegative() {
+        RDG.integer().stream(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelStreamSizeCannotBeNegative() {
+        RDG.integer().parallelStream(-1);
+    }
+}
@@ -3,6 +3,7 @@ package uk.org.fyodor.generators;
 import org.junit.Test;
 import uk.org.fyodor.BaseTest;
 
+import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static uk.org.fyodor.Sampler.from;
 import static uk.org.fyodor.range.Range.closed;
@@ -80,4 +81,20 @@ public class IntegerGeneratorTest extends BaseTest {
     public void doesNotGenerateTheSameNumberEveryTime() {
         assertThat(from(RDG.integer()).sample(1000).unique().size()).isGreaterThan(900);
     }
+
+    @Test
+    public void generatesPrimitiveIntegersWithinRange() {
+        final IntGenerator generator = RDG.integer(closed(-1, 1));
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.nextInt()).isBetween(-1, 1);
+        }
+    }
+
+    @Test
+    public void streamsPrimitiveIntegers() {
+        assertThat(RDG.integer(closed(1, 3)).intStream(1000).boxed().collect(toSet()))
+                .containsOnly(1, 2, 3);
+        assertThat(RDG.integer(closed(1, 3)).parallelIntStream(5000).count())
+                .isEqualTo(5000);
+    }
 }
@@ -17,4 +17,12 @@ public class Iso3CountryGeneratorTest extends BaseTest {
         }
 
     }
+
+    @Test
+    public void countryCodesAreThreeUpperCaseLetters() {
+        Generator<String> countryGenerator = RDG.iso3Country();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(countryGenerator.next()).matches("[A-Z]{3}");
+        }
+    }
 }
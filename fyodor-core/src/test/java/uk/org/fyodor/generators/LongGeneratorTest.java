@@ -84,4 +84,20 @@ public final class LongGeneratorTest extends BaseTest {
     public void generatesLongAcrossZero() {
         assertThat(from(RDG.longVal(closed(-1L, 1L))).sample(100).unique()).containsOnly(-1L, 0L, 1L);
     }
+
+    @Test
+    public void generatesPrimitiveLongsWithinRange() {
+        final LongGenerator generator = RDG.longVal(closed(-1L, 1L));
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.nextLong()).isBetween(-1L, 1L);
+        }
+    }
+
+    @Test
+    public void streamsPrimitiveLongs() {
+        assertThat(RDG.longVal(closed(10L, 20L)).longStream(1000).allMatch(l -> l >= 10 && l <= 20))
+                .isTrue();
+        assertThat(RDG.longVal().parallelLongStream(5000).distinct().count())
+                .isEqualTo(5000);
+    }
 }
@@ -0,0 +1,44 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
+import static uk.org.fyodor.range.Range.closed;
+
+public class MoneyGeneratorTest extends BaseTest {
+
+    @Test
+    public void moneyHasTheDefaultFractionDigitsOfItsCurrency() {
+        assertThat(from(RDG.money(Currency.getInstance("GBP"))).sample(1000).unique())
+                .allMatch(amount -> amount.scale() == 2);
+        assertThat(from(RDG.money(Currency.getInstance("JPY"))).sample(1000).unique())
+                .allMatch(amount -> amount.scale() == 0);
+        assertThat(from(RDG.money(Currency.getInstance("BHD"))).sample(1000).unique())
+                .allMatch(amount -> amount.scale() == 3);
+    }
+
+    @Test
+    public void moneyWithoutAMinorUnitIsWhole() {
+        assertThat(from(RDG.money(Currency.getInstance("XAU"))).sample(1000).unique())
+                .allMatch(amount -> amount.scale() == 0);
+    }
+
+    @Test
+    public void moneyIsWithinRange() {
+        final BigDecimal lower = new BigDecimal("9.99");
+        final BigDecimal upper = new BigDecimal("10.01");
+
+        assertThat(from(RDG.money(Currency.getInstance("EUR"), closed(lower, upper))).sample(1000).unique())
+                .containsOnly(new BigDecimal("9.99"), new BigDecimal("10.00"), new BigDecimal("10.01"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void currencyCannotBeNull() {
+        RDG.money(null);
+    }
+}
@@ -5,6 +5,8 @@ import com.google.common.collect.Multiset;
 import org.junit.Test;
 import uk.org.fyodor.BaseTest;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class PercentageChanceGeneratorTest extends BaseTest {
 
     Multiset<Boolean> results = HashMultiset.create();
@@ -22,4 +24,13 @@ public class PercentageChanceGeneratorTest extends BaseTest {
             results.clear();
         }
     }
+
+    @Test
+    public void percentageChanceIsOutOfOneHundred() {
+        Generator<Boolean> percentageChance = RDG.percentageChanceOf(99);
+        for (int i = 0; i < 100_000; i++) {
+            results.add(percentageChance.next());
+        }
+        assertThat(results.count(Boolean.TRUE) / 100_000.0).isBetween(0.985, 0.995);
+    }
 }
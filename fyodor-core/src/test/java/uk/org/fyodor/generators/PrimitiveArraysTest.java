@@ -0,0 +1,96 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.org.fyodor.generators.RDG.*;
+import static uk.org.fyodor.range.Range.closed;
+import static uk.org.fyodor.range.Range.fixed;
+
+public final class PrimitiveArraysTest extends BaseTest {
+
+    @Test
+    public void intArraysHoldValuesWithinTheRange() {
+        final int[] integers = intArray(closed(-5, 5), fixed(10_000)).next();
+
+        assertThat(integers).hasSize(10_000).contains(-5, 0, 5);
+        for (final int i : integers) {
+            assertThat(i).isBetween(-5, 5);
+        }
+    }
+
+    @Test
+    public void intArraysAreNotLimitedToAThousandElements() {
+        assertThat(intArray(closed(Integer.MIN_VALUE, Integer.MAX_VALUE), fixed(1_000_000)).next()).hasSize(1_000_000);
+    }
+
+    @Test
+    public void arraysHaveSizesWithinTheSizeRange() {
+        final Generator<long[]> generator = longArray(closed(0L, 10L), closed(2, 4));
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.next().length).isBetween(2, 4);
+        }
+    }
+
+    @Test
+    public void negativeSizesGiveEmptyArrays() {
+        assertThat(intArray(closed(0, 1), fixed(-1)).next()).isEmpty();
+    }
+
+    @Test
+    public void longArraysHoldValuesWithinTheRange() {
+        for (final long l : longArray(closed(Long.MAX_VALUE - 10, Long.MAX_VALUE), fixed(1000)).next()) {
+            assertThat(l).isBetween(Long.MAX_VALUE - 10, Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void doubleArraysHoldValuesWithinTheRange() {
+        for (final double d : doubleArray(closed(-1.5, 2.5), fixed(1000)).next()) {
+            assertThat(d).isBetween(-1.5, 2.5);
+        }
+    }
+
+    @Test
+    public void doubleArraysCannotHaveInfiniteBounds() {
+        assertThatThrownBy(() -> doubleArray(closed(0.0, Double.POSITIVE_INFINITY), fixed(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("upper bound must be a number and cannot be infinite");
+    }
+
+    @Test
+    public void byteArraysHaveTheGivenSize() {
+        assertThat(byteArray(fixed(13)).next()).hasSize(13);
+        assertThat(byteArray(fixed(100_000)).next()).hasSize(100_000).contains((byte) 0, Byte.MIN_VALUE, Byte.MAX_VALUE);
+    }
+
+    @Test
+    public void charArraysHoldTheGivenCharacters() {
+        final char[] chars = charArray(fixed(1000), new char[]{'a', 'b', 'c'}).next();
+
+        assertThat(chars).hasSize(1000).containsOnly('a', 'b', 'c');
+    }
+
+    @Test
+    public void charArraysDefaultToTheStringCharacters() {
+        for (final char c : charArray(fixed(1000)).next()) {
+            assertThat(c).isBetween(' ', '~').isNotEqualTo('"');
+        }
+    }
+
+    @Test
+    public void sizeRangeCannotBeNull() {
+        assertThatThrownBy(() -> intArray(closed(0, 1), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("size range cannot be null");
+    }
+
+    @Test
+    public void charactersCannotBeEmpty() {
+        assertThatThrownBy(() -> charArray(fixed(1), new char[0]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("characters cannot be empty");
+    }
+}
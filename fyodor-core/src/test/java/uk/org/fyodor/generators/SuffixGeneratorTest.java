@@ -6,6 +6,7 @@ import org.junit.Test;
 import uk.org.fyodor.BaseTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class SuffixGeneratorTest extends BaseTest {
 
@@ -19,4 +20,36 @@ public class SuffixGeneratorTest extends BaseTest {
         }
         assertThat(suffixes.elementSet()).hasSize(generator.getSuffixes().length);
     }
+
+    @Test
+    public void generateSuffixesUnderTopLevelDomain() {
+        final SuffixGenerator ukSuffixes = generator.withTopLevelDomain("uk");
+        for (int i = 0; i < 1000; i++) {
+            suffixes.add(ukSuffixes.next());
+        }
+        assertThat(suffixes.elementSet()).contains("uk", "co.uk").hasSize(ukSuffixes.getSuffixes().length);
+        assertThat(suffixes.elementSet()).allMatch(suffix -> suffix.equals("uk") || suffix.endsWith(".uk"));
+    }
+
+    @Test
+    public void generateSuffixesOfDepth() {
+        final SuffixGenerator secondLevelSuffixes = generator.withDepth(2);
+        for (int i = 0; i < 10000; i++) {
+            assertThat(secondLevelSuffixes.next().split("\\.")).hasSize(2);
+        }
+    }
+
+    @Test
+    public void topLevelDomainWithoutSuffixesIsRejected() {
+        assertThatThrownBy(() -> generator.withTopLevelDomain("notatld"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("there are no domain suffixes under notatld");
+    }
+
+    @Test
+    public void depthMustBePositive() {
+        assertThatThrownBy(() -> generator.withDepth(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("depth must be greater than zero");
+    }
 }
@@ -0,0 +1,55 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SuffixTableTest extends BaseTest {
+
+    @Test
+    public void readsOneSuffixPerLineIgnoringBlankLinesAndCarriageReturns() throws IOException {
+        final SuffixTable table = table("uk\r\nco.uk\n\nverm\u00f6gensberater\nnet.\u7f51\u5e97");
+
+        assertThat(table.toArray()).containsExactly("uk", "co.uk", "verm\u00f6gensberater", "net.\u7f51\u5e97");
+    }
+
+    @Test
+    public void filtersByTopLevelDomainOnWholeLabels() throws IOException {
+        final SuffixTable table = table("uk\nco.uk\nltd.co.uk\nfuk\nco.fuk\nnet.\u7f51\u5e97\n\u7f51\u5e97");
+
+        assertThat(table.withTopLevelDomain("uk").toArray()).containsExactly("uk", "co.uk", "ltd.co.uk");
+        assertThat(table.withTopLevelDomain("\u7f51\u5e97").toArray()).containsExactly("net.\u7f51\u5e97", "\u7f51\u5e97");
+        assertThat(table.withTopLevelDomain("com").size()).isZero();
+    }
+
+    @Test
+    public void filtersByDepth() throws IOException {
+        final SuffixTable table = table("uk\nco.uk\nltd.co.uk\nnet.\u7f51\u5e97\n\u7f51\u5e97");
+
+        assertThat(table.withDepth(1).toArray()).containsExactly("uk", "\u7f51\u5e97");
+        assertThat(table.withDepth(2).toArray()).containsExactly("co.uk", "net.\u7f51\u5e97");
+        assertThat(table.withDepth(3).toArray()).containsExactly("ltd.co.uk");
+    }
+
+    @Test
+    public void filtersCanBeCombined() throws IOException {
+        final SuffixTable table = table("uk\nco.uk\nltd.co.uk\njp\nco.jp");
+
+        assertThat(table.withTopLevelDomain("uk").withDepth(2).toArray()).containsExactly("co.uk");
+    }
+
+    @Test
+    public void publicSuffixesAreLoadedOnceAndShared() {
+        assertThat(SuffixTable.publicSuffixes()).isSameAs(SuffixTable.publicSuffixes());
+        assertThat(SuffixTable.publicSuffixes().size()).isGreaterThan(6000);
+    }
+
+    private static SuffixTable table(final String suffixes) throws IOException {
+        return SuffixTable.read(new ByteArrayInputStream(suffixes.getBytes(UTF_8)));
+    }
+}
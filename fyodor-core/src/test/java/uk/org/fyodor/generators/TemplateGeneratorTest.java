@@ -0,0 +1,108 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.org.fyodor.Sampler.from;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+
+public class TemplateGeneratorTest extends BaseTest {
+
+    @Test
+    public void generatesStringsMatchingTheTemplate() {
+        assertThat(from(RDG.template("{upper:2}{digits:6}{oneOf:ABCD}")).sample(1000).unique())
+                .allMatch(value -> value.matches("[A-Z]{2}[0-9]{6}[ABCD]"));
+    }
+
+    @Test
+    public void characterClasses() {
+        assertThat(RDG.template("{letters:20}").next()).matches("[A-Za-z]{20}");
+        assertThat(RDG.template("{lower:20}").next()).matches("[a-z]{20}");
+        assertThat(RDG.template("{alphanumeric:20}").next()).matches("[A-Za-z0-9]{20}");
+        assertThat(RDG.template("{hex:20}").next()).matches("[0-9a-f]{20}");
+        assertThat(RDG.template("{digits}").next()).matches("[0-9]");
+    }
+
+    @Test
+    public void literalsAreCopiedIncludingEscapedBraces() {
+        assertThat(RDG.template("ACC-{digits:4}/{{x}}").next()).matches("ACC-[0-9]{4}/\\{x}");
+        assertThat(RDG.template("no segments").next()).isEqualTo("no segments");
+        assertThat(RDG.template("").next()).isEmpty();
+    }
+
+    @Test
+    public void lengthRangesCoverEveryLength() {
+        assertThat(from(RDG.template("{digits:1-3}")).sample(1000).unique())
+                .extracting(String::length)
+                .containsOnly(1, 2, 3);
+    }
+
+    @Test
+    public void oneOfStrings() {
+        assertThat(from(RDG.template("{oneOf:GB|IE|FR}-{oneOf:xy:2}")).sample(1000).unique())
+                .allMatch(value -> value.matches("(GB|IE|FR)-[xy]{2}"))
+                .extracting(value -> value.substring(0, 2))
+                .contains("GB", "IE", "FR");
+    }
+
+    @Test
+    public void writesIntoSinks() throws IOException {
+        final TextGenerator generator = RDG.template("{upper:3}-{digits:3}");
+
+        assertThat(generator.writeTo(new StringBuilder("x")).toString()).matches("x[A-Z]{3}-[0-9]{3}");
+        assertThat(generator.appendTo(new StringWriter()).toString()).matches("[A-Z]{3}-[0-9]{3}");
+
+        final CharBuffer buffer = CharBuffer.allocate(7);
+        generator.writeTo(buffer).flip();
+        assertThat(buffer.toString()).matches("[A-Z]{3}-[0-9]{3}");
+    }
+
+    @Test
+    public void longTemplatesGrowTheBuffer() {
+        assertThat(RDG.template("{digits:1000}{upper:1000}").next()).matches("[0-9]{1000}[A-Z]{1000}");
+    }
+
+    @Test
+    public void sameSeedGivesSameValues() {
+        final TextGenerator generator = RDG.template("{alphanumeric:12}");
+        seed().next(42);
+        final String first = generator.next();
+        seed().next(42);
+
+        assertThat(generator.next()).isEqualTo(first);
+    }
+
+    @Test
+    public void invalidTemplatesAreRejected() {
+        assertThatThrownBy(() -> RDG.template(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("template cannot be null");
+        assertThatThrownBy(() -> RDG.template("{digits:2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("template segment starting at 0 is not closed");
+        assertThatThrownBy(() -> RDG.template("a}b"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("template has an unmatched } at 1");
+        assertThatThrownBy(() -> RDG.template("{words:2}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("template segment {words:2} is not a known character class");
+        assertThatThrownBy(() -> RDG.template("{digits:3-1}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("template segment {digits:3-1} has an invalid count");
+        assertThatThrownBy(() -> RDG.template("{digits:0-2000000000}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("template segment {digits:0-2000000000} has a count larger than 65536");
+        assertThatThrownBy(() -> RDG.template("{oneOf:AB|CDEFGHIJKLMNOPQRSTUVWXYZ:65536}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("template can generate values longer than 1048576 characters");
+        assertThatThrownBy(() -> RDG.template("{oneOf:}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("template segment {oneOf:} has no choices");
+    }
+}
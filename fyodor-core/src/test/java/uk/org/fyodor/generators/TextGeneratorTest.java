@@ -0,0 +1,92 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.CharBuffer;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class TextGeneratorTest extends BaseTest {
+
+    private final List<TextGenerator> textGenerators = asList(
+            RDG.string(),
+            RDG.string(closed(0, 20), "0123456789abcdef"),
+            RDG.domain(),
+            RDG.domain(closed(1, 3)),
+            RDG.emailAddress(),
+            RDG.niNumber(),
+            RDG.postcode());
+
+    @Test
+    public void appendsTheSameTextAsNextForTheSameSeed() throws IOException {
+        for (final TextGenerator generator : textGenerators) {
+            for (long seed = 0; seed < 100; seed++) {
+                final String expected = withSeed(seed, generator::next);
+                final String appended = withSeed(seed, () -> append(generator));
+
+                print(expected);
+                assertThat(appended).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void appendsToTheEndOfExistingContent() {
+        final StringBuilder builder = new StringBuilder("existing:");
+
+        final StringBuilder returned = RDG.niNumber().writeTo(builder);
+
+        assertThat((Object) returned).isSameAs(builder);
+        assertThat(builder.toString()).matches("existing:[A-Z]{2}[0-9]{6}[A-D]");
+    }
+
+    @Test
+    public void writesIntoACharBuffer() {
+        final CharBuffer buffer = CharBuffer.allocate(100);
+
+        RDG.string(10).writeTo(buffer);
+        RDG.string(5).writeTo(buffer);
+
+        assertThat(buffer.position()).isEqualTo(15);
+    }
+
+    @Test(expected = BufferOverflowException.class)
+    public void cannotWriteMoreThanTheRemainingSpaceOfACharBuffer() {
+        RDG.string(10).writeTo(CharBuffer.allocate(9));
+    }
+
+    @Test
+    public void appendsToAWriter() throws IOException {
+        final StringWriter writer = new StringWriter();
+
+        RDG.postcode().appendTo(writer).append('\n');
+
+        assertThat(writer.toString()).endsWith("\n");
+        assertThat(writer.toString().length()).isGreaterThan(6);
+    }
+
+    private static String append(final TextGenerator generator) {
+        try {
+            return generator.appendTo(new StringBuilder()).toString();
+        } catch (final IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static String withSeed(final long seed, final Generator<String> generator) {
+        seed().next(seed);
+        try {
+            return generator.next();
+        } finally {
+            seed().previous();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package uk.org.fyodor.generators;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.org.fyodor.random.RandomSourceProvider.sourceOfRandomness;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class UniqueTextGeneratorTest extends BaseTest {
+
+    @Test
+    public void everyStringIsGeneratedOnceBeforeTheGeneratorIsExhausted() {
+        final TextGenerator generator = RDG.uniqueString(closed(1, 3), "ab".toCharArray());
+
+        assertThat(generate(generator, 14)).isEqualTo(allStrings("ab", 1, 3));
+        assertThatThrownBy(generator::next)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("all 14 unique strings have been generated");
+    }
+
+    @Test
+    public void repeatedCharactersDoNotRepeatStrings() {
+        final TextGenerator generator = RDG.uniqueString(closed(2, 2), "aab".toCharArray());
+
+        assertThat(generate(generator, 4)).containsOnly("aa", "ab", "ba", "bb");
+    }
+
+    @Test
+    public void longStringsAreUnique() {
+        final Set<String> strings = generate(RDG.uniqueString(closed(20, 30)), 100_000);
+
+        assertThat(strings).hasSize(100_000).allMatch(string -> string.length() >= 20 && string.length() <= 30);
+        assertThat(strings.stream().filter(string -> string.length() == 20).count()).isBetween(7_000L, 11_000L);
+    }
+
+    @Test
+    public void emptyStringIsOneOfTheStrings() {
+        assertThat(generate(RDG.uniqueString(closed(0, 2), "xy".toCharArray()), 7)).contains("");
+    }
+
+    @Test
+    public void uniqueStringsNeedTwoCharacters() {
+        assertThatThrownBy(() -> RDG.uniqueString(closed(1, 5), "aa".toCharArray()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("unique strings need at least two different characters");
+    }
+
+    @Test
+    public void everyDomainIsGeneratedOnce() {
+        final Set<String> expected = new HashSet<>();
+        for (final String domain : allStrings("ab-", 1, 4)) {
+            if (!domain.startsWith("-") && !domain.endsWith("-")) {
+                expected.add(domain);
+            }
+        }
+
+        final TextGenerator generator = UniqueTextGenerator.domains(sourceOfRandomness(), closed(1, 4), "ab-".toCharArray());
+
+        assertThat(generate(generator, expected.size())).isEqualTo(expected);
+        assertThatThrownBy(generator::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void longDomainsAreUniqueAndValid() {
+        final Set<String> domains = generate(RDG.domain(closed(5, 40)).unique(), 100_000);
+
+        assertThat(domains).hasSize(100_000);
+        assertThat(domains).allMatch(domain -> !domain.startsWith("-") && !domain.endsWith("-"));
+    }
+
+    @Test
+    public void everyLocalPartIsGeneratedOnce() {
+        final Set<String> expected = new HashSet<>();
+        for (final String localPart : allStrings("ab.", 1, 5)) {
+            if (!localPart.startsWith(".") && !localPart.endsWith(".") && !localPart.contains("..")) {
+                expected.add(localPart);
+            }
+        }
+
+        final TextGenerator generator = UniqueTextGenerator.localParts(sourceOfRandomness(), closed(1, 5), "ab.".toCharArray());
+
+        assertThat(generate(generator, expected.size())).isEqualTo(expected);
+        assertThatThrownBy(generator::next).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void longLocalPartsAreUniqueAndValid() {
+        final Set<String> localParts = generate(new EmailLocalPartGenerator(closed(3, 50)).unique(), 100_000);
+
+        assertThat(localParts).hasSize(100_000);
+        assertThat(localParts).allMatch(localPart -> !localPart.startsWith(".") && !localPart.endsWith(".") && !localPart.contains(".."));
+    }
+
+    @Test
+    public void localPartsLongerThanTheCountsCanHoldAreUniqueAndValid() {
+        final TextGenerator generator = UniqueTextGenerator.localParts(sourceOfRandomness(), closed(1, 500), "ab.".toCharArray());
+
+        final Set<String> localParts = generate(generator, 10_000);
+
+        assertThat(localParts).hasSize(10_000);
+        assertThat(localParts).allMatch(localPart -> !localPart.startsWith(".") && !localPart.endsWith(".") && !localPart.contains(".."));
+    }
+
+    private static Set<String> generate(final TextGenerator generator, final int count) {
+        final Set<String> strings = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            assertThat(strings.add(generator.next())).isTrue();
+        }
+        return strings;
+    }
+
+    private static Set<String> allStrings(final String alphabet, final int shortest, final int longest) {
+        final Set<String> strings = new HashSet<>();
+        Set<String> ofLength = new HashSet<>();
+        ofLength.add("");
+        for (int length = 1; length <= longest; length++) {
+            final Set<String> longer = new HashSet<>();
+            for (final String string : ofLength) {
+                for (final char c : alphabet.toCharArray()) {
+                    longer.add(string + c);
+                }
+            }
+            ofLength = longer;
+            if (length >= shortest) {
+                strings.addAll(ofLength);
+            }
+        }
+        return strings;
+    }
+}
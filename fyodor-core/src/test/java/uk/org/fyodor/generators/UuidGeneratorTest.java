@@ -2,11 +2,19 @@ package uk.org.fyodor.generators;
 
 import org.junit.Test;
 import uk.org.fyodor.Sampler.Sample;
+import uk.org.fyodor.generators.time.Timekeeper;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
+import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.assertThatThrownBy;
 import static uk.org.fyodor.Sampler.from;
+import static uk.org.fyodor.generators.RDG.timeOrderedUuid;
 import static uk.org.fyodor.generators.RDG.uuid;
 import static uk.org.fyodor.random.RandomSourceProvider.seed;
 
@@ -38,4 +46,107 @@ public final class UuidGeneratorTest {
         assertThat(first).isEqualTo(third);
         assertThat(first).isNotEqualTo(second);
     }
+
+    @Test
+    public void generatesVersion4Uuids() {
+        for (final UUID uuid : from(uuid()).sample(1000).unique()) {
+            assertThat(uuid.version()).isEqualTo(4);
+            assertThat(uuid.variant()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void fillsVersion4MostAndLeastSignificantBits() {
+        final long[] mostSignificantBits = new long[1000];
+        final long[] leastSignificantBits = new long[1000];
+
+        uuid().fill(mostSignificantBits, leastSignificantBits);
+
+        for (int i = 0; i < mostSignificantBits.length; i++) {
+            final UUID uuid = new UUID(mostSignificantBits[i], leastSignificantBits[i]);
+            assertThat(uuid.version()).isEqualTo(4);
+            assertThat(uuid.variant()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void fillRejectsArraysOfDifferentLengths() {
+        assertThatThrownBy(() -> uuid().fill(new long[2], new long[3]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("most and least significant bits must be the same length");
+    }
+
+    @Test
+    public void generatesVersion7UuidsWithTheTimekeepersTimestamp() {
+        final Instant now = Instant.parse("2024-05-01T12:34:56.789Z");
+        Timekeeper.from(Clock.fixed(now, UTC));
+        try {
+            final UUID uuid = timeOrderedUuid().next();
+
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+            assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(now.toEpochMilli());
+        } finally {
+            Timekeeper.rollback();
+        }
+    }
+
+    @Test
+    public void version7UuidsAreOrderedWithinTheSameMillisecond() {
+        Timekeeper.from(Clock.fixed(Instant.parse("2024-05-01T12:34:56.789Z"), UTC));
+        try {
+            final UuidGenerator generator = timeOrderedUuid();
+            final List<UUID> uuids = new ArrayList<>();
+            for (int i = 0; i < 10000; i++) {
+                uuids.add(generator.next());
+            }
+
+            assertThat(uuids).isSortedAccordingTo(UuidGeneratorTest::compareUnsigned);
+            assertThat(uuids).doesNotHaveDuplicates();
+        } finally {
+            Timekeeper.rollback();
+        }
+    }
+
+    @Test
+    public void version7UuidsStayOrderedWhenTheClockGoesBackwards() {
+        final UuidGenerator generator = timeOrderedUuid();
+
+        Timekeeper.from(Clock.fixed(Instant.parse("2024-05-01T12:00:00Z"), UTC));
+        final UUID later = generator.next();
+        Timekeeper.rollback();
+
+        Timekeeper.from(Clock.fixed(Instant.parse("2024-05-01T11:00:00Z"), UTC));
+        final UUID earlier = generator.next();
+        Timekeeper.rollback();
+
+        assertThat(compareUnsigned(later, earlier)).isNegative();
+    }
+
+    @Test
+    public void fillsOrderedVersion7MostAndLeastSignificantBits() {
+        final UuidGenerator generator = timeOrderedUuid();
+        final long[] mostSignificantBits = new long[5000];
+        final long[] leastSignificantBits = new long[5000];
+
+        generator.fill(mostSignificantBits, leastSignificantBits);
+        final UUID next = generator.next();
+
+        for (int i = 0; i < mostSignificantBits.length; i++) {
+            final UUID uuid = new UUID(mostSignificantBits[i], leastSignificantBits[i]);
+            assertThat(uuid.version()).isEqualTo(7);
+            assertThat(uuid.variant()).isEqualTo(2);
+            if (i > 0) {
+                assertThat(Long.compareUnsigned(mostSignificantBits[i - 1], mostSignificantBits[i])).isNegative();
+            }
+        }
+        assertThat(Long.compareUnsigned(mostSignificantBits[mostSignificantBits.length - 1], next.getMostSignificantBits())).isNegative();
+    }
+
+    private static int compareUnsigned(final UUID first, final UUID second) {
+        final int mostSignificant = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return mostSignificant != 0
+                ? mostSignificant
+                : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
 }
@@ -0,0 +1,117 @@
+package uk.org.fyodor.generators;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Multiset;
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class WeightedValueGeneratorTest extends BaseTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void valuesAreDrawnInProportionToTheirWeights() {
+        final Map<String, Double> weights = new LinkedHashMap<>();
+        weights.put("shipped", 7.0);
+        weights.put("pending", 2.0);
+        weights.put("cancelled", 1.0);
+
+        final Multiset<String> statuses = sample(RDG.weighted(weights));
+
+        assertThat(statuses.count("shipped") / (double) SAMPLES).isBetween(0.69, 0.71);
+        assertThat(statuses.count("pending") / (double) SAMPLES).isBetween(0.19, 0.21);
+        assertThat(statuses.count("cancelled") / (double) SAMPLES).isBetween(0.09, 0.11);
+    }
+
+    @Test
+    public void valuesWithoutWeightAreNeverDrawn() {
+        final Map<String, Double> weights = new HashMap<>();
+        weights.put("a", 0.0);
+        weights.put("b", 1.0);
+        weights.put("c", 0.0);
+        weights.put("d", 3.0);
+
+        assertThat(sample(RDG.weighted(weights)).elementSet()).containsOnly("b", "d");
+    }
+
+    @Test
+    public void manyValuesAreDrawnInProportionToTheirWeights() {
+        final Map<Integer, Double> weights = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            weights.put(i, i < 500 ? 1.0 : 3.0);
+        }
+
+        final Multiset<Integer> values = sample(RDG.weighted(weights));
+
+        final long lighter = values.stream().filter(value -> value < 500).count();
+        assertThat(lighter / (double) SAMPLES).isBetween(0.24, 0.26);
+    }
+
+    @Test
+    public void singleValueIsAlwaysDrawn() {
+        assertThat(sample(RDG.weighted(singletonMap("only", 0.5))).elementSet()).containsExactly("only");
+    }
+
+    @Test
+    public void weightedValuesCannotBeNull() {
+        assertThatThrownBy(() -> RDG.weighted(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("weighted values cannot be null");
+    }
+
+    @Test
+    public void weightedValuesCannotBeEmpty() {
+        assertThatThrownBy(() -> RDG.weighted(emptyMap()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("there must be at-least one weighted value");
+    }
+
+    @Test
+    public void weightsCannotBeNegative() {
+        assertThatThrownBy(() -> RDG.weighted(singletonMap("a", -1.0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("weight of a must be a finite number that is not negative");
+    }
+
+    @Test
+    public void weightsCannotBeNotANumber() {
+        assertThatThrownBy(() -> RDG.weighted(singletonMap("a", Double.NaN)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("weight of a must be a finite number that is not negative");
+    }
+
+    @Test
+    public void weightsCannotAllBeZero() {
+        assertThatThrownBy(() -> RDG.weighted(singletonMap("a", 0.0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("the weights must add up to a finite number greater than zero");
+    }
+
+    @Test
+    public void weightsCannotBeTooSmallToEverBeDrawn() {
+        final Map<String, Double> weightedValues = new LinkedHashMap<>();
+        weightedValues.put("a", 1.0);
+        weightedValues.put("b", 1e-30);
+
+        assertThatThrownBy(() -> RDG.weighted(weightedValues))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("weight of b is too small next to the other weights to ever be drawn");
+    }
+
+    private static <T> Multiset<T> sample(final Generator<T> generator) {
+        final Multiset<T> values = HashMultiset.create();
+        for (int i = 0; i < SAMPLES; i++) {
+            values.add(generator.next());
+        }
+        return values;
+    }
+}
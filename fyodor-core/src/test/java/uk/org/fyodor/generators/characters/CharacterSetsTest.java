@@ -0,0 +1,91 @@
+package uk.org.fyodor.generators.characters;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.range.Range.closed;
+
+public class CharacterSetsTest extends BaseTest {
+
+    @Before
+    @After
+    public void clearCache() {
+        CharacterSets.clear();
+    }
+
+    @Test
+    public void returnsTheSameCharacterSetForTheSameFilterAndRanges() {
+        final CharacterSet first = CharacterSets.of(LettersOnlyFilter.getFilter(), closed(0, 1000));
+        final CharacterSet second = CharacterSets.of(LettersOnlyFilter.getFilter(), closed(0, 1000));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void characterSetRangesShareEntriesWithTheirRanges() {
+        final CharacterSet fromCharacterSetRange = CharacterSets.of(LettersOnlyFilter.getFilter(), CharacterSetRange.latin1);
+        final CharacterSet fromRange = CharacterSets.of(LettersOnlyFilter.getFilter(), closed(160, 255));
+
+        assertThat(fromRange).isSameAs(fromCharacterSetRange);
+    }
+
+    @Test
+    public void internsIdenticalCharacterSetsBuiltFromDifferentKeys() {
+        final CharacterSet fromFilter = CharacterSets.of(c -> c >= 'a' && c <= 'c', closed(0, 127));
+        final CharacterSet fromRange = CharacterSets.of(c -> true, closed((int) 'a', (int) 'c'));
+        final CharacterSet fromChars = CharacterSets.of("abc".toCharArray());
+
+        assertThat(fromRange).isSameAs(fromFilter);
+        assertThat(fromChars).isSameAs(fromFilter);
+        assertThat(fromFilter.toString()).isEqualTo("abc");
+    }
+
+    @Test
+    public void countsHitsAndMisses() {
+        final CharacterFilter filter = c -> c != 'x';
+
+        CharacterSets.of(filter, closed(0, 127));
+        CharacterSets.of(filter, closed(0, 127));
+        CharacterSets.of(filter, closed(0, 127));
+        CharacterSets.of(filter, closed(0, 255));
+
+        final CharacterSets.Statistics statistics = CharacterSets.statistics();
+        assertThat(statistics.hits()).isEqualTo(2);
+        assertThat(statistics.misses()).isEqualTo(2);
+        assertThat(statistics.entries()).isEqualTo(2);
+        assertThat(statistics.internedSets()).isEqualTo(2);
+        assertThat(statistics.footprintInBytes()).isEqualTo((127 + 255) * Character.BYTES);
+    }
+
+    @Test
+    public void stopsGrowingWhenFull() {
+        for (int i = 0; i < CharacterSets.MAXIMUM_ENTRIES + 10; i++) {
+            final char excluded = (char) i;
+            CharacterSets.of(c -> c != excluded, closed(0, 2000));
+        }
+
+        final CharacterSets.Statistics statistics = CharacterSets.statistics();
+        assertThat(statistics.entries()).isEqualTo(CharacterSets.MAXIMUM_ENTRIES);
+        assertThat(statistics.internedSets()).isEqualTo(CharacterSets.MAXIMUM_ENTRIES);
+        assertThat(statistics.misses()).isEqualTo(CharacterSets.MAXIMUM_ENTRIES + 10);
+    }
+
+    @Test
+    public void characterSetsCannotBeChangedThroughTheirCharacters() {
+        final char[] chars = "xyz".toCharArray();
+        final CharacterSet characterSet = CharacterSets.of(chars);
+
+        chars[0] = 'a';
+        characterSet.toCharArray()[1] = 'b';
+
+        assertThat(characterSet.toString()).isEqualTo("xyz");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotBuildACharacterSetWithoutAFilter() {
+        CharacterSets.of(null, closed(0, 10));
+    }
+}
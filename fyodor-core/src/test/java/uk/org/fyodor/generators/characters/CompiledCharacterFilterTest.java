@@ -0,0 +1,78 @@
+package uk.org.fyodor.generators.characters;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledCharacterFilterTest extends BaseTest {
+
+    private static final CharacterFilter lowerCase = c -> c >= 'a' && c <= 'z';
+    private static final CharacterFilter vowels = c -> "aeiouAEIOU".indexOf(c) >= 0;
+
+    @Test
+    public void includesExactlyTheCharactersOfTheOriginalFilter() {
+        final CharacterFilter original = LettersAndDigitsFilter.getFilter();
+        final CompiledCharacterFilter compiled = CompiledCharacterFilter.compile(original);
+
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            assertThat(compiled.includeCharacter((char) c)).isEqualTo(original.includeCharacter((char) c));
+        }
+    }
+
+    @Test
+    public void compilingACompiledFilterReturnsTheSameFilter() {
+        final CompiledCharacterFilter compiled = lowerCase.compile();
+
+        assertThat(compiled.compile()).isSameAs(compiled);
+        assertThat(CompiledCharacterFilter.compile(compiled)).isSameAs(compiled);
+    }
+
+    @Test
+    public void compiledCompositionsMatchUncompiledCompositions() {
+        final CompiledCharacterFilter compiledLowerCase = lowerCase.compile();
+        final CompiledCharacterFilter compiledVowels = vowels.compile();
+
+        assertThat(compiledLowerCase.and(compiledVowels)).isEqualTo(lowerCase.and(vowels).compile());
+        assertThat(compiledLowerCase.or(compiledVowels)).isEqualTo(lowerCase.or(vowels).compile());
+        assertThat(compiledLowerCase.negate()).isEqualTo(lowerCase.negate().compile());
+        assertThat(compiledLowerCase.and(vowels).compile()).isEqualTo(lowerCase.and(vowels).compile());
+    }
+
+    @Test
+    public void composesFilters() {
+        final CharacterFilter lowerCaseConsonants = lowerCase.and(vowels.negate());
+
+        assertThat(lowerCaseConsonants.includeCharacter('b')).isTrue();
+        assertThat(lowerCaseConsonants.includeCharacter('a')).isFalse();
+        assertThat(lowerCaseConsonants.includeCharacter('B')).isFalse();
+        assertThat(lowerCaseConsonants.compile().cardinality()).isEqualTo(21);
+        assertThat(lowerCase.or(vowels).compile().cardinality()).isEqualTo(31);
+    }
+
+    @Test
+    public void negatingAnEmptyFilterIncludesEveryCharacter() {
+        final CompiledCharacterFilter none = ((CharacterFilter) c -> false).compile();
+
+        assertThat(none.cardinality()).isEqualTo(0);
+        assertThat(none.negate().compile().cardinality()).isEqualTo(Character.MAX_VALUE + 1);
+    }
+
+    @Test
+    public void regExFiltersAreCompiled() {
+        final RegExCharacterFilter filter = new RegExCharacterFilter("[a-z]");
+
+        assertThat(filter.compile()).isSameAs(filter.compile());
+        assertThat(filter.compile()).isEqualTo(lowerCase.compile());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCompileANullFilter() {
+        CompiledCharacterFilter.compile(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotComposeWithANullFilter() {
+        lowerCase.compile().and(null);
+    }
+}
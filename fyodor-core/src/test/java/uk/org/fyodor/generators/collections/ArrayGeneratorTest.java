@@ -12,6 +12,7 @@ import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingFrom
 import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingRandomIntegers;
 import static uk.org.fyodor.range.Range.closed;
 import static uk.org.fyodor.range.Range.fixed;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
 
 public final class ArrayGeneratorTest extends BaseTest {
 
@@ -111,4 +112,24 @@ public final class ArrayGeneratorTest extends BaseTest {
     public void cannotGenerateArrayForNullTypeClassWithDefaultSize() {
         RDG.array(null, generatingFrom(1));
     }
+
+    @Test
+    public void largeArraysAreNotLimitedToTheMaximumSize() {
+        final String[] array = RDG.array(String.class, RDG.string(5), 100_000).large().next();
+
+        assertThat(array).hasSize(100_000).doesNotContainNull();
+    }
+
+    @Test
+    public void largeArraysAreTheSameForTheSameSeed() {
+        final long initialSeed = RDG.longVal().next();
+        final Generator<Integer[]> generator = RDG.array(Integer.class, RDG.integer(), 50_000).large();
+
+        seed().next(initialSeed);
+        final Integer[] first = generator.next();
+        final Integer[] second = generator.next();
+
+        seed().next(initialSeed);
+        assertThat(generator.next()).isEqualTo(first).isNotEqualTo(second);
+    }
 }
@@ -0,0 +1,71 @@
+package uk.org.fyodor.generators.collections;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public final class IntHashSetTest extends BaseTest {
+
+    @Test
+    public void addsEachValueOnce() {
+        final IntHashSet set = new IntHashSet(4);
+
+        assertThat(set.add(7)).isTrue();
+        assertThat(set.add(7)).isFalse();
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.add(-7)).isTrue();
+
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.contains(7)).isTrue();
+        assertThat(set.contains(8)).isFalse();
+        assertThat(set.toArray()).containsOnly(0, 7, -7);
+        assertThat(set.toString()).isEqualTo("[-7, 0, 7]");
+    }
+
+    @Test
+    public void growsBeyondItsExpectedSize() {
+        final IntHashSet set = new IntHashSet(0);
+        final Set<Integer> expected = new HashSet<>();
+        final Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            final int value = random.nextInt(200_000) << 12;
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        set.forEach(value -> assertThat(expected.contains(value)).isTrue());
+    }
+
+    @Test
+    public void setsWithTheSameValuesAreEqual() {
+        final IntHashSet first = new IntHashSet(2);
+        final IntHashSet second = new IntHashSet(100);
+        for (final int value : new int[]{0, 1, 2, 1000}) {
+            first.add(value);
+            second.add(-value);
+            second.add(value);
+        }
+        assertThat(first).isNotEqualTo(second);
+
+        first.add(-1);
+        first.add(-2);
+        first.add(-1000);
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+
+    @Test
+    public void expectedSizeCannotBeNegative() {
+        assertThatThrownBy(() -> new IntHashSet(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected size must be between 0 and " + OpenAddressing.MAXIMUM_SIZE);
+    }
+}
@@ -17,6 +17,7 @@ import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingFrom
 import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingRandomIntegers;
 import static uk.org.fyodor.range.Range.closed;
 import static uk.org.fyodor.range.Range.fixed;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
 
 public final class ListGeneratorTest extends BaseTest {
 
@@ -140,4 +141,32 @@ public final class ListGeneratorTest extends BaseTest {
 
         assertThat(setOfListSizes).containsExactly(DEFAULT_SIZE);
     }
+
+    @Test
+    public void largeListsAreNotLimitedToTheMaximumSize() {
+        final List<Integer> list = RDG.list(RDG.integer(), 100_000).large().next();
+
+        assertThat(list).hasSize(100_000).doesNotContainNull();
+        assertThat(new HashSet<>(list).size()).isGreaterThan(1);
+    }
+
+    @Test
+    public void largeListsAreTheSameForTheSameSeed() {
+        final long initialSeed = RDG.longVal().next();
+        final Generator<List<Integer>> generator = RDG.list(RDG.integer(), 50_000).large();
+
+        seed().next(initialSeed);
+        final List<Integer> first = generator.next();
+        final List<Integer> second = generator.next();
+
+        seed().next(initialSeed);
+        assertThat(generator.next()).isEqualTo(first).isNotEqualTo(second);
+    }
+
+    @Test
+    public void largeListsCanBeAddedTo() {
+        final List<Integer> list = RDG.list(RDG.integer(), 5000).large().next();
+        list.add(1);
+        assertThat(list).hasSize(5001);
+    }
 }
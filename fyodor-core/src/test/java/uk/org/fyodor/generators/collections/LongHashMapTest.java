@@ -0,0 +1,61 @@
+package uk.org.fyodor.generators.collections;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class LongHashMapTest extends BaseTest {
+
+    @Test
+    public void putReplacesTheValueOfAnExistingKey() {
+        final LongHashMap<String> map = new LongHashMap<>(4);
+
+        assertThat(map.put(Long.MIN_VALUE, "a")).isNull();
+        assertThat(map.put(Long.MIN_VALUE, "b")).isEqualTo("a");
+        assertThat(map.put(0, "zero")).isNull();
+        assertThat(map.put(0, null)).isEqualTo("zero");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo("b");
+        assertThat(map.containsKey(0)).isTrue();
+        assertThat(map.get(0)).isNull();
+        assertThat(map.containsKey(1)).isFalse();
+        assertThat(map.toString()).isEqualTo("{-9223372036854775808=b, 0=null}");
+    }
+
+    @Test
+    public void growsBeyondItsExpectedSize() {
+        final LongHashMap<Long> map = new LongHashMap<>(0);
+        final Map<Long, Long> expected = new HashMap<>();
+        final Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            final long key = (long) random.nextInt(200_000) << 40;
+            final long value = random.nextLong();
+            assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        assertThat(map.keys()).hasSize(expected.size());
+        map.forEach((key, value) -> assertThat(expected.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    public void mapsWithTheSameEntriesAreEqual() {
+        final LongHashMap<String> first = new LongHashMap<>(2);
+        final LongHashMap<String> second = new LongHashMap<>(100);
+        first.put(1, "one");
+        first.put(0, "zero");
+        second.put(0, "zero");
+        second.put(1, "uno");
+        assertThat(first).isNotEqualTo(second);
+
+        second.put(1, "one");
+        assertThat(first).isEqualTo(second);
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+    }
+}
@@ -14,6 +14,8 @@ import static uk.org.fyodor.Sampler.from;
 import static uk.org.fyodor.generators.collections.GeneratorUtils.*;
 import static uk.org.fyodor.range.Range.closed;
 import static uk.org.fyodor.range.Range.fixed;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public final class MapGeneratorTest extends BaseTest {
 
@@ -263,4 +265,31 @@ public final class MapGeneratorTest extends BaseTest {
 
     private static final class ConcreteType implements Type {
     }
+
+    @Test
+    public void largeMapsAreNotLimitedToTheMaximumSize() {
+        final Map<Integer, String> map = RDG.map(RDG.integer(), RDG.string(5), 100_000).large().next();
+
+        assertThat(map).hasSize(100_000);
+        assertThat(map.values()).doesNotContainNull();
+    }
+
+    @Test
+    public void largeMapsAreTheSameForTheSameSeed() {
+        final long initialSeed = RDG.longVal().next();
+        final Generator<Map<Integer, Integer>> generator = RDG.map(RDG.integer(closed(0, 60_000)), RDG.integer(), 50_000).large();
+
+        seed().next(initialSeed);
+        final Map<Integer, Integer> first = generator.next();
+
+        seed().next(initialSeed);
+        assertThat(generator.next()).isEqualTo(first);
+    }
+
+    @Test
+    public void largeMapsDoNotAllowNullKeys() {
+        assertThatThrownBy(() -> RDG.map(generatingFrom((Integer) null), RDG.integer(), 1).large().next())
+                .isInstanceOf(NullPointerException.class)
+                .hasMessage("key generator generated a null value");
+    }
 }
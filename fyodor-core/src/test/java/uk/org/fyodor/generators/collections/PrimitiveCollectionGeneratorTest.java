@@ -0,0 +1,73 @@
+package uk.org.fyodor.generators.collections;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.RDG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.org.fyodor.range.Range.closed;
+import static uk.org.fyodor.range.Range.fixed;
+
+public final class PrimitiveCollectionGeneratorTest extends BaseTest {
+
+    @Test
+    public void intSetsHaveTheDrawnSizeAndValuesWithinTheRange() {
+        final IntHashSet set = RDG.intSet(closed(-100_000, 100_000), fixed(100_000)).next();
+
+        assertThat(set.size()).isEqualTo(100_000);
+        set.forEach(value -> assertThat(value).isBetween(-100_000, 100_000));
+    }
+
+    @Test
+    public void intSetsCanHoldEveryValueInTheRange() {
+        assertThat(RDG.intSet(closed(1, 1000), fixed(1000)).next().toArray()).hasSize(1000).doesNotContain(0, 1001);
+    }
+
+    @Test
+    public void longSetsHaveSizesWithinTheSizeRange() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(RDG.longSet(closed(Long.MIN_VALUE, Long.MAX_VALUE), closed(5, 10)).next().size()).isBetween(5, 10);
+        }
+    }
+
+    @Test
+    public void negativeSizesGiveEmptySets() {
+        assertThat(RDG.longSet(closed(0L, 0L), fixed(-3)).next().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void intMapsHaveAValueForEveryKey() {
+        final IntHashMap<String> map = RDG.intMap(closed(0, 50_000), RDG.string(5), fixed(20_000)).next();
+
+        assertThat(map.size()).isEqualTo(20_000);
+        map.forEach((key, value) -> {
+            assertThat(key).isBetween(0, 50_000);
+            assertThat(value).hasSize(5);
+        });
+    }
+
+    @Test
+    public void longMapsHaveKeysWithinTheRange() {
+        final LongHashMap<Integer> map = RDG.longMap(closed(10L, 20L), RDG.integer(), fixed(11)).next();
+
+        assertThat(map.keys()).containsOnly(10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L);
+    }
+
+    @Test
+    public void rangeMustHoldEnoughValuesForTheLargestSize() {
+        assertThatThrownBy(() -> RDG.intSet(closed(1, 10), closed(1, 11)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("range must hold at least as many values as the largest size");
+        assertThatThrownBy(() -> RDG.longMap(closed(1L, 10L), RDG.integer(), fixed(11)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("key range must hold at least as many keys as the largest size");
+    }
+
+    @Test
+    public void valueGeneratorCannotBeNull() {
+        assertThatThrownBy(() -> RDG.intMap(closed(1, 10), null, fixed(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("value generator cannot be null");
+    }
+}
@@ -13,6 +13,8 @@ import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingFrom
 import static uk.org.fyodor.generators.collections.GeneratorUtils.generatingRandomIntegers;
 import static uk.org.fyodor.range.Range.closed;
 import static uk.org.fyodor.range.Range.fixed;
+import static uk.org.fyodor.random.RandomSourceProvider.seed;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public final class SetGeneratorTest extends BaseTest {
 
@@ -139,4 +141,35 @@ public final class SetGeneratorTest extends BaseTest {
 
     private static final class ConcreteType implements Type {
     }
+
+    @Test
+    public void largeSetsAreNotLimitedToTheMaximumSize() {
+        assertThat(RDG.set(RDG.integer(), 100_000).large().next()).hasSize(100_000);
+    }
+
+    @Test
+    public void largeSetsMakeUpForDuplicates() {
+        assertThat(RDG.set(RDG.integer(closed(0, 30_000)), 20_000).large().next())
+                .hasSize(20_000)
+                .allMatch(i -> i >= 0 && i <= 30_000);
+    }
+
+    @Test
+    public void largeSetsAreTheSameForTheSameSeed() {
+        final long initialSeed = RDG.longVal().next();
+        final Generator<Set<Integer>> generator = RDG.set(RDG.integer(closed(0, 60_000)), 50_000).large();
+
+        seed().next(initialSeed);
+        final Set<Integer> first = generator.next();
+
+        seed().next(initialSeed);
+        assertThat(generator.next()).isEqualTo(first);
+    }
+
+    @Test
+    public void largeSetsFailWhenTheValueGeneratorRunsOutOfValues() {
+        assertThatThrownBy(() -> RDG.set(RDG.integer(closed(0, 9_999)), 10_001).large().next())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("unable to generate set of size 10001 because the value generator returned too many duplicate values");
+    }
 }
@@ -0,0 +1,49 @@
+package uk.org.fyodor.generators.distributions;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.RDG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static uk.org.fyodor.generators.distributions.Samples.*;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class ExponentialGeneratorTest extends BaseTest {
+
+    @Test
+    public void meanAndSpread() {
+        final double[] values = sample(RDG.exponential(5));
+
+        final double mean = mean(values);
+        assertThat(mean).isCloseTo(5, within(0.1));
+        assertThat(Math.sqrt(variance(values, mean))).isCloseTo(5, within(0.15));
+        assertThat(proportion(values, value -> value > 10)).isCloseTo(Math.exp(-2), within(0.005));
+    }
+
+    @Test
+    public void valuesAreNeverNegative() {
+        assertThat(proportion(sample(RDG.exponential(1)), value -> value < 0)).isEqualTo(0.0);
+    }
+
+    @Test
+    public void tailBeyondTheBaseOfTheZigguratIsReached() {
+        assertThat(proportion(sample(RDG.exponential(1)), value -> value > 7.7)).isBetween(1e-4, 1e-3);
+    }
+
+    @Test
+    public void valuesAreClampedToTheRange() {
+        final double[] values = sample(RDG.exponential(1, closed(0.5, 3.0)));
+
+        assertThat(values).contains(0.5, 3.0);
+        assertThat(proportion(values, value -> value >= 0.5 && value <= 3.0)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void meanMustBeGreaterThanZero() {
+        assertThatThrownBy(() -> RDG.exponential(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("mean must be greater than zero and cannot be infinite");
+    }
+}
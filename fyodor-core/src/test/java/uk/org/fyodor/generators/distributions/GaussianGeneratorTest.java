@@ -0,0 +1,67 @@
+package uk.org.fyodor.generators.distributions;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.RDG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static uk.org.fyodor.generators.distributions.Samples.*;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class GaussianGeneratorTest extends BaseTest {
+
+    @Test
+    public void meanAndStandardDeviation() {
+        final double[] values = sample(RDG.gaussian(10, 2));
+
+        final double mean = mean(values);
+        assertThat(mean).isCloseTo(10, within(0.05));
+        assertThat(Math.sqrt(variance(values, mean))).isCloseTo(2, within(0.05));
+    }
+
+    @Test
+    public void aboutTwoThirdsAreWithinOneStandardDeviation() {
+        assertThat(proportion(sample(RDG.gaussian(0, 1)), value -> Math.abs(value) < 1)).isCloseTo(0.6827, within(0.005));
+    }
+
+    @Test
+    public void tailBeyondTheBaseOfTheZigguratIsReached() {
+        final double[] values = sample(RDG.gaussian(0, 1));
+
+        assertThat(proportion(values, value -> value > 3.5)).isBetween(1e-4, 1e-3);
+        assertThat(proportion(values, value -> value < -3.5)).isBetween(1e-4, 1e-3);
+    }
+
+    @Test
+    public void valuesAreClampedToTheRange() {
+        final double[] values = sample(RDG.gaussian(0, 1, closed(-1.0, 2.0)));
+
+        assertThat(values).contains(-1.0, 2.0);
+        for (final double value : values) {
+            assertThat(value).isBetween(-1.0, 2.0);
+        }
+    }
+
+    @Test
+    public void standardDeviationCannotBeNegative() {
+        assertThatThrownBy(() -> RDG.gaussian(0, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("standard deviation must be a number that is not negative or infinite");
+    }
+
+    @Test
+    public void meanMustBeANumber() {
+        assertThatThrownBy(() -> RDG.gaussian(Double.NaN, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("mean must be a number and cannot be infinite");
+    }
+
+    @Test
+    public void rangeCannotBeNull() {
+        assertThatThrownBy(() -> RDG.gaussian(0, 1, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("range cannot be null");
+    }
+}
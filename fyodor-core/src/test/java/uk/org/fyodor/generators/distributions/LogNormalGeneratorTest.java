@@ -0,0 +1,49 @@
+package uk.org.fyodor.generators.distributions;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.RDG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static uk.org.fyodor.generators.distributions.Samples.*;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class LogNormalGeneratorTest extends BaseTest {
+
+    @Test
+    public void medianAndMean() {
+        final double[] values = sample(RDG.logNormal(0, 0.5));
+
+        assertThat(proportion(values, value -> value < 1)).isCloseTo(0.5, within(0.005));
+        assertThat(mean(values)).isCloseTo(Math.exp(0.125), within(0.01));
+    }
+
+    @Test
+    public void valuesAreNeverNegative() {
+        assertThat(proportion(sample(RDG.logNormal(1, 2)), value -> value < 0)).isEqualTo(0.0);
+    }
+
+    @Test
+    public void valuesAreClampedToTheRange() {
+        final double[] values = sample(RDG.logNormal(0, 1, closed(0.5, 2.0)));
+
+        assertThat(values).contains(0.5, 2.0);
+        assertThat(proportion(values, value -> value >= 0.5 && value <= 2.0)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void sigmaCannotBeNegative() {
+        assertThatThrownBy(() -> RDG.logNormal(0, -0.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("sigma must be a number that is not negative or infinite");
+    }
+
+    @Test
+    public void rangeBoundsMustBeNumbers() {
+        assertThatThrownBy(() -> RDG.logNormal(0, 1, closed(0.0, Double.NaN)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("range bounds must be numbers");
+    }
+}
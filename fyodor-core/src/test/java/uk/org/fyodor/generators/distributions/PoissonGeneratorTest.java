@@ -0,0 +1,76 @@
+package uk.org.fyodor.generators.distributions;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.RDG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static uk.org.fyodor.generators.distributions.Samples.*;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class PoissonGeneratorTest extends BaseTest {
+
+    @Test
+    public void smallMean() {
+        final double[] values = sample(RDG.poisson(3));
+
+        final double mean = mean(values);
+        assertThat(mean).isCloseTo(3, within(0.03));
+        assertThat(variance(values, mean)).isCloseTo(3, within(0.1));
+        assertThat(proportion(values, value -> value == 0)).isCloseTo(Math.exp(-3), within(0.003));
+    }
+
+    @Test
+    public void meanLargeEnoughForTransformedRejection() {
+        final double[] values = sample(RDG.poisson(50));
+
+        final double mean = mean(values);
+        assertThat(mean).isCloseTo(50, within(0.1));
+        assertThat(variance(values, mean)).isCloseTo(50, within(1.5));
+        assertThat(proportion(values, value -> value == 50)).isCloseTo(probabilityOf(50, 50), within(0.003));
+    }
+
+    @Test
+    public void veryLargeMean() {
+        final double[] values = sample(RDG.poisson(1e9));
+
+        final double mean = mean(values);
+        assertThat(mean).isCloseTo(1e9, within(500.0));
+        assertThat(Math.sqrt(variance(values, mean))).isCloseTo(Math.sqrt(1e9), within(1000.0));
+    }
+
+    @Test
+    public void meanOfZeroIsAlwaysZero() {
+        assertThat(proportion(sample(RDG.poisson(0)), value -> value == 0)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void valuesAreClampedToTheRange() {
+        final double[] values = sample(RDG.poisson(20, closed(15L, 25L)));
+
+        assertThat(values).contains(15, 25);
+        assertThat(proportion(values, value -> value >= 15 && value <= 25)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void logFactorial() {
+        double logFactorial = 0;
+        for (int k = 0; k < 200; k++) {
+            logFactorial += k == 0 ? 0 : Math.log(k);
+            assertThat(PoissonGenerator.logFactorial(k)).isCloseTo(logFactorial, within(1e-9 * Math.max(1, logFactorial)));
+        }
+    }
+
+    @Test
+    public void meanCannotBeNegative() {
+        assertThatThrownBy(() -> RDG.poisson(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("mean must be a number that is not negative or infinite");
+    }
+
+    private static double probabilityOf(final int k, final double mean) {
+        return Math.exp(-mean + k * Math.log(mean) - PoissonGenerator.logFactorial(k));
+    }
+}
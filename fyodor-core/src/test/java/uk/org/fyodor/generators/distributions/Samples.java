@@ -0,0 +1,65 @@
+package uk.org.fyodor.generators.distributions;
+
+import uk.org.fyodor.generators.DoubleGenerator;
+import uk.org.fyodor.generators.IntGenerator;
+import uk.org.fyodor.generators.LongGenerator;
+
+import java.util.function.DoublePredicate;
+
+final class Samples {
+
+    static final int SAMPLES = 200_000;
+
+    private Samples() {
+    }
+
+    static double[] sample(final DoubleGenerator generator) {
+        final double[] values = new double[SAMPLES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = generator.nextDouble();
+        }
+        return values;
+    }
+
+    static double[] sample(final LongGenerator generator) {
+        final double[] values = new double[SAMPLES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = generator.nextLong();
+        }
+        return values;
+    }
+
+    static double[] sample(final IntGenerator generator) {
+        final double[] values = new double[SAMPLES];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = generator.nextInt();
+        }
+        return values;
+    }
+
+    static double mean(final double[] values) {
+        double sum = 0;
+        for (final double value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    static double variance(final double[] values, final double mean) {
+        double sum = 0;
+        for (final double value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return sum / (values.length - 1);
+    }
+
+    static double proportion(final double[] values, final DoublePredicate predicate) {
+        int count = 0;
+        for (final double value : values) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count / (double) values.length;
+    }
+}
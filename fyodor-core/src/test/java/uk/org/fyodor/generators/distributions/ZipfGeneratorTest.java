@@ -0,0 +1,84 @@
+package uk.org.fyodor.generators.distributions;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.RDG;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static uk.org.fyodor.generators.distributions.Samples.*;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class ZipfGeneratorTest extends BaseTest {
+
+    @Test
+    public void ranksAreDrawnInProportionToTheInverseOfTheirPower() {
+        final double[] values = sample(RDG.zipf(1000, 1.0));
+
+        final double first = 1 / harmonic(1000, 1.0);
+        assertThat(proportion(values, value -> value == 1)).isCloseTo(first, within(0.004));
+        assertThat(proportion(values, value -> value == 2)).isCloseTo(first / 2, within(0.003));
+        assertThat(proportion(values, value -> value == 10)).isCloseTo(first / 10, within(0.002));
+        assertThat(proportion(values, value -> value >= 1 && value <= 1000)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void steeperExponent() {
+        final double[] values = sample(RDG.zipf(10, 2.0));
+
+        assertThat(proportion(values, value -> value == 1)).isCloseTo(1 / harmonic(10, 2.0), within(0.005));
+    }
+
+    @Test
+    public void shallowExponent() {
+        final double[] values = sample(RDG.zipf(5, 0.5));
+
+        final double first = 1 / harmonic(5, 0.5);
+        assertThat(proportion(values, value -> value == 1)).isCloseTo(first, within(0.005));
+        assertThat(proportion(values, value -> value == 5)).isCloseTo(first / Math.sqrt(5), within(0.005));
+    }
+
+    @Test
+    public void hugeNumberOfElementsNeedsNoTable() {
+        final double[] values = sample(RDG.zipf(Integer.MAX_VALUE, 1.2));
+
+        assertThat(proportion(values, value -> value >= 1)).isEqualTo(1.0);
+        assertThat(proportion(values, value -> value == 1)).isBetween(0.1, 0.3);
+    }
+
+    @Test
+    public void singleElement() {
+        assertThat(proportion(sample(RDG.zipf(1, 1.0)), value -> value == 1)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void valuesAreClampedToTheRange() {
+        final double[] values = sample(RDG.zipf(100, 1.0, closed(5, 50)));
+
+        assertThat(values).contains(5, 50);
+        assertThat(proportion(values, value -> value >= 5 && value <= 50)).isEqualTo(1.0);
+    }
+
+    @Test
+    public void numberOfElementsMustBeGreaterThanZero() {
+        assertThatThrownBy(() -> RDG.zipf(0, 1.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("number of elements must be greater than zero");
+    }
+
+    @Test
+    public void exponentMustBeGreaterThanZero() {
+        assertThatThrownBy(() -> RDG.zipf(10, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("exponent must be greater than zero and cannot be infinite");
+    }
+
+    private static double harmonic(final int n, final double exponent) {
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1 / Math.pow(k, exponent);
+        }
+        return sum;
+    }
+}
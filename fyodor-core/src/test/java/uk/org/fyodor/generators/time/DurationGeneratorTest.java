@@ -0,0 +1,60 @@
+package uk.org.fyodor.generators.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import uk.org.fyodor.Sampler.Sample;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.*;
+import static uk.org.fyodor.generators.RDG.duration;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class DurationGeneratorTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void closedRangeOfDurationsIsInclusiveToNanoPrecision() {
+        final Duration min = Duration.ofSeconds(-1, 999_999_999);
+        final Duration max = Duration.ofSeconds(0, 1);
+
+        final Sample<Duration> sample = from(duration(closed(min, max))).sample(100);
+
+        assertThat(sample.unique()).containsOnly(min, Duration.ZERO, max);
+    }
+
+    @Test
+    public void durationsAcrossEveryRepresentableSecond() {
+        final Duration min = Duration.ofSeconds(Long.MIN_VALUE);
+        final Duration max = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+
+        final Sample<Duration> sample = from(duration(closed(min, max))).sample(1000);
+
+        assertThat(sample.unique()).hasSize(1000);
+        assertThat(smallest(sample).getSeconds()).isLessThan(Long.MIN_VALUE / 2);
+        assertThat(largest(sample).getSeconds()).isGreaterThan(Long.MAX_VALUE / 2);
+    }
+
+    @Test
+    public void fillsNanos() {
+        final long[] nanos = new long[1000];
+
+        duration(closed(Duration.ofMillis(-1), Duration.ofMillis(1))).fillNanos(nanos);
+
+        for (final long nano : nanos) {
+            assertThat(nano).isBetween(-1_000_000L, 1_000_000L);
+        }
+    }
+
+    @Test
+    public void rangeCannotBeNull() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("duration range cannot be null");
+
+        duration(null);
+    }
+}
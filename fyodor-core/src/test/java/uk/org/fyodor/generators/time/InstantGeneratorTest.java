@@ -9,7 +9,6 @@ import uk.org.fyodor.Sampler.*;
 import uk.org.fyodor.range.Range;
 
 import java.time.*;
-import java.time.temporal.ChronoField;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static uk.org.fyodor.Sampler.*;
@@ -44,54 +43,99 @@ public final class InstantGeneratorTest {
     }
 
     @Test
-    public void closedRangeOfInstantsContainsLowerAndUpperBoundsToSecondPrecisionOnly() {
+    public void closedRangeOfInstantsIsInclusiveToNanoPrecision() {
         final Instant min = Instant.now();
-        final Instant max = min.plusSeconds(1);
+        final Instant max = min.plusNanos(2);
         final Sample<Instant> sample = take(from(instant(closed(min, max))));
 
-        assertThat(sample.unique()).containsOnly(
-                min.with(ChronoField.NANO_OF_SECOND, 0),
-                max.with(ChronoField.NANO_OF_SECOND, 0));
+        assertThat(sample.unique()).containsOnly(min, min.plusNanos(1), max);
     }
 
     @Test
-    public void afterInstantUpToAndIncludingMaxToSecondPrecisionOnly() {
-        final Sample<Instant> sample = take(from(instant(after(Instant.MAX.minusSeconds(2)))));
+    public void closedRangeOfInstantsIncludesTheNanosWithinEachSecond() {
+        final Instant min = Instant.now();
+        final Instant max = min.plusSeconds(1);
+        final Sample<Instant> sample = from(instant(closed(min, max))).sample(1000);
+
+        assertThat(sample.unique().size()).isGreaterThan(990);
+        assertThat(smallest(sample)).isGreaterThanOrEqualTo(min);
+        assertThat(largest(sample)).isLessThanOrEqualTo(max);
+    }
+
+    @Test
+    public void afterInstantUpToAndIncludingMax() {
+        final Instant after = Instant.MAX.minusNanos(3);
+        final Sample<Instant> sample = take(from(instant(InstantRange.after(after.minusMillis(1)))));
 
         assertThat(sample.unique()).containsOnly(
-                Instant.MAX.with(ChronoField.NANO_OF_SECOND, 0),
-                Instant.MAX.minusSeconds(1).with(ChronoField.NANO_OF_SECOND, 0));
+                Instant.MAX,
+                Instant.MAX.minusNanos(1),
+                Instant.MAX.minusNanos(2),
+                Instant.MAX.minusNanos(3));
     }
 
     @Test
-    public void beforeInstantDownToAndIncludingMinToSecondPrecisionOnly() {
-        final Sample<Instant> sample = take(from(instant(before(Instant.MIN.plusSeconds(2)))));
+    public void beforeInstantDownToAndIncludingMin() {
+        final Instant before = Instant.MIN.plusNanos(3);
+        final Sample<Instant> sample = take(from(instant(InstantRange.before(before.plusMillis(1)))));
 
         assertThat(sample.unique()).containsOnly(
-                Instant.MIN.with(ChronoField.NANO_OF_SECOND, 0),
-                Instant.MIN.plusSeconds(1).with(ChronoField.NANO_OF_SECOND, 0));
+                Instant.MIN,
+                Instant.MIN.plusNanos(1),
+                Instant.MIN.plusNanos(2),
+                Instant.MIN.plusNanos(3));
     }
 
     @Test
-    public void futureInstantUpToAndIncludingMaxToSecondPrecisionOnly() {
+    public void futureInstantUpToAndIncludingMax() {
         Timekeeper.from(Clock.fixed(Instant.MAX.minusSeconds(2), ZoneId.systemDefault()));
 
-        final Sample<Instant> sample = take(from(instant(inTheFuture())));
+        final Sample<Instant> sample = from(instant(inTheFuture())).sample(1000);
 
-        assertThat(sample.unique()).containsOnly(
-                Instant.MAX.with(ChronoField.NANO_OF_SECOND, 0),
-                Instant.MAX.minusSeconds(1).with(ChronoField.NANO_OF_SECOND, 0));
+        assertThat(smallest(sample)).isGreaterThanOrEqualTo(Instant.MAX.minusSeconds(1));
+        assertThat(largest(sample)).isLessThanOrEqualTo(Instant.MAX);
+        assertThat(sample.unique().size()).isGreaterThan(990);
     }
 
     @Test
-    public void pastInstantDownToAndIncludingMinToSecondPrecisionOnly() {
+    public void pastInstantDownToAndIncludingMin() {
         Timekeeper.from(Clock.fixed(Instant.MIN.plusSeconds(2), ZoneId.systemDefault()));
 
-        final Sample<Instant> sample = take(from(instant(inThePast())));
+        final Sample<Instant> sample = from(instant(inThePast())).sample(1000);
 
-        assertThat(sample.unique()).containsOnly(
-                Instant.MIN.with(ChronoField.NANO_OF_SECOND, 0),
-                Instant.MIN.plusSeconds(1).with(ChronoField.NANO_OF_SECOND, 0));
+        assertThat(smallest(sample)).isGreaterThanOrEqualTo(Instant.MIN);
+        assertThat(largest(sample)).isLessThanOrEqualTo(Instant.MIN.plusSeconds(1));
+        assertThat(sample.unique().size()).isGreaterThan(990);
+    }
+
+    @Test
+    public void instantsAcrossTheWholeTimelineKeepTheirNanos() {
+        final Sample<Instant> sample = from(instant()).sample(1000);
+
+        assertThat(sample.unique().stream().map(Instant::getNano).distinct().count()).isGreaterThan(990);
+    }
+
+    @Test
+    public void fillsEpochNanosWithinRange() {
+        final Instant min = Instant.parse("2020-01-01T00:00:00.5Z");
+        final Instant max = Instant.parse("2020-01-02T00:00:00Z");
+        final long[] epochNanos = new long[10_000];
+
+        instant(closed(min, max)).fillEpochNanos(epochNanos);
+
+        final long lower = min.getEpochSecond() * 1_000_000_000L + min.getNano();
+        final long upper = max.getEpochSecond() * 1_000_000_000L;
+        for (final long epochNano : epochNanos) {
+            assertThat(epochNano).isBetween(lower, upper);
+        }
+    }
+
+    @Test
+    public void epochNanosCannotBeFilledWhenTheRangeDoesNotFitInALong() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("range is too wide to be written as nanoseconds in a long");
+
+        instant().fillEpochNanos(new long[1]);
     }
 
     @Test
@@ -105,7 +149,7 @@ public final class InstantGeneratorTest {
     }
 
     @Test
-    public void todayWithSecondPrecision() {
+    public void todayToNanoPrecision() {
         final LocalDate today = LocalDate.now();
         final Instant startOfDay = today.atStartOfDay().toInstant(ZoneOffset.ofHours(0));
         final Instant endOfDay = today.atTime(23, 59, 59).toInstant(ZoneOffset.ofHours(0));
@@ -114,22 +158,22 @@ public final class InstantGeneratorTest {
 
         final Sample<Instant> sample = from(instant(today())).sample(1_000_000);
 
-        assertThat(smallest(sample)).isEqualTo(startOfDay);
-        assertThat(largest(sample)).isEqualTo(endOfDay);
-        assertThat(sample.unique().size()).isGreaterThan(50_000);
+        assertThat(smallest(sample)).isBetween(startOfDay, startOfDay.plusSeconds(1));
+        assertThat(largest(sample)).isBetween(endOfDay.minusSeconds(1), endOfDay);
+        assertThat(sample.unique().size()).isGreaterThan(990_000);
     }
 
     @Test
-    public void atDateWithSecondPrecision() {
+    public void atDateToNanoPrecision() {
         final LocalDate someDate = LocalDate.now().minusYears(36);
         final Instant startOfDay = someDate.atStartOfDay().toInstant(ZoneOffset.ofHours(0));
         final Instant endOfDay = someDate.atTime(23, 59, 59).toInstant(ZoneOffset.ofHours(0));
 
         final Sample<Instant> sample = from(instant(atDate(someDate))).sample(1_000_000);
 
-        assertThat(smallest(sample)).isEqualTo(startOfDay);
-        assertThat(largest(sample)).isEqualTo(endOfDay);
-        assertThat(sample.unique().size()).isGreaterThan(50_000);
+        assertThat(smallest(sample)).isBetween(startOfDay, startOfDay.plusSeconds(1));
+        assertThat(largest(sample)).isBetween(endOfDay.minusSeconds(1), endOfDay);
+        assertThat(sample.unique().size()).isGreaterThan(990_000);
     }
 
     @Test
@@ -12,10 +12,12 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
 import static java.time.LocalDate.now;
+import static java.util.stream.Collectors.toSet;
 import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static uk.org.fyodor.Sampler.from;
@@ -290,6 +292,30 @@ public final class LocalDateGeneratorTest {
         localDate((LocalDateRange) null);
     }
 
+    @Test
+    public void datesAreUniformAcrossShortAndLongMonths() {
+        final LocalDate start = LocalDate.of(2019, 2, 1);
+        final LocalDate end = LocalDate.of(2019, 3, 31);
+        final Sample<LocalDate> sample = from(localDate(closed(start, end))).sample(59_000);
+
+        final long datesInFebruary = sample.asList().stream().filter(date -> date.getMonthValue() == 2).count();
+
+        assertThat(datesInFebruary).isBetween(26_000L, 30_000L);
+    }
+
+    @Test
+    public void fillsEpochDaysWithinRange() {
+        final LocalDate start = LocalDate.of(1969, 12, 25);
+        final LocalDate end = LocalDate.of(1970, 1, 5);
+        final long[] epochDays = new long[1000];
+
+        localDate(closed(start, end)).fillEpochDays(epochDays);
+
+        assertThat(Arrays.stream(epochDays).boxed().collect(toSet()))
+                .hasSize(12)
+                .allMatch(day -> day >= start.toEpochDay() && day <= end.toEpochDay());
+    }
+
     @Test
     public void rangeCannotBeNull() {
         thrown.expect(IllegalArgumentException.class);
@@ -6,6 +6,7 @@ import org.junit.rules.ExpectedException;
 import uk.org.fyodor.Sampler.*;
 import uk.org.fyodor.generators.Generator;
 import uk.org.fyodor.generators.RDG;
+import uk.org.fyodor.range.Range;
 
 import java.time.Clock;
 import java.time.LocalDate;
@@ -130,6 +131,47 @@ public final class LocalDateTimeGeneratorTest {
         RDG.localDateTime(today(), null);
     }
 
+    @Test
+    public void dateTimesBetweenTwoDateTimesCoverTheWholeSpan() {
+        final LocalDateTime min = LocalDateTime.of(2020, 2, 28, 22, 0);
+        final LocalDateTime max = LocalDateTime.of(2020, 3, 1, 2, 0);
+
+        final Sample<LocalDateTime> sample = from(localDateTime(Range.closed(min, max))).sample(10_000);
+
+        assertThat(sample.unique()).allMatch(dateTime -> !dateTime.isBefore(min) && !dateTime.isAfter(max));
+        assertThat(sample.asList().stream().map(LocalDateTime::toLocalDate).collect(toSet()))
+                .containsOnly(LocalDate.of(2020, 2, 28), LocalDate.of(2020, 2, 29), LocalDate.of(2020, 3, 1));
+    }
+
+    @Test
+    public void dateTimesBetweenTheExtremesOfTheTimeline() {
+        final Sample<LocalDateTime> sample = from(localDateTime(Range.closed(LocalDateTime.MIN, LocalDateTime.MAX))).sample(1000);
+
+        assertThat(sample.unique()).hasSize(1000);
+    }
+
+    @Test
+    public void fillsEpochNanosAsIfAtUtc() {
+        final LocalDateTime min = LocalDateTime.of(2000, 1, 1, 0, 0);
+        final LocalDateTime max = LocalDateTime.of(2000, 1, 1, 0, 0, 1);
+        final long[] epochNanos = new long[1000];
+
+        localDateTime(Range.closed(min, max)).fillEpochNanos(epochNanos);
+
+        final long lower = min.toEpochSecond(UTC) * 1_000_000_000L;
+        for (final long epochNano : epochNanos) {
+            assertThat(epochNano).isBetween(lower, lower + 1_000_000_000L);
+        }
+    }
+
+    @Test
+    public void dateTimeRangeCannotBeNull() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("date time range cannot be null");
+
+        localDateTime((Range<LocalDateTime>) null);
+    }
+
     private static Sample<LocalDateTime> takeFrom(final Generator<LocalDateTime> generator) {
         return from(generator).sample(100);
     }
@@ -102,6 +102,31 @@ public final class LocalTimeGeneratorTest {
         assertThat(take(from(localTime(closed(min, max)))).unique()).containsOnly(min, max);
     }
 
+    @Test
+    public void closedRangeCoversEveryTimeBetweenTheBounds() {
+        final LocalTime min = LocalTime.of(10, 50);
+        final LocalTime max = LocalTime.of(11, 10);
+
+        final Sample<LocalTime> sample = from(localTime(closed(min, max))).sample(10_000);
+
+        assertThat(sample.unique()).allMatch(time -> !time.isBefore(min) && !time.isAfter(max));
+        assertThat(sample.asList().stream().map(LocalTime::getMinute).collect(toSet()))
+                .contains(50, 55, 59, 0, 5, 9);
+    }
+
+    @Test
+    public void fillsNanosOfDayWithinRange() {
+        final LocalTime min = LocalTime.of(9, 0);
+        final LocalTime max = LocalTime.of(17, 30);
+        final long[] nanosOfDay = new long[10_000];
+
+        localTime(closed(min, max)).fillNanosOfDay(nanosOfDay);
+
+        for (final long nanoOfDay : nanosOfDay) {
+            assertThat(nanoOfDay).isBetween(min.toNanoOfDay(), max.toNanoOfDay());
+        }
+    }
+
     @Test
     public void localTimeRangeCannotBeNull() {
         thrown.expect(IllegalArgumentException.class);
@@ -0,0 +1,70 @@
+package uk.org.fyodor.generators.time;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import uk.org.fyodor.Sampler.Sample;
+import uk.org.fyodor.range.Range;
+
+import java.time.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.*;
+import static uk.org.fyodor.generators.RDG.offsetDateTime;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class OffsetDateTimeGeneratorTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @After
+    public void resetTimekeeper() {
+        Timekeeper.from(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+    }
+
+    @Test
+    public void dateTimesAreWithinTheRangeAtTheOffsetOfTheLowerBound() {
+        final OffsetDateTime min = OffsetDateTime.of(2021, 6, 1, 9, 0, 0, 0, ZoneOffset.ofHours(2));
+        final OffsetDateTime max = OffsetDateTime.of(2021, 6, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+
+        final Sample<OffsetDateTime> sample = from(offsetDateTime(closed(min, max))).sample(1000);
+
+        assertThat(smallest(sample)).isAfterOrEqualTo(min);
+        assertThat(largest(sample)).isBeforeOrEqualTo(max);
+        assertThat(sample.unique()).hasSize(1000).allMatch(dateTime -> dateTime.getOffset().equals(ZoneOffset.ofHours(2)));
+    }
+
+    @Test
+    public void dateTimesTakeTheOffsetOfTheTimekeepersZoneAtEachInstant() {
+        final ZoneId london = ZoneId.of("Europe/London");
+        Timekeeper.from(Clock.fixed(Instant.now(), london));
+
+        final Sample<OffsetDateTime> sample = from(offsetDateTime()).sample(1000);
+
+        assertThat(sample.unique()).allMatch(dateTime ->
+                dateTime.getOffset().equals(london.getRules().getOffset(dateTime.toInstant())));
+    }
+
+    @Test
+    public void fillsEpochNanosOfTheInstants() {
+        final OffsetDateTime min = OffsetDateTime.of(2021, 6, 1, 9, 0, 0, 0, ZoneOffset.UTC);
+        final long[] epochNanos = new long[1000];
+
+        offsetDateTime(closed(min, min.plusNanos(9))).fillEpochNanos(epochNanos);
+
+        final long lower = min.toEpochSecond() * 1_000_000_000L;
+        for (final long epochNano : epochNanos) {
+            assertThat(epochNano).isBetween(lower, lower + 9);
+        }
+    }
+
+    @Test
+    public void rangeCannotBeNull() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("date time range cannot be null");
+
+        offsetDateTime((Range<OffsetDateTime>) null);
+    }
+}
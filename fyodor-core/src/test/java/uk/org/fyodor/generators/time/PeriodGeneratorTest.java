@@ -0,0 +1,56 @@
+package uk.org.fyodor.generators.time;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import uk.org.fyodor.Sampler.Sample;
+
+import java.time.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
+import static uk.org.fyodor.generators.RDG.period;
+
+public final class PeriodGeneratorTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @After
+    public void resetTimekeeper() {
+        Timekeeper.from(Clock.fixed(Instant.now(), ZoneId.systemDefault()));
+    }
+
+    @Test
+    public void periodsAreNormalisedAndNoLongerThanTheMaximum() {
+        final LocalDate today = LocalDate.of(2020, 1, 31);
+        Timekeeper.from(Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+
+        final Sample<Period> sample = from(period(Period.of(1, 6, 0))).sample(10_000);
+
+        assertThat(sample.unique()).allMatch(period -> !period.isNegative()
+                && period.getMonths() < 12
+                && !today.plus(period).isAfter(today.plus(Period.of(1, 6, 0))));
+        assertThat(sample.unique()).contains(Period.ZERO, Period.ofYears(1));
+    }
+
+    @Test
+    public void fillsLengthsInDays() {
+        final long[] days = new long[1000];
+
+        period(Period.ofDays(3)).fillDays(days);
+
+        for (final long day : days) {
+            assertThat(day).isBetween(0L, 3L);
+        }
+    }
+
+    @Test
+    public void maximumCannotBeNegative() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("maximum period cannot be negative");
+
+        period(Period.ofDays(-1));
+    }
+}
@@ -0,0 +1,58 @@
+package uk.org.fyodor.generators.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import uk.org.fyodor.Sampler.Sample;
+import uk.org.fyodor.range.Range;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.*;
+import static uk.org.fyodor.generators.RDG.yearMonth;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class YearMonthGeneratorTest {
+
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void closedRangeOfYearMonthsIsInclusiveAcrossYears() {
+        final YearMonth min = YearMonth.of(1969, 11);
+        final YearMonth max = YearMonth.of(1970, 2);
+
+        final Sample<YearMonth> sample = from(yearMonth(closed(min, max))).sample(1000);
+
+        assertThat(sample.unique()).containsOnly(
+                YearMonth.of(1969, 11), YearMonth.of(1969, 12), YearMonth.of(1970, 1), YearMonth.of(1970, 2));
+    }
+
+    @Test
+    public void generatesYearMonthsAcrossTheWholeRangeOfYears() {
+        final Sample<YearMonth> sample = from(yearMonth()).sample(1000);
+
+        assertThat(smallest(sample).getYear()).isLessThan(-900_000_000);
+        assertThat(largest(sample).getYear()).isGreaterThan(900_000_000);
+    }
+
+    @Test
+    public void fillsMonthsSinceTheEpoch() {
+        final long[] epochMonths = new long[1000];
+
+        yearMonth(closed(YearMonth.of(1969, 12), YearMonth.of(1970, 1))).fillEpochMonths(epochMonths);
+
+        for (final long epochMonth : epochMonths) {
+            assertThat(epochMonth).isBetween(-1L, 0L);
+        }
+    }
+
+    @Test
+    public void rangeCannotBeNull() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("year month range cannot be null");
+
+        yearMonth((Range<YearMonth>) null);
+    }
+}
@@ -0,0 +1,162 @@
+package uk.org.fyodor.generators.unique;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.generators.RDG;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class UniqueFilterGeneratorTest extends BaseTest {
+
+    @Test
+    public void valuesAreNeverRepeated() {
+        final UniqueFilterGenerator<Integer> generator = RDG.unique(RDG.integer(closed(0, 200_000)), 100_000, 0.01);
+
+        final Set<Integer> values = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(values.add(generator.next())).isTrue();
+        }
+        assertThat(generator.generated()).isEqualTo(100_000);
+        assertThat(generator.retries()).isGreaterThan(0);
+    }
+
+    @Test
+    public void textValuesAreNeverRepeated() {
+        final UniqueFilterGenerator<String> generator = RDG.unique(RDG.postcode(), 20_000, 0.001);
+
+        final Set<String> postcodes = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(postcodes.add(generator.next())).isTrue();
+        }
+    }
+
+    @Test
+    public void falsePositivesStayNearTheRequestedRate() {
+        final AtomicLong counter = new AtomicLong();
+        final Generator<Long> distinct = counter::getAndIncrement;
+        final UniqueFilterGenerator<Long> generator = RDG.unique(distinct, 200_000, 0.01);
+
+        for (int i = 0; i < 200_000; i++) {
+            generator.next();
+        }
+
+        assertThat(generator.retries() / 200_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    public void failsFastWhenTheValuesRunOut() {
+        final UniqueFilterGenerator<Integer> generator = RDG.unique(RDG.integer(closed(1, 100)), 1000, 0.01);
+
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 101; i++) {
+                generator.next();
+            }
+        }).isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("unable to generate a unique value because more than 95% of the recent values were duplicates")
+                .hasMessageContaining("the value space is exhausted");
+
+        assertThat(generator.generated()).isLessThanOrEqualTo(100);
+        assertThat(generator.retries()).isLessThan(2000);
+        assertThat(generator.recentDuplicateRate()).isGreaterThan(0.95);
+    }
+
+    @Test
+    public void failsFastWhenTheFilterIsOverCapacity() {
+        final AtomicLong counter = new AtomicLong();
+        final Generator<Long> distinct = counter::getAndIncrement;
+        final UniqueFilterGenerator<Long> generator = RDG.unique(distinct, 100, 0.01);
+
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                generator.next();
+            }
+        }).isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("the filter is over capacity")
+                .hasMessageContaining("when it was sized for 100");
+
+        assertThat(generator.generated()).isGreaterThan(100);
+    }
+
+    @Test
+    public void wholeNumbersAreToldApartByTheirValueRatherThanTheirHashCode() {
+        final AtomicLong counter = new AtomicLong();
+        final Generator<Long> sameHashCodes = () -> {
+            final long value = counter.getAndIncrement();
+            return value << 32 | value;
+        };
+        final UniqueFilterGenerator<Long> generator = RDG.unique(sameHashCodes, 10_000, 0.001);
+
+        for (int i = 0; i < 10_000; i++) {
+            generator.next();
+        }
+
+        assertThat(generator.retries()).isLessThan(100);
+    }
+
+    @Test
+    public void fingerprintTellsApartValuesWithEqualHashCodes() {
+        final AtomicLong counter = new AtomicLong();
+        final Generator<Map.Entry<Long, Long>> sameHashCodes = () -> {
+            final long value = counter.getAndIncrement();
+            return new SimpleEntry<>(value, value);
+        };
+
+        assertThatThrownBy(() -> {
+            final UniqueFilterGenerator<Map.Entry<Long, Long>> byHashCode = RDG.unique(sameHashCodes, 10_000, 0.001);
+            for (int i = 0; i < 10_000; i++) {
+                byHashCode.next();
+            }
+        }).isInstanceOf(IllegalStateException.class);
+
+        final UniqueFilterGenerator<Map.Entry<Long, Long>> byKey = RDG.unique(sameHashCodes, Map.Entry::getKey, 10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            byKey.next();
+        }
+        assertThat(byKey.generated()).isEqualTo(10_000);
+        assertThat(byKey.retries()).isLessThan(100);
+    }
+
+    @Test
+    public void fingerprintCannotBeNull() {
+        assertThatThrownBy(() -> RDG.unique(RDG.postcode(), null, 10, 0.01))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("fingerprint cannot be null");
+    }
+
+    @Test
+    public void generatorCannotBeNull() {
+        assertThatThrownBy(() -> RDG.unique(null, 10, 0.01))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("generator cannot be null");
+    }
+
+    @Test
+    public void expectedCountMustBeGreaterThanZero() {
+        assertThatThrownBy(() -> RDG.unique(RDG.postcode(), 0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected count must be greater than zero");
+    }
+
+    @Test
+    public void falsePositiveRateMustBeBetweenZeroAndOne() {
+        assertThatThrownBy(() -> RDG.unique(RDG.postcode(), 10, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("false positive rate must be between 0 and 1");
+    }
+
+    @Test
+    public void filterCannotBeLargerThanTwoGigabytes() {
+        assertThatThrownBy(() -> RDG.unique(RDG.postcode(), 10_000_000_000L, 0.01))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("expected count and false positive rate need a filter larger than 2GB");
+    }
+}
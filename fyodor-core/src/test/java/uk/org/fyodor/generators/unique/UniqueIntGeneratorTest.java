@@ -0,0 +1,49 @@
+package uk.org.fyodor.generators.unique;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.RDG;
+
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class UniqueIntGeneratorTest extends BaseTest {
+
+    @Test
+    public void everyValueInTheRangeIsGeneratedOnce() {
+        final UniqueIntGenerator generator = RDG.uniqueIntegers(closed(-10, 10));
+
+        final Set<Integer> values = generator.intStream(21).boxed().collect(toSet());
+
+        assertThat(values).hasSize(21).allMatch(value -> value >= -10 && value <= 10);
+        assertThatThrownBy(generator::nextInt)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("all 21 values in the range have been generated");
+    }
+
+    @Test
+    public void wholeRangeOfIntegers() {
+        final UniqueIntGenerator generator = RDG.uniqueIntegers(closed(Integer.MIN_VALUE, Integer.MAX_VALUE));
+
+        final Set<Integer> values = generator.parallelIntStream(100_000).boxed().collect(toSet());
+
+        assertThat(values).hasSize(100_000);
+        assertThat(values.stream().anyMatch(value -> value < 0)).isTrue();
+        assertThat(values.stream().anyMatch(value -> value > 0)).isTrue();
+    }
+
+    @Test
+    public void valuesCanBeReadByIndex() {
+        final UniqueIntGenerator generator = RDG.uniqueIntegers(closed(0, 1000));
+
+        final int third = generator.get(2);
+        generator.nextInt();
+        generator.nextInt();
+
+        assertThat(generator.nextInt()).isEqualTo(third);
+    }
+}
@@ -0,0 +1,138 @@
+package uk.org.fyodor.generators.unique;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.RDG;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.org.fyodor.range.Range.closed;
+
+public final class UniqueLongGeneratorTest extends BaseTest {
+
+    @Test
+    public void everyValueInTheRangeIsGeneratedOnce() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(-500L, 1500L));
+
+        final Set<Long> values = new HashSet<>();
+        for (int i = 0; i < 2001; i++) {
+            assertThat(values.add(generator.nextLong())).isTrue();
+        }
+        assertThat(values).hasSize(2001).allMatch(value -> value >= -500 && value <= 1500);
+    }
+
+    @Test
+    public void valuesAreNotInOrder() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(0L, 1_000_000L));
+
+        int ascending = 0;
+        long previous = generator.nextLong();
+        for (int i = 0; i < 1000; i++) {
+            final long next = generator.nextLong();
+            if (next > previous) {
+                ascending++;
+            }
+            previous = next;
+        }
+        assertThat(ascending).isBetween(400, 600);
+    }
+
+    @Test
+    public void generatorIsExhaustedOnceEveryValueHasBeenGenerated() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(1L, 3L));
+        generator.nextLong();
+        generator.nextLong();
+        generator.nextLong();
+
+        assertThatThrownBy(generator::nextLong)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("all 3 values in the range have been generated");
+    }
+
+    @Test
+    public void singleValueRange() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(42L, 42L));
+
+        assertThat(generator.nextLong()).isEqualTo(42L);
+        assertThatThrownBy(generator::nextLong).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void valuesCanBeReadByIndex() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(0L, 99_999L));
+
+        final long[] byIndex = new long[100];
+        for (int i = 0; i < byIndex.length; i++) {
+            byIndex[i] = generator.get(i);
+        }
+        for (final long value : byIndex) {
+            assertThat(generator.nextLong()).isEqualTo(value);
+        }
+    }
+
+    @Test
+    public void indexMustBeWithinTheRange() {
+        assertThatThrownBy(() -> RDG.uniqueLongs(closed(0L, 9L)).get(10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("index must be between 0 and 9");
+    }
+
+    @Test
+    public void wholeRangeOfLongs() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        assertThat(generator.longStream(100_000).boxed().collect(toSet())).hasSize(100_000);
+        assertThat(generator.get(-1)).isNotNull();
+    }
+
+    @Test
+    public void parallelStreamGeneratesEveryValueOnce() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(0L, 199_999L));
+
+        final Set<Long> values = generator.parallelLongStream(200_000).boxed().collect(toSet());
+
+        assertThat(values).hasSize(200_000);
+        assertThatThrownBy(generator::nextLong).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void parallelStreamIsTheSameAsReadingByIndex() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(0L, 1_000_000L));
+
+        final long[] values = generator.parallelLongStream(10_000).toArray();
+        for (int i = 0; i < values.length; i++) {
+            assertThat(values[i]).isEqualTo(generator.get(i));
+        }
+    }
+
+    @Test
+    public void streamWithoutASizeGeneratesTheRemainingValues() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(1L, 1000L));
+        final long first = generator.nextLong();
+
+        final Set<Long> rest = generator.longStream().boxed().collect(toSet());
+
+        assertThat(rest).hasSize(999).doesNotContain(first);
+    }
+
+    @Test
+    public void streamCannotAskForMoreThanRemain() {
+        final UniqueLongGenerator generator = RDG.uniqueLongs(closed(1L, 10L));
+
+        assertThatThrownBy(() -> generator.longStream(11))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("all 10 values in the range have been generated");
+        assertThat(generator.longStream(10).count()).isEqualTo(10);
+    }
+
+    @Test
+    public void rangeCannotBeNull() {
+        assertThatThrownBy(() -> RDG.uniqueLongs(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("range cannot be null");
+    }
+}
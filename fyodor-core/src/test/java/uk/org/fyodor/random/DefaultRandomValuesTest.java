@@ -5,8 +5,12 @@ import uk.org.fyodor.BaseTest;
 import uk.org.fyodor.generators.Generator;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.util.Random;
 
+import static java.util.Arrays.stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static uk.org.fyodor.Sampler.from;
 
@@ -119,16 +123,8 @@ public final class DefaultRandomValuesTest extends BaseTest {
 
     @Test
     public void returnsUpperBoundOfRandomDoubleWithScale() {
-        final RandomValues randomValues = new DefaultRandomValues(new Random() {
-            @Override
-            public double nextDouble() {
-                return 0.99999999999999;
-            }
-        });
-        final double actualValue = randomValues.randomDouble(0.0, 100.0, 2);
-        assertThat(actualValue)
-                .isEqualTo(100.00);
-
+        assertThat(from(randomDoubles(randomValues, 0.0, 0.02, 2)).sample(1000).unique())
+                .containsOnly(0.0, 0.01, 0.02);
     }
 
     @Test
@@ -146,37 +142,46 @@ public final class DefaultRandomValuesTest extends BaseTest {
     }
 
     @Test
-    public void doubleScaledToZeroDpIsRoundedDownAndDoesNotExceedTheUpperBound() {
-        final double nextDouble = 0.99999999;
-        final RandomValues randomValues = new DefaultRandomValues(new Random() {
-            @Override
-            public double nextDouble() {
-                return nextDouble;
-            }
-        });
-
-        final double actualValue = randomValues.randomDouble(0, 1.99, 0);
+    public void doubleScaledToZeroDpDoesNotExceedTheUpperBound() {
+        assertThat(from(randomDoubles(randomValues, 0, 1.99, 0)).sample(1000).unique())
+                .describedAs("When scaled to 0dp only 0 and 1 lie within 0 and 1.99")
+                .containsOnly(0.0, 1.0);
+    }
 
-        assertThat(actualValue)
-                .describedAs("When scaled the value 1.99 should be rounded down to 1.0 rather than up to 2.0 to avoid exceeding the upper bound")
-                .isEqualTo(1.0);
+    @Test
+    public void scaledDoublesAreTheClosestDoubleToTheirDecimal() {
+        for (final double value : from(randomDoubles(randomValues, 0.1, 0.3, 2)).sample(1000).unique()) {
+            assertThat(value).isEqualTo(BigDecimal.valueOf(value).setScale(2, RoundingMode.UNNECESSARY).doubleValue());
+            assertThat(value).isBetween(0.1, 0.3);
+        }
     }
 
     @Test
-    public void doubleScaledToZeroDpIsRoundedUpWhenItWillNotExceedTheUpperBound() {
-        final double nextDouble = 0.5;
-        final RandomValues randomValues = new DefaultRandomValues(new Random() {
-            @Override
-            public double nextDouble() {
-                return nextDouble;
-            }
-        });
+    public void scaledDoublesAreUniformAcrossTheDecimalsOfTheScale() {
+        final double[] doubles = new double[100_000];
+        randomValues.fillDoubles(doubles, 0.0, 0.09, 2);
+
+        final long zeros = stream(doubles).filter(d -> d == 0.0).count();
+        final long nines = stream(doubles).filter(d -> d == 0.09).count();
+        assertThat(zeros).isBetween(9_000L, 11_000L);
+        assertThat(nines).isBetween(9_000L, 11_000L);
+    }
 
-        final double actualValue = randomValues.randomDouble(0, 1.99, 0);
+    @Test
+    public void scaledDoublesFallBackToRoundingWhenNoDecimalOfTheScaleIsInRange() {
+        assertThat(randomValues.randomDouble(1.234, 1.234, 2)).isEqualTo(1.23);
+    }
 
-        assertThat(actualValue)
-                .describedAs("When scaled the value 0.995 should be rounded up to 1 as it will not exceed the upper bound")
-                .isEqualTo(1);
+    @Test
+    public void returnsBigIntegersBetweenBoundsWiderThanALong() {
+        final BigInteger lower = BigInteger.valueOf(Long.MIN_VALUE).multiply(BigInteger.TEN);
+        final BigInteger upper = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(randomValues.randomBigInteger(lower, upper)).isBetween(lower, upper);
+        }
+        assertThat(randomValues.randomBigInteger(BigInteger.ONE, BigInteger.valueOf(3))).isBetween(BigInteger.ONE, BigInteger.valueOf(3));
+        assertThat(randomValues.randomBigInteger(upper, upper)).isEqualTo(upper);
     }
 
     @Test
@@ -211,6 +216,102 @@ public final class DefaultRandomValuesTest extends BaseTest {
         randomValues.randomDouble(1.0, 0.0, anyScale);
     }
 
+    @Test
+    public void fillsIntegersWithinInclusiveBounds() {
+        final int[] ints = new int[10000];
+        randomValues.fillIntegers(ints, -3, 3);
+
+        assertThat(ints).containsOnly(-3, -2, -1, 0, 1, 2, 3);
+    }
+
+    @Test
+    public void fillsIntegersAcrossTheFullAndNearFullRanges() {
+        final int[] ints = new int[1000];
+
+        randomValues.fillIntegers(ints, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertThat(stream(ints).distinct().count()).isGreaterThan(900);
+
+        randomValues.fillIntegers(ints, Integer.MIN_VALUE + 1, Integer.MAX_VALUE);
+        assertThat(stream(ints).min().getAsInt()).isGreaterThan(Integer.MIN_VALUE);
+    }
+
+    @Test
+    public void fillsLongsWithinInclusiveBounds() {
+        final long[] longs = new long[10000];
+
+        randomValues.fillLongs(longs, Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        assertThat(longs).containsOnly(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+
+        randomValues.fillLongs(longs, Long.MIN_VALUE + 1, Long.MAX_VALUE);
+        assertThat(stream(longs).min().getAsLong()).isGreaterThan(Long.MIN_VALUE);
+
+        randomValues.fillLongs(longs, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertThat(stream(longs).distinct().count()).isGreaterThan(9000);
+    }
+
+    @Test
+    public void fillsWithASingleValueWhenLowerAndUpperBoundAreEqual() {
+        final int[] ints = new int[100];
+        randomValues.fillIntegers(ints, 7, 7);
+        assertThat(ints).containsOnly(7);
+
+        final long[] longs = new long[100];
+        randomValues.fillLongs(longs, Long.MIN_VALUE, Long.MIN_VALUE);
+        assertThat(longs).containsOnly(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void fillsDoublesWithinBoundsAndToTheGivenScale() {
+        final double[] doubles = new double[1000];
+
+        randomValues.fillDoubles(doubles, -1.0, 1.0);
+        assertThat(stream(doubles).allMatch(d -> d >= -1.0 && d <= 1.0)).isTrue();
+
+        randomValues.fillDoubles(doubles, 0.0, 10.0, 2);
+        assertThat(stream(doubles).allMatch(d -> d >= 0.0 && d <= 10.0 && scale(d) <= 2)).isTrue();
+    }
+
+    @Test
+    public void fillsTheRemainingBytesOfABuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(1003);
+        buffer.position(2);
+
+        randomValues.fillBytes(buffer);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        assertThat(buffer.get(0)).isZero();
+        assertThat(buffer.get(1)).isZero();
+    }
+
+    @Test
+    public void bulkFillsMatchSingleValuesForTheSameSeed() {
+        for (final RandomEngines engine : RandomEngines.values()) {
+            final RandomValues bulk = new DefaultRandomValues(engine.create(42));
+            final RandomValues single = new DefaultRandomValues(engine.create(42));
+
+            final int[] ints = new int[100];
+            bulk.fillIntegers(ints, 0, 99);
+            for (final int i : ints) {
+                assertThat(i).as(engine.name()).isEqualTo(single.randomInteger(0, 99));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotFillANullDestination() {
+        randomValues.fillIntegers(null, 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotFillWhenLowerBoundIsGreaterThanUpperBound() {
+        randomValues.fillLongs(new long[1], 1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotFillDoublesWithANegativeScale() {
+        randomValues.fillDoubles(new double[1], 0.0, 1.0, -1);
+    }
+
     private static int scale(final double actualValue) {
         return BigDecimal.valueOf(actualValue).scale();
     }
@@ -227,6 +328,10 @@ public final class DefaultRandomValuesTest extends BaseTest {
         return () -> randomValues.randomInteger(0, maximum);
     }
 
+    private static Generator<Double> randomDoubles(final RandomValues randomValues, final double lower, final double upper, final int scale) {
+        return () -> randomValues.randomDouble(lower, upper, scale);
+    }
+
     private static Generator<Double> randomDoubles(final RandomValues randomValues, final double lower, final double upper) {
         return () -> randomValues.randomDouble(lower, upper);
     }
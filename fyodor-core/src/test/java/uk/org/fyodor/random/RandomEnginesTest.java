@@ -0,0 +1,120 @@
+package uk.org.fyodor.random;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.Generator;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
+
+public final class RandomEnginesTest extends BaseTest {
+
+    @Test
+    public void everyEngineGeneratesTheSameSequenceForTheSameSeed() {
+        final long seed = new Random().nextLong();
+        for (final RandomEngines engines : RandomEngines.values()) {
+            assertThat(from(longs(engines.create(seed))).sample(100))
+                    .describedAs(engines.name())
+                    .isEqualTo(from(longs(engines.create(seed))).sample(100));
+        }
+    }
+
+    @Test
+    public void everyEngineGeneratesADifferentSequenceForDifferentSeeds() {
+        for (final RandomEngines engines : RandomEngines.values()) {
+            assertThat(from(longs(engines.create(1))).sample(100))
+                    .describedAs(engines.name())
+                    .isNotEqualTo(from(longs(engines.create(2))).sample(100));
+        }
+    }
+
+    @Test
+    public void reseedingAnEngineRestartsItsSequence() {
+        for (final RandomEngines engines : RandomEngines.values()) {
+            final RandomEngine engine = engines.create(42);
+            final List<Long> first = from(longs(engine)).sample(100).asList();
+
+            engine.seed(42);
+
+            assertThat(from(longs(engine)).sample(100).asList())
+                    .describedAs(engines.name())
+                    .isEqualTo(first);
+        }
+    }
+
+    @Test
+    public void javaUtilRandomEngineMatchesJavaUtilRandom() {
+        final long seed = new Random().nextLong();
+        final Random random = new Random(seed);
+        final RandomEngine engine = RandomEngines.JavaUtilRandom.create(seed);
+        for (int i = 0; i < 100; i++) {
+            assertThat(engine.nextInt(1000)).isEqualTo(random.nextInt(1000));
+            assertThat(engine.nextBoolean()).isEqualTo(random.nextBoolean());
+        }
+    }
+
+    @Test
+    public void splitMix64MatchesReferenceImplementation() {
+        final RandomEngine engine = RandomEngines.SplitMix64.create(1234567);
+        assertThat(engine.nextLong()).isEqualTo(6457827717110365317L);
+        assertThat(engine.nextLong()).isEqualTo(3203168211198807973L);
+    }
+
+    @Test
+    public void boundedIntegersAreWithinTheBoundAndCoverIt() {
+        for (final RandomEngines engines : RandomEngines.values()) {
+            final RandomEngine engine = engines.create(new Random().nextLong());
+            assertThat(from(() -> engine.nextInt(10)).sample(1000).unique())
+                    .describedAs(engines.name())
+                    .containsOnly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        }
+    }
+
+    @Test
+    public void doublesAreBetweenZeroInclusiveAndOneExclusive() {
+        for (final RandomEngines engines : RandomEngines.values()) {
+            final RandomEngine engine = engines.create(new Random().nextLong());
+            assertThat(from(engine::nextDouble).sample(1000))
+                    .describedAs(engines.name())
+                    .allMatch(d -> d >= 0.0 && d < 1.0);
+        }
+    }
+
+    @Test
+    public void fillsEveryRequestedByte() {
+        final RandomEngine engine = RandomEngines.SplitMix64.create(1);
+        final byte[] bytes = new byte[13];
+        engine.nextBytes(bytes);
+        assertThat(bytes[12]).isNotEqualTo((byte) 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void boundMustBePositive() {
+        RandomEngines.Xoshiro256StarStar.create(1).nextInt(0);
+    }
+
+    @Test
+    public void jdkRandomGeneratorIsReproducibleWhenAvailable() {
+        final RandomEngine.Factory factory;
+        try {
+            factory = RandomEngines.jdk("L64X128MixRandom");
+        } catch (final IllegalStateException e) {
+            return;
+        }
+
+        assertThat(from(longs(factory.create(7))).sample(100))
+                .isEqualTo(from(longs(factory.create(7))).sample(100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void jdkAlgorithmCannotBeNull() {
+        RandomEngines.jdk(null);
+    }
+
+    private static Generator<Long> longs(final RandomEngine engine) {
+        return engine::nextLong;
+    }
+}
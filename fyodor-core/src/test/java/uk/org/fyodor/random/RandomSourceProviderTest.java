@@ -4,12 +4,17 @@ import org.junit.Test;
 import uk.org.fyodor.BaseTest;
 import uk.org.fyodor.generators.Generator;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static uk.org.fyodor.Sampler.Sample;
@@ -100,6 +105,128 @@ public final class RandomSourceProviderTest extends BaseTest {
         assertThat(holder.sampleBefore.asList()).isNotEqualTo(holder.sampleAfter.asList());
     }
 
+    @Test
+    public void seedIsReproducibleForTheSelectedEngine() {
+        final long seed = new Random().nextLong();
+        final RandomEngine.Factory initialEngine = RandomSourceProvider.seed().engineFactory();
+        try {
+            RandomSourceProvider.seed().engine(RandomEngines.Xoshiro256StarStar);
+            RandomSourceProvider.seed().next(seed);
+
+            final RandomEngine expected = RandomEngines.Xoshiro256StarStar.create(seed);
+            final List<Boolean> expectedBooleans = new LinkedList<>();
+            for (int i = 0; i < 100; i++) {
+                expectedBooleans.add(expected.nextBoolean());
+            }
+
+            assertThat(from(randomValuesNextBoolean()).sample(100))
+                    .containsExactlyElementsOf(expectedBooleans);
+        } finally {
+            RandomSourceProvider.seed().previous();
+            RandomSourceProvider.seed().engine(initialEngine);
+        }
+    }
+
+    @Test
+    public void sourceOfRandomnessIsSharedRatherThanAllocatedPerCall() {
+        assertThat(RandomSourceProvider.sourceOfRandomness())
+                .isSameAs(RandomSourceProvider.sourceOfRandomness());
+    }
+
+    @Test
+    public void sourceOfRandomnessObtainedOnOneThreadUsesTheSeedOfTheCallingThread() throws Exception {
+        final RandomValues sourceOfRandomness = RandomSourceProvider.sourceOfRandomness();
+        final long seed = new Random().nextLong();
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final List<Boolean> booleans = executorService.submit(() -> {
+                RandomSourceProvider.seed().next(seed);
+                return from(sourceOfRandomness::randomBoolean).sample(100).asList();
+            }).get();
+
+            assertThat(booleans).isEqualTo(expectedBooleansFor(seed));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void selectingAnEngineAppliesToSourcesObtainedBeforehand() {
+        final RandomValues sourceOfRandomness = RandomSourceProvider.sourceOfRandomness();
+        final long seed = new Random().nextLong();
+        final RandomEngine.Factory initialEngine = RandomSourceProvider.seed().engineFactory();
+        try {
+            RandomSourceProvider.seed().next(seed);
+            RandomSourceProvider.seed().engine(RandomEngines.SplitMix64);
+
+            final RandomEngine expected = RandomEngines.SplitMix64.create(seed);
+            for (int i = 0; i < 100; i++) {
+                assertThat(sourceOfRandomness.randomBoolean()).isEqualTo(expected.nextBoolean());
+            }
+        } finally {
+            RandomSourceProvider.seed().engine(initialEngine);
+            RandomSourceProvider.seed().previous();
+        }
+    }
+
+    @Test
+    public void defaultSeedsAreUniqueForThreadsStartedTogether() throws Exception {
+        final int numberOfThreads = 64;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            final List<Future<Long>> seeds = new ArrayList<>();
+            for (int i = 0; i < numberOfThreads; i++) {
+                seeds.add(executorService.submit(() -> {
+                    start.await();
+                    return RandomSourceProvider.seed().current();
+                }));
+            }
+            start.countDown();
+
+            final Set<Long> uniqueSeeds = new HashSet<>();
+            for (final Future<Long> seed : seeds) {
+                uniqueSeeds.add(seed.get());
+            }
+            assertThat(uniqueSeeds).hasSize(numberOfThreads);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void seedsCanBeNestedDeeply() {
+        final long initialSeed = RandomSourceProvider.seed().current();
+
+        for (long seed = 0; seed < 100; seed++) {
+            RandomSourceProvider.seed().next(seed);
+        }
+        for (long seed = 99; seed >= 0; seed--) {
+            assertThat(RandomSourceProvider.seed().current()).isEqualTo(seed);
+            RandomSourceProvider.seed().previous();
+        }
+
+        assertThat(RandomSourceProvider.seed().current()).isEqualTo(initialSeed);
+    }
+
+    @Test
+    public void revertingTheSeedRevertsTheEngineSelectedForIt() {
+        final RandomEngine.Factory initialEngine = RandomSourceProvider.seed().engineFactory();
+
+        RandomSourceProvider.seed().next(1);
+        RandomSourceProvider.seed().engine(RandomEngines.SplittableRandom);
+        assertThat(RandomSourceProvider.seed().engineFactory()).isSameAs(RandomEngines.SplittableRandom);
+
+        RandomSourceProvider.seed().previous();
+        assertThat(RandomSourceProvider.seed().engineFactory()).isSameAs(initialEngine);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void engineCannotBeNull() {
+        RandomSourceProvider.seed().engine(null);
+    }
+
     private static List<Boolean> expectedBooleansFor(final long seed) {
         final Random random = new Random(seed);
         final List<Boolean> booleans = new LinkedList<>();
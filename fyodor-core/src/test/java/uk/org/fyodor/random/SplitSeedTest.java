@@ -0,0 +1,150 @@
+package uk.org.fyodor.random;
+
+import org.junit.Test;
+import uk.org.fyodor.BaseTest;
+import uk.org.fyodor.generators.Generator;
+import uk.org.fyodor.generators.RDG;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.org.fyodor.Sampler.from;
+
+public final class SplitSeedTest extends BaseTest {
+
+    @Test
+    public void childSeedsAreDerivedDeterministicallyFromTheMasterSeed() {
+        final SplitSeed split = new SplitSeed(42, RandomEngines.JavaUtilRandom);
+
+        assertThat(split.childSeed(7)).isEqualTo(new SplitSeed(42, RandomEngines.JavaUtilRandom).childSeed(7));
+        assertThat(split.child(1).child(2)).isEqualTo(new SplitSeed(42, RandomEngines.JavaUtilRandom).child(1).child(2));
+    }
+
+    @Test
+    public void childSeedsDifferByIndexAndByMasterSeed() {
+        final SplitSeed split = new SplitSeed(42, RandomEngines.JavaUtilRandom);
+
+        assertThat(split.childSeed(0)).isNotEqualTo(split.childSeed(1));
+        assertThat(split.childSeed(0)).isNotEqualTo(split.seed());
+        assertThat(split.childSeed(0)).isNotEqualTo(new SplitSeed(43, RandomEngines.JavaUtilRandom).childSeed(0));
+        assertThat(split.child(0).child(1)).isNotEqualTo(split.child(1).child(0));
+    }
+
+    @Test
+    public void splitCapturesTheCurrentSeed() {
+        final long seed = new Random().nextLong();
+        RandomSourceProvider.seed().next(seed);
+        try {
+            assertThat(RandomSourceProvider.seed().split().seed()).isEqualTo(seed);
+        } finally {
+            RandomSourceProvider.seed().previous();
+        }
+    }
+
+    @Test
+    public void taskRunsWithTheChildSeedAndTheSeedIsRevertedAfterwards() {
+        final long initialSeed = RandomSourceProvider.seed().current();
+        final SplitSeed split = new SplitSeed(42, RandomEngines.JavaUtilRandom);
+
+        final long seedDuringTask = split.get(3, () -> RandomSourceProvider.seed().current());
+
+        assertThat(seedDuringTask).isEqualTo(split.childSeed(3));
+        assertThat(RandomSourceProvider.seed().current()).isEqualTo(initialSeed);
+    }
+
+    @Test
+    public void taskRunsWithTheEngineOfTheMasterSeedAndTheEngineIsRevertedAfterwards() {
+        final RandomEngine.Factory initialEngine = RandomSourceProvider.seed().engineFactory();
+        final SplitSeed split = new SplitSeed(42, RandomEngines.Xoshiro256StarStar);
+
+        final RandomEngine expected = RandomEngines.Xoshiro256StarStar.create(split.childSeed(0));
+        final boolean[] booleans = split.get(0, () -> {
+            final boolean[] bs = new boolean[100];
+            for (int i = 0; i < bs.length; i++) {
+                bs[i] = RandomSourceProvider.sourceOfRandomness().randomBoolean();
+            }
+            return bs;
+        });
+
+        for (final boolean b : booleans) {
+            assertThat(b).isEqualTo(expected.nextBoolean());
+        }
+        assertThat(RandomSourceProvider.seed().engineFactory()).isSameAs(initialEngine);
+    }
+
+    @Test
+    public void taskDoesNotDisturbTheSequenceOfTheCallingThread() {
+        final long seed = new Random().nextLong();
+        final RandomValues randomValues = RandomSourceProvider.sourceOfRandomness();
+        RandomSourceProvider.seed().next(seed);
+        try {
+            final Random expected = new Random(seed);
+            for (int i = 0; i < 10; i++) {
+                new SplitSeed(42, RandomEngines.JavaUtilRandom).run(i, randomValues::randomBoolean);
+                assertThat(randomValues.randomBoolean()).isEqualTo(expected.nextBoolean());
+            }
+        } finally {
+            RandomSourceProvider.seed().previous();
+        }
+    }
+
+    @Test
+    public void seedIsRevertedWhenTaskFails() {
+        final long initialSeed = RandomSourceProvider.seed().current();
+        try {
+            new SplitSeed(42, RandomEngines.JavaUtilRandom).run(0, () -> {
+                throw new IllegalStateException("task failed");
+            });
+        } catch (final IllegalStateException expected) {
+            assertThat(RandomSourceProvider.seed().current()).isEqualTo(initialSeed);
+            return;
+        }
+        throw new AssertionError("task should have failed");
+    }
+
+    @Test
+    public void partitionsGeneratedInParallelAreIdenticalToASingleThreadedRun() throws Exception {
+        RandomSourceProvider.seed().next(new Random().nextLong());
+        final SplitSeed split;
+        try {
+            split = RandomSourceProvider.seed().split();
+        } finally {
+            RandomSourceProvider.seed().previous();
+        }
+
+        final Generator<String> generator = RDG.string(10);
+        final int partitions = 16;
+
+        final List<List<String>> singleThreaded = new ArrayList<>();
+        for (int p = 0; p < partitions; p++) {
+            singleThreaded.add(split.get(p, () -> from(generator).sample(1000).asList()));
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<String>>> futures = new ArrayList<>();
+            for (int p = partitions - 1; p >= 0; p--) {
+                final int partition = p;
+                futures.add(0, executorService.submit(() -> split.get(partition, () -> from(generator).sample(1000).asList())));
+            }
+
+            final List<List<String>> parallel = new ArrayList<>();
+            for (final Future<List<String>> future : futures) {
+                parallel.add(future.get());
+            }
+            assertThat(parallel).isEqualTo(singleThreaded);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void taskCannotBeNull() {
+        new SplitSeed(42, RandomEngines.JavaUtilRandom).run(0, null);
+    }
+}